@@ -0,0 +1,69 @@
+package pl.jalokim.propertiestojson;
+
+import pl.jalokim.propertiestojson.object.ObjectJsonType;
+import pl.jalokim.propertiestojson.path.PathMetadata;
+
+import java.util.Arrays;
+
+/**
+ * It remembers json objects which were opened during traverse for previous property key.
+ * Next property key is traversed from the longest common prefix with previous property key, not from root json object.
+ * For keys in sorted order every json object is found in tree only once, not once for every property key.
+ * One cursor can be used only during one conversion, for one root json object.
+ */
+public class JsonObjectsTraverseCursor {
+
+    private static final int INIT_DEPTH = 16;
+
+    private String[] openedFields = new String[INIT_DEPTH];
+    private ObjectJsonType[] openedObjects = new ObjectJsonType[INIT_DEPTH + 1];
+    private int openedCount;
+
+    public JsonObjectsTraverseCursor(ObjectJsonType rootObjectJsonType) {
+        openedObjects[0] = rootObjectJsonType;
+    }
+
+    /**
+     * It returns count of not leaf fields from begin of given path which were already traversed for previous property key.
+     *
+     * @param rootPathMetaData root of path for current property key
+     * @return depth from which traverse should be continued
+     */
+    public int findResumeDepth(PathMetadata rootPathMetaData) {
+        int depth = 0;
+        PathMetadata currentPathMetaData = rootPathMetaData;
+        while(depth < openedCount && !currentPathMetaData.isLeaf()
+                && openedFields[depth].equals(currentPathMetaData.getOriginalFieldName())) {
+            depth++;
+            currentPathMetaData = currentPathMetaData.getChild();
+        }
+        return depth;
+    }
+
+    /**
+     * It returns json object in which field from given depth should be found.
+     *
+     * @param depth depth of field in property key
+     * @return json object opened by previous not leaf field or root json object
+     */
+    public ObjectJsonType getObjectForDepth(int depth) {
+        return openedObjects[depth];
+    }
+
+    /**
+     * It remembers json object opened by not leaf field, all json objects opened deeper for previous property key are forgotten.
+     *
+     * @param depth            depth of field in property key
+     * @param pathMetaData     not leaf field
+     * @param openedObjectJson json object opened by this field
+     */
+    public void open(int depth, PathMetadata pathMetaData, ObjectJsonType openedObjectJson) {
+        if(depth == openedFields.length) {
+            openedFields = Arrays.copyOf(openedFields, depth * 2);
+            openedObjects = Arrays.copyOf(openedObjects, depth * 2 + 1);
+        }
+        openedFields[depth] = pathMetaData.getOriginalFieldName();
+        openedObjects[depth + 1] = openedObjectJson;
+        openedCount = depth + 1;
+    }
+}
@@ -18,14 +18,30 @@ public class JsonObjectsTraverseResolver {
     private String propertyKey;
     private PathMetadata rootPathMetaData;
     private ObjectJsonType currentObjectJsonType;
+    private final JsonObjectsTraverseCursor traverseCursor;
 
     public JsonObjectsTraverseResolver(Map<AlgorithmType, JsonTypeResolver> algorithms,
                                        Map<String, Object> properties, String propertyKey,
                                        PathMetadata rootPathMetaData, ObjectJsonType coreObjectJsonType) {
+        this(algorithms, properties, propertyKey, rootPathMetaData, new JsonObjectsTraverseCursor(coreObjectJsonType));
+    }
+
+    /**
+     * It creates resolver which continues traverse from json objects opened for previous property key.
+     *
+     * @param algorithms       resolvers for every type of field
+     * @param properties       all properties
+     * @param propertyKey      current property key
+     * @param rootPathMetaData root of path for current property key
+     * @param traverseCursor   cursor shared by all property keys during one conversion
+     */
+    public JsonObjectsTraverseResolver(Map<AlgorithmType, JsonTypeResolver> algorithms,
+                                       Map<String, Object> properties, String propertyKey,
+                                       PathMetadata rootPathMetaData, JsonObjectsTraverseCursor traverseCursor) {
         this.properties = properties;
         this.propertyKey = propertyKey;
         this.rootPathMetaData = rootPathMetaData;
-        this.currentObjectJsonType = coreObjectJsonType;
+        this.traverseCursor = traverseCursor;
         this.algorithms = algorithms;
         this.primitiveJsonTypesResolver = (PrimitiveJsonTypesResolver) algorithms.get(AlgorithmType.PRIMITIVE);
     }
@@ -45,10 +61,20 @@ public class JsonObjectsTraverseResolver {
         }
         rootPathMetaData.getLeaf().setRawValue(properties.get(propertyKey));
 
+        int depth = traverseCursor.findResumeDepth(rootPathMetaData);
+        for (int skipped = 0; skipped < depth; skipped++) {
+            currentPathMetaData = currentPathMetaData.getChild();
+        }
+        currentObjectJsonType = traverseCursor.getObjectForDepth(depth);
+
         while (currentPathMetaData != null) {
             DataForResolve dataForResolve = new DataForResolve(properties, propertyKey, currentObjectJsonType, currentPathMetaData);
             currentObjectJsonType = algorithms.get(resolveAlgorithm(currentPathMetaData))
                     .traverseOnObjectAndInitByField(dataForResolve);
+            if (!currentPathMetaData.isLeaf()) {
+                traverseCursor.open(depth, currentPathMetaData, currentObjectJsonType);
+            }
+            depth++;
             currentPathMetaData = currentPathMetaData.getChild();
         }
     }
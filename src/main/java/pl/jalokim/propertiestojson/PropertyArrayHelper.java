@@ -5,38 +5,81 @@ import lombok.Getter;
 import java.util.ArrayList;
 import java.util.List;
 
-import static pl.jalokim.propertiestojson.Constants.ARRAY_END_SIGN;
-import static pl.jalokim.propertiestojson.Constants.ARRAY_START_SIGN;
-import static pl.jalokim.propertiestojson.Constants.EMPTY_STRING;
-import static pl.jalokim.propertiestojson.Constants.SIMPLE_ARRAY_DELIMITER;
-import static pl.jalokim.propertiestojson.path.PathMetadata.INDEXES_PATTERN;
+import static pl.jalokim.propertiestojson.path.PropertyKeyLexer.NOT_ARRAY_FIELD;
+import static pl.jalokim.propertiestojson.path.PropertyKeyLexer.findIndexesStart;
+import static pl.jalokim.propertiestojson.path.PropertyKeyLexer.readIndexes;
 
-@Getter
 public class PropertyArrayHelper {
 
-    private List<Integer> dimensionalIndexes;
-    private String arrayFieldName;
+    private final int[] dimensionalIndexes;
+    @Getter
+    private final String arrayFieldName;
 
     public PropertyArrayHelper(String field) {
-        arrayFieldName = getNameFromArray(field);
-        dimensionalIndexes = getIndexesFromArrayField(field);
+        this(field, findIndexesStart(field));
+    }
+
+    /**
+     * It creates helper for array field when position of indexes is already known.
+     *
+     * @param field        array field
+     * @param indexesStart position of first index, result of {@link pl.jalokim.propertiestojson.path.PropertyKeyLexer#findIndexesStart(String)}
+     */
+    public PropertyArrayHelper(String field, int indexesStart) {
+        arrayFieldName = field.substring(0, indexesStart);
+        dimensionalIndexes = readIndexes(field, indexesStart);
+    }
+
+    /**
+     * It returns indexes of array field, returned array is shared and shouldn't be changed.
+     *
+     * @return indexes of all dimensions
+     */
+    public int[] getDimensionalIndexArray() {
+        return dimensionalIndexes;
+    }
+
+    /**
+     * It returns indexes of array field as new list.
+     *
+     * @return indexes of all dimensions
+     * @deprecated use {@link #getDimensionalIndexArray()} which doesn't box indexes
+     */
+    @Deprecated
+    public List<Integer> getDimensionalIndexes() {
+        return toList(dimensionalIndexes);
     }
 
     public static String getNameFromArray(String fieldName) {
-        return fieldName.replaceFirst(INDEXES_PATTERN + "$", EMPTY_STRING);
+        int indexesStart = findIndexesStart(fieldName);
+        return indexesStart == NOT_ARRAY_FIELD ? fieldName : fieldName.substring(0, indexesStart);
     }
 
+    public static int[] getIndexesArrayFromArrayField(String fieldName) {
+        int indexesStart = findIndexesStart(fieldName);
+        if(indexesStart == NOT_ARRAY_FIELD) {
+            throw new NumberFormatException("Field: " + fieldName + " is not array field");
+        }
+        return readIndexes(fieldName, indexesStart);
+    }
+
+    /**
+     * It returns indexes of given array field as list.
+     *
+     * @param fieldName array field
+     * @return indexes of all dimensions
+     * @deprecated use {@link #getIndexesArrayFromArrayField(String)} which doesn't box indexes
+     */
+    @Deprecated
     public static List<Integer> getIndexesFromArrayField(String fieldName) {
-        String indexesAsText = fieldName.replace(getNameFromArray(fieldName), EMPTY_STRING);
-        String[] indexesAsTextArray = indexesAsText
-                .replace(ARRAY_START_SIGN, EMPTY_STRING)
-                .replace(ARRAY_END_SIGN, SIMPLE_ARRAY_DELIMITER)
-                .replaceAll("\\s", EMPTY_STRING)
-                .split(SIMPLE_ARRAY_DELIMITER);
-        List<Integer> indexes = new ArrayList<>();
-        for (String indexAsText : indexesAsTextArray) {
-            indexes.add(Integer.valueOf(indexAsText));
+        return toList(getIndexesArrayFromArrayField(fieldName));
+    }
+
+    private static List<Integer> toList(int[] indexes) {
+        List<Integer> indexesList = new ArrayList<>(indexes.length);
+        for(int index : indexes) {
+            indexesList.add(index);
         }
-        return indexes;
+        return indexesList;
     }
 }
@@ -5,6 +5,10 @@ import com.google.common.collect.Lists;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * By default keys are in order of given properties. Json objects for common prefix of next keys are traversed only once,
+ * so keys with the same prefix next to each other are converted faster, see {@link SortedPropertyKeysOrderResolver}.
+ */
 public class PropertyKeysOrderResolver {
     public List<String> getKeysInExpectedOrder(Map<String, ?> properties) {
         return Lists.newArrayList(properties.keySet());
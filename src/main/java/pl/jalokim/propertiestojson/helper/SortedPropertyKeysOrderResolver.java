@@ -0,0 +1,19 @@
+package pl.jalokim.propertiestojson.helper;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * It sorts keys, so keys with the same prefix are next to each other and json objects for common prefix
+ * are traversed only once. Order of keys decides which property key is reported when properties have conflict.
+ */
+public class SortedPropertyKeysOrderResolver extends PropertyKeysOrderResolver {
+
+    @Override
+    public List<String> getKeysInExpectedOrder(Map<String, ?> properties) {
+        List<String> keys = super.getKeysInExpectedOrder(properties);
+        Collections.sort(keys);
+        return keys;
+    }
+}
@@ -1,19 +1,32 @@
-package pl.jalokim.propertiestojson.object;
-
-/**
- * It represents abstraction for json element.
- */
-public abstract class AbstractJsonType {
-
-    /**
-     * This one simply concatenate to rest of json.
-     * Simply speaking when will not converted then will not create whole json correctly.
-     * @return string for part of json.
-     */
-    public abstract String toStringJson();
-
-    @Override
-    public final String toString() {
-        return toStringJson();
-    }
-}
+package pl.jalokim.propertiestojson.object;
+
+import pl.jalokim.propertiestojson.writer.JsonStreamWriter;
+
+/**
+ * It represents abstraction for json element.
+ */
+public abstract class AbstractJsonType {
+
+    /**
+     * This one simply concatenate to rest of json.
+     * Simply speaking when will not converted then will not create whole json correctly.
+     * @return string for part of json.
+     */
+    public abstract String toStringJson();
+
+    /**
+     * It writes this json element to given writer without building whole json as text.
+     * By default it writes result of {@link #toStringJson()} after check that it is valid json value,
+     * json types of this library write themselves without that check.
+     * @param writer writer of json.
+     * @throws com.google.gson.JsonSyntaxException when result of {@link #toStringJson()} is not valid json value
+     */
+    public void writeJson(JsonStreamWriter writer) {
+        writer.validatedRawValue(toStringJson());
+    }
+
+    @Override
+    public final String toString() {
+        return toStringJson();
+    }
+}
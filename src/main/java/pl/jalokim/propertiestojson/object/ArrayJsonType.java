@@ -5,11 +5,16 @@ import pl.jalokim.propertiestojson.PropertyArrayHelper;
 import pl.jalokim.propertiestojson.path.PathMetadata;
 import pl.jalokim.propertiestojson.resolvers.PrimitiveJsonTypesResolver;
 import pl.jalokim.propertiestojson.util.exception.CannotOverrideFieldException;
+import pl.jalokim.propertiestojson.writer.JsonStreamWriter;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.TreeMap;
 
 import static pl.jalokim.propertiestojson.Constants.ARRAY_END_SIGN;
 import static pl.jalokim.propertiestojson.Constants.ARRAY_START_SIGN;
@@ -18,13 +23,33 @@ import static pl.jalokim.propertiestojson.Constants.NEW_LINE_SIGN;
 import static pl.jalokim.propertiestojson.object.JsonNullReferenceType.NULL_OBJECT;
 import static pl.jalokim.propertiestojson.object.MergableObject.mergeObjectIfPossible;
 import static pl.jalokim.utils.collection.CollectionUtils.getLastIndex;
-import static pl.jalokim.utils.collection.CollectionUtils.isLastIndex;
 
 
+/**
+ * Json array. Elements are stored in array which starts small and grows twice when needed.
+ * When indexes of elements are far apart (for example only list[5000000]=x) then elements are stored
+ * in map from index to element, then missing elements don't use memory. Missing elements are written as json null.
+ * Array never goes back from map to dense storage.
+ */
 public class ArrayJsonType extends AbstractJsonType implements MergableObject<ArrayJsonType> {
 
-    public static final int INIT_SIZE = 100;
-    private AbstractJsonType[] elements = new AbstractJsonType[INIT_SIZE];
+    public static final int INIT_SIZE = 8;
+
+    /**
+     * Dense storage of elements is used until its capacity is below this size or until it is filled enough.
+     */
+    static final int MIN_SPARSE_CAPACITY = 1024;
+
+    /**
+     * Dense storage is replaced by sparse when capacity would be greater than count of elements multiplied by this value.
+     */
+    static final int MAX_DENSE_FILL_RATIO = 4;
+
+    private static final AbstractJsonType[] NO_ELEMENTS = {};
+
+    private AbstractJsonType[] elements = NO_ELEMENTS;
+    private TreeMap<Integer, AbstractJsonType> sparseElements;
+    private int elementsCount;
     private int maxIndex = -1;
 
     public ArrayJsonType() {
@@ -41,11 +66,10 @@ public class ArrayJsonType extends AbstractJsonType implements MergableObject<Ar
     }
 
     public void addElement(int index, AbstractJsonType elementToAdd, PathMetadata currentPathMetadata) {
+        AbstractJsonType oldObject = getElement(index);
         if(maxIndex < index) {
             maxIndex = index;
         }
-        rewriteArrayWhenIsFull(index);
-        AbstractJsonType oldObject = elements[index];
 
         if(oldObject != null) {
             if(oldObject instanceof MergableObject && elementToAdd instanceof MergableObject) {
@@ -53,91 +77,139 @@ public class ArrayJsonType extends AbstractJsonType implements MergableObject<Ar
             } else {
                 throw new CannotOverrideFieldException(currentPathMetadata.getCurrentFullPath(), oldObject, currentPathMetadata.getOriginalPropertyKey());
             }
-        } else {
-            elements[index] = elementToAdd;
+        } else if(elementToAdd != null) {
+            setElement(index, elementToAdd);
         }
     }
 
     public void addElement(PropertyArrayHelper propertyArrayHelper, AbstractJsonType elementToAdd, PathMetadata currentPathMetadata) {
-        List<Integer> indexes = propertyArrayHelper.getDimensionalIndexes();
-        int size = propertyArrayHelper.getDimensionalIndexes().size();
+        int[] indexes = propertyArrayHelper.getDimensionalIndexArray();
+        int size = indexes.length;
         ArrayJsonType currentArray = this;
         for(int index = 0; index < size; index++) {
-            if(isLastIndex(propertyArrayHelper.getDimensionalIndexes(), index)) {
-                currentArray.addElement(indexes.get(index), elementToAdd, currentPathMetadata);
+            if(isLastIndex(indexes, index)) {
+                currentArray.addElement(indexes[index], elementToAdd, currentPathMetadata);
             } else {
                 currentArray = createOrGetNextDimensionOfArray(currentArray, indexes, index, currentPathMetadata);
             }
         }
     }
 
-    public static ArrayJsonType createOrGetNextDimensionOfArray(ArrayJsonType currentArray, List<Integer> indexes, int indexToTest, PathMetadata currentPathMetadata) {
-        if(currentArray.existElementByGivenIndex(indexes.get(indexToTest))) {
-            AbstractJsonType element = currentArray.getElement(indexes.get(indexToTest));
+    public static ArrayJsonType createOrGetNextDimensionOfArray(ArrayJsonType currentArray, int[] indexes, int indexToTest, PathMetadata currentPathMetadata) {
+        if(currentArray.existElementByGivenIndex(indexes[indexToTest])) {
+            AbstractJsonType element = currentArray.getElement(indexes[indexToTest]);
             if(element instanceof ArrayJsonType) {
                 return (ArrayJsonType) element;
             } else {
-                List<Integer> currentIndexes = indexes.subList(0, indexToTest + 1);
-                String indexesAsText = currentIndexes.stream()
-                                                     .map(Object::toString)
-                                                     .reduce(EMPTY_STRING, (oldText, index) -> oldText + ARRAY_START_SIGN + index + ARRAY_END_SIGN);
+                String indexesAsText = indexesAsText(indexes, indexToTest);
                 throw new CannotOverrideFieldException(currentPathMetadata.getCurrentFullPathWithoutIndexes() + indexesAsText, element, currentPathMetadata.getOriginalPropertyKey());
             }
         } else {
             ArrayJsonType newArray = new ArrayJsonType();
-            currentArray.addElement(indexes.get(indexToTest), newArray, currentPathMetadata);
+            currentArray.addElement(indexes[indexToTest], newArray, currentPathMetadata);
             return newArray;
         }
     }
 
+    /**
+     * It returns array of next dimension from current array, it creates it when it doesn't exist.
+     *
+     * @param currentArray        array of current dimension
+     * @param indexes             indexes of all dimensions
+     * @param indexToTest         position of index of current dimension
+     * @param currentPathMetadata path of array field
+     * @return array of next dimension
+     * @deprecated use {@link #createOrGetNextDimensionOfArray(ArrayJsonType, int[], int, PathMetadata)} which doesn't box indexes
+     */
+    @Deprecated
+    public static ArrayJsonType createOrGetNextDimensionOfArray(ArrayJsonType currentArray, List<Integer> indexes, int indexToTest, PathMetadata currentPathMetadata) {
+        int[] indexesArray = indexes.stream().mapToInt(Integer::intValue).toArray();
+        return createOrGetNextDimensionOfArray(currentArray, indexesArray, indexToTest, currentPathMetadata);
+    }
+
     public AbstractJsonType getElementByGivenDimIndexes(PathMetadata currentPathMetaData) {
         PropertyArrayHelper propertyArrayHelper = currentPathMetaData.getPropertyArrayHelper();
-        List<Integer> indexes = propertyArrayHelper.getDimensionalIndexes();
-        int size = propertyArrayHelper.getDimensionalIndexes().size();
+        int[] indexes = propertyArrayHelper.getDimensionalIndexArray();
+        int size = indexes.length;
         ArrayJsonType currentArray = this;
         for(int i = 0; i < size; i++) {
-            if(isLastIndex(propertyArrayHelper.getDimensionalIndexes(), i)) {
-                return currentArray.getElement(indexes.get(i));
+            if(isLastIndex(indexes, i)) {
+                return currentArray.getElement(indexes[i]);
             } else {
-                AbstractJsonType element = currentArray.getElement(indexes.get(i));
+                AbstractJsonType element = currentArray.getElement(indexes[i]);
                 if(element == null) {
                     return null;
                 }
                 if(element instanceof ArrayJsonType) {
                     currentArray = (ArrayJsonType) element;
                 } else {
-                    List<Integer> currentIndexes = indexes.subList(0, i + 1);
-                    String indexesAsText = currentIndexes.stream()
-                                                         .map(Object::toString)
-                                                         .reduce(EMPTY_STRING, (oldText, index) -> oldText + ARRAY_START_SIGN + index + ARRAY_END_SIGN);
+                    String indexesAsText = indexesAsText(indexes, i);
                     throw new CannotOverrideFieldException(currentPathMetaData.getCurrentFullPathWithoutIndexes() + indexesAsText, element, currentPathMetaData.getOriginalPropertyKey());
                 }
             }
         }
-        throw new UnsupportedOperationException("cannot return expected object for " + currentPathMetaData.getCurrentFullPath() + " " + currentPathMetaData.getPropertyArrayHelper().getDimensionalIndexes());
+        throw new UnsupportedOperationException("cannot return expected object for " + currentPathMetaData.getCurrentFullPath() + " " + Arrays.toString(indexes));
+    }
+
+    public static boolean isLastIndex(int[] indexes, int index) {
+        return index == indexes.length - 1;
+    }
+
+    private static String indexesAsText(int[] indexes, int lastIndexToTake) {
+        StringBuilder indexesAsText = new StringBuilder();
+        for(int i = 0; i <= lastIndexToTake; i++) {
+            indexesAsText.append(ARRAY_START_SIGN).append(indexes[i]).append(ARRAY_END_SIGN);
+        }
+        return indexesAsText.toString();
     }
 
     public boolean existElementByGivenIndex(int index) {
         return getElement(index) != null;
     }
 
-    private void rewriteArrayWhenIsFull(int index) {
-        if(indexHigherThanArraySize(index)) {
-            int predictedNewSize = elements.length + INIT_SIZE;
-            int newSize = predictedNewSize > index ? predictedNewSize : index + 1;
-            AbstractJsonType[] elementsTemp = new AbstractJsonType[newSize];
-            System.arraycopy(elements, 0, elementsTemp, 0, elements.length);
-            elements = elementsTemp;
+    private void setElement(int index, AbstractJsonType element) {
+        elementsCount++;
+        if(sparseElements != null) {
+            sparseElements.put(index, element);
+            return;
+        }
+        if(index >= elements.length) {
+            int newCapacity = Math.max(index + 1, Math.max(INIT_SIZE, elements.length * 2));
+            if(newCapacity > MIN_SPARSE_CAPACITY && newCapacity / MAX_DENSE_FILL_RATIO > elementsCount) {
+                moveToSparseElements();
+                sparseElements.put(index, element);
+                return;
+            }
+            elements = Arrays.copyOf(elements, newCapacity);
+        }
+        elements[index] = element;
+    }
+
+    private void moveToSparseElements() {
+        sparseElements = new TreeMap<>();
+        for(int index = 0; index < elements.length; index++) {
+            if(elements[index] != null) {
+                sparseElements.put(index, elements[index]);
+            }
         }
+        elements = NO_ELEMENTS;
     }
 
-    private boolean indexHigherThanArraySize(int index) {
-        return index > getLastIndex(elements);
+    boolean isSparse() {
+        return sparseElements != null;
     }
 
+    /**
+     * It returns element for given index, it doesn't allocate memory.
+     *
+     * @param index index of element
+     * @return element or null when element doesn't exist
+     */
     public AbstractJsonType getElement(int index) {
-        rewriteArrayWhenIsFull(index);
-        return elements[index];
+        if(sparseElements != null) {
+            return sparseElements.get(index);
+        }
+        return index < elements.length ? elements[index] : null;
     }
 
     @Override
@@ -157,11 +229,26 @@ public class ArrayJsonType extends AbstractJsonType implements MergableObject<Ar
         return result.append(ARRAY_END_SIGN).toString();
     }
 
-    public List<AbstractJsonType> convertToListWithoutRealNull() {
-        List<AbstractJsonType> elementsList = new ArrayList<>();
+    @Override
+    public void writeJson(JsonStreamWriter writer) {
+        writer.beginArray();
+        Iterator<AbstractJsonType> elementsIterator = new ElementsIterator();
+        while(elementsIterator.hasNext()) {
+            AbstractJsonType element = elementsIterator.next();
+            if(element == null) {
+                NULL_OBJECT.writeJson(writer);
+            } else if(!(element instanceof SkipJsonField)) {
+                element.writeJson(writer);
+            }
+        }
+        writer.endArray();
+    }
 
-        for(int i = 0; i < maxIndex + 1; i++) {
-            AbstractJsonType element = elements[i];
+    public List<AbstractJsonType> convertToListWithoutRealNull() {
+        List<AbstractJsonType> elementsList = new ArrayList<>(maxIndex + 1);
+        Iterator<AbstractJsonType> elementsIterator = new ElementsIterator();
+        while(elementsIterator.hasNext()) {
+            AbstractJsonType element = elementsIterator.next();
             if(element != null) {
                 elementsList.add(element);
             } else {
@@ -171,21 +258,49 @@ public class ArrayJsonType extends AbstractJsonType implements MergableObject<Ar
         return elementsList;
     }
 
-    private List<AbstractJsonType> convertToListWithRealNull() {
-        List<AbstractJsonType> elementsList = new ArrayList<>();
-        for(int i = 0; i < maxIndex + 1; i++) {
-            AbstractJsonType element = elements[i];
-            elementsList.add(element);
-        }
-        return elementsList;
-    }
-
     @Override
     public void merge(ArrayJsonType mergeWith, PathMetadata currentPathMetadata) {
+        Iterator<AbstractJsonType> elementsToMerge = mergeWith.new ElementsIterator();
         int index = 0;
-        for(AbstractJsonType abstractJsonType : mergeWith.convertToListWithRealNull()) {
-            addElement(index, abstractJsonType, currentPathMetadata);
+        while(elementsToMerge.hasNext()) {
+            addElement(index, elementsToMerge.next(), currentPathMetadata);
             index++;
         }
     }
+
+    /**
+     * Elements from index 0 to max index, with null for missing elements.
+     */
+    private final class ElementsIterator implements Iterator<AbstractJsonType> {
+
+        private final Iterator<Map.Entry<Integer, AbstractJsonType>> sparseIterator =
+                sparseElements == null ? null : sparseElements.entrySet().iterator();
+        private Map.Entry<Integer, AbstractJsonType> nextSparseElement;
+        private int nextIndex;
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex <= maxIndex;
+        }
+
+        @Override
+        public AbstractJsonType next() {
+            if(!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int index = nextIndex++;
+            if(sparseIterator == null) {
+                return getElement(index);
+            }
+            if(nextSparseElement == null && sparseIterator.hasNext()) {
+                nextSparseElement = sparseIterator.next();
+            }
+            if(nextSparseElement != null && nextSparseElement.getKey() == index) {
+                AbstractJsonType element = nextSparseElement.getValue();
+                nextSparseElement = null;
+                return element;
+            }
+            return null;
+        }
+    }
 }
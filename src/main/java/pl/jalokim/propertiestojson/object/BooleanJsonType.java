@@ -1,8 +1,32 @@
 package pl.jalokim.propertiestojson.object;
 
+import pl.jalokim.propertiestojson.writer.JsonStreamWriter;
+
 public class BooleanJsonType extends PrimitiveJsonType<Boolean> {
 
+    public static final BooleanJsonType TRUE = new BooleanJsonType(Boolean.TRUE);
+    public static final BooleanJsonType FALSE = new BooleanJsonType(Boolean.FALSE);
+
     public BooleanJsonType(Boolean value) {
         super(value);
     }
+
+    /**
+     * It returns shared instance for given boolean.
+     *
+     * @param value boolean value, not null
+     * @return {@link #TRUE} or {@link #FALSE}
+     */
+    public static BooleanJsonType valueOf(boolean value) {
+        return value ? TRUE : FALSE;
+    }
+
+    @Override
+    public void writeJson(JsonStreamWriter writer) {
+        if(getClass() == BooleanJsonType.class) {
+            writer.rawValue(toStringJson());
+        } else {
+            super.writeJson(writer);
+        }
+    }
 }
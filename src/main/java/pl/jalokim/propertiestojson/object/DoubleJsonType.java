@@ -0,0 +1,44 @@
+package pl.jalokim.propertiestojson.object;
+
+import pl.jalokim.propertiestojson.writer.JsonStreamWriter;
+
+/**
+ * Json number which keeps decimal value as primitive double, boxed {@link Number} is created only when it is requested.
+ * It is written in the same way like {@link Double#toString(double)}.
+ */
+public class DoubleJsonType extends NumberJsonType {
+
+    private final double doubleValue;
+
+    public DoubleJsonType(double value) {
+        super(null);
+        this.doubleValue = value;
+    }
+
+    public double getValue() {
+        return doubleValue;
+    }
+
+    /**
+     * It returns boxed value, it is created only when it is requested for the first time.
+     *
+     * @return number
+     */
+    @Override
+    public Number getNumber() {
+        if(value == null) {
+            value = Double.valueOf(doubleValue);
+        }
+        return value;
+    }
+
+    @Override
+    public String toStringJson() {
+        return Double.toString(doubleValue);
+    }
+
+    @Override
+    public void writeJson(JsonStreamWriter writer) {
+        writer.doubleValue(doubleValue);
+    }
+}
@@ -3,6 +3,7 @@ package pl.jalokim.propertiestojson.object;
 import pl.jalokim.propertiestojson.resolvers.PrimitiveJsonTypesResolver;
 import pl.jalokim.propertiestojson.resolvers.primitives.object.ObjectToJsonTypeConverter;
 import pl.jalokim.propertiestojson.resolvers.primitives.string.TextToConcreteObjectResolver;
+import pl.jalokim.propertiestojson.writer.JsonStreamWriter;
 
 /**
  * This is object for notify that given reference will be converted as null in json.
@@ -19,4 +20,9 @@ public final class JsonNullReferenceType extends AbstractJsonType {
     public String toStringJson() {
         return NULL_VALUE;
     }
+
+    @Override
+    public void writeJson(JsonStreamWriter writer) {
+        writer.rawValue(NULL_VALUE);
+    }
 }
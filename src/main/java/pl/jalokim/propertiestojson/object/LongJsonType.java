@@ -0,0 +1,43 @@
+package pl.jalokim.propertiestojson.object;
+
+import pl.jalokim.propertiestojson.writer.JsonStreamWriter;
+
+/**
+ * Json number which keeps integer value as primitive long, boxed {@link Number} is created only when it is requested.
+ */
+public class LongJsonType extends NumberJsonType {
+
+    private final long longValue;
+
+    public LongJsonType(long value) {
+        super(null);
+        this.longValue = value;
+    }
+
+    public long getValue() {
+        return longValue;
+    }
+
+    /**
+     * It returns boxed value, it is created only when it is requested for the first time.
+     *
+     * @return number
+     */
+    @Override
+    public Number getNumber() {
+        if(value == null) {
+            value = Long.valueOf(longValue);
+        }
+        return value;
+    }
+
+    @Override
+    public String toStringJson() {
+        return Long.toString(longValue);
+    }
+
+    @Override
+    public void writeJson(JsonStreamWriter writer) {
+        writer.longValue(longValue);
+    }
+}
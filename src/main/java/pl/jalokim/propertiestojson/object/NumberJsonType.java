@@ -1,9 +1,28 @@
 package pl.jalokim.propertiestojson.object;
 
+import pl.jalokim.propertiestojson.writer.JsonStreamWriter;
 
 public class NumberJsonType extends PrimitiveJsonType<Number> {
 
     public NumberJsonType(Number value) {
         super(value);
     }
+
+    /**
+     * It returns value of this json number.
+     *
+     * @return number
+     */
+    public Number getNumber() {
+        return value;
+    }
+
+    @Override
+    public void writeJson(JsonStreamWriter writer) {
+        if(getClass() == NumberJsonType.class) {
+            writer.rawValue(toStringJson());
+        } else {
+            super.writeJson(writer);
+        }
+    }
 }
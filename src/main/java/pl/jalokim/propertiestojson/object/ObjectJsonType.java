@@ -3,24 +3,52 @@ package pl.jalokim.propertiestojson.object;
 import pl.jalokim.propertiestojson.path.PathMetadata;
 import pl.jalokim.propertiestojson.util.StringToJsonStringWrapper;
 import pl.jalokim.propertiestojson.util.exception.CannotOverrideFieldException;
+import pl.jalokim.propertiestojson.writer.JsonStreamWriter;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import static pl.jalokim.propertiestojson.Constants.*;
 import static pl.jalokim.propertiestojson.object.MergableObject.mergeObjectIfPossible;
-import static pl.jalokim.utils.collection.CollectionUtils.getLastIndex;
 
+/**
+ * Json object. Names of fields are kept in {@link ObjectShape} shared by objects with the same fields
+ * and values of fields are kept in array. When object has too many fields then fields are kept in own map.
+ * Shapes are shared only by objects created with {@link #ObjectJsonType(ObjectJsonType)} from the same object.
+ */
 public class ObjectJsonType extends AbstractJsonType implements MergableObject<ObjectJsonType> {
 
-    private Map<String, AbstractJsonType> fields = new HashMap<>();
+    private static final AbstractJsonType[] NO_VALUES = {};
+
+    private ObjectShape shape;
+    private AbstractJsonType[] values = NO_VALUES;
+    private Map<String, AbstractJsonType> fields;
+
+    /**
+     * It creates empty object with own tree of shapes.
+     */
+    public ObjectJsonType() {
+        shape = ObjectShape.newTree();
+    }
+
+    /**
+     * It creates empty object which shares tree of shapes with given object, so objects with the same fields
+     * keep names of fields only once. Objects of one json should share one tree and should be changed by one thread.
+     *
+     * @param objectOfTheSameJson any object of the same json, for example root object
+     */
+    public ObjectJsonType(ObjectJsonType objectOfTheSameJson) {
+        shape = objectOfTheSameJson.shape.getRoot();
+    }
 
     public void addField(final String field, final AbstractJsonType object, PathMetadata currentPathMetaData) {
         if (object instanceof SkipJsonField) {
             return;
         }
 
-        AbstractJsonType oldFieldValue = fields.get(field);
+        AbstractJsonType oldFieldValue = getField(field);
         if (oldFieldValue != null) {
             if (oldFieldValue instanceof MergableObject && object instanceof MergableObject) {
                 mergeObjectIfPossible(oldFieldValue, object, currentPathMetaData);
@@ -30,28 +58,67 @@ public class ObjectJsonType extends AbstractJsonType implements MergableObject<O
                         currentPathMetaData.getOriginalPropertyKey());
             }
         } else {
-            fields.put(field, object);
+            putNewField(field, object);
         }
     }
 
+    private void putNewField(String field, AbstractJsonType object) {
+        if (fields == null) {
+            ObjectShape nextShape = shape.withField(field);
+            if (nextShape != null) {
+                values = Arrays.copyOf(values, values.length + 1);
+                values[values.length - 1] = object;
+                shape = nextShape;
+                return;
+            }
+            moveToFieldsMap();
+        }
+        fields.put(field, object);
+    }
+
+    private void moveToFieldsMap() {
+        fields = new HashMap<>();
+        for (int index = 0; index < values.length; index++) {
+            fields.put(shape.getFieldName(index), values[index]);
+        }
+        shape = shape.getRoot();
+        values = null;
+    }
+
     public boolean containsField(String field) {
-        return fields.containsKey(field);
+        return fields == null ? shape.indexOf(field) >= 0 : fields.containsKey(field);
     }
 
     public AbstractJsonType getField(String field) {
-        return fields.get(field);
+        if (fields != null) {
+            return fields.get(field);
+        }
+        int index = shape.indexOf(field);
+        return index < 0 ? null : values[index];
     }
 
     public ArrayJsonType getJsonArray(String field) {
-        return (ArrayJsonType) fields.get(field);
+        return (ArrayJsonType) getField(field);
+    }
+
+    boolean hasSharedShape() {
+        return fields == null;
+    }
+
+    ObjectShape getShape() {
+        return shape;
+    }
+
+    int getFieldsCount() {
+        return fields == null ? values.length : fields.size();
     }
 
     @Override
     public String toStringJson() {
         StringBuilder result = new StringBuilder().append(JSON_OBJECT_START);
         int index = 0;
-        int lastIndex = getLastIndex(fields.keySet());
-        for (Map.Entry<String, AbstractJsonType> entry : fields.entrySet()) {
+        int lastIndex = getFieldsCount() - 1;
+        for (Map.Entry<String, AbstractJsonType> entry : orderedFields()) {
             AbstractJsonType object = entry.getValue();
             String lastSign = index == lastIndex ? EMPTY_STRING : NEW_LINE_SIGN;
             result.append(StringToJsonStringWrapper.wrap(entry.getKey()))
@@ -64,10 +131,38 @@ public class ObjectJsonType extends AbstractJsonType implements MergableObject<O
         return result.toString();
     }
 
+    @Override
+    public void writeJson(JsonStreamWriter writer) {
+        writer.beginObject();
+        if (fields != null) {
+            for (Map.Entry<String, AbstractJsonType> entry : fields.entrySet()) {
+                writer.name(entry.getKey());
+                entry.getValue().writeJson(writer);
+            }
+        } else {
+            for (int index : shape.getIterationOrder()) {
+                writer.name(shape.getFieldName(index));
+                values[index].writeJson(writer);
+            }
+        }
+        writer.endObject();
+    }
+
     @Override
     public void merge(ObjectJsonType mergeWith, PathMetadata currentPathMetadata) {
-        for (String fieldName : mergeWith.fields.keySet()) {
-            addField(fieldName, mergeWith.getField(fieldName), currentPathMetadata);
+        for (Map.Entry<String, AbstractJsonType> entry : mergeWith.orderedFields()) {
+            addField(entry.getKey(), entry.getValue(), currentPathMetadata);
+        }
+    }
+
+    private Iterable<Map.Entry<String, AbstractJsonType>> orderedFields() {
+        if (fields != null) {
+            return fields.entrySet();
+        }
+        Map<String, AbstractJsonType> orderedFields = new LinkedHashMap<>();
+        for (int index : shape.getIterationOrder()) {
+            orderedFields.put(shape.getFieldName(index), values[index]);
         }
+        return orderedFields.entrySet();
     }
 }
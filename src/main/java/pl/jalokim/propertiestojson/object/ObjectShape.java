@@ -0,0 +1,136 @@
+package pl.jalokim.propertiestojson.object;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Shared table of field names for json objects which have the same fields added in the same order (like hidden class).
+ * Objects keep only values of fields in array, index of value is found in shape.
+ * For example all elements of <b>servers[0..50000].{host,port,weight}</b> use the same shape.
+ * Shapes create tree, next shape is created by adding field to previous shape. Every tree has own empty root shape,
+ * objects of one json share one tree (see {@link ObjectJsonType#ObjectJsonType(ObjectJsonType)}), so shapes are kept
+ * only as long as objects of this json and one json cannot take shapes of other jsons.
+ * Count of shapes in one tree and count of fields in one shape are limited, when limit is reached then object uses own map of fields.
+ * Objects of one tree should be changed by one thread.
+ */
+final class ObjectShape {
+
+    static final int MAX_FIELDS = 16;
+    static final int MAX_SHAPES = 65_536;
+
+    private static final String[] NO_FIELDS = {};
+
+    private final ShapeTree tree;
+    private final String[] fieldNames;
+    private final int[] iterationOrder;
+    private Map<String, ObjectShape> nextShapes;
+
+    private ObjectShape(ShapeTree tree, String[] fieldNames) {
+        this.tree = tree;
+        this.fieldNames = fieldNames;
+        this.iterationOrder = hashMapOrder(fieldNames);
+    }
+
+    /**
+     * It creates new tree of shapes.
+     *
+     * @return empty root shape of new tree
+     */
+    static ObjectShape newTree() {
+        ShapeTree tree = new ShapeTree();
+        tree.root = new ObjectShape(tree, NO_FIELDS);
+        return tree.root;
+    }
+
+    /**
+     * It returns shape with all fields from this shape and with given field at the end.
+     *
+     * @param fieldName name of new field, it should not exist in this shape
+     * @return next shape or null when shape cannot be created because of limits
+     */
+    ObjectShape withField(String fieldName) {
+        ObjectShape nextShape = nextShapes == null ? null : nextShapes.get(fieldName);
+        if(nextShape != null || fieldNames.length >= MAX_FIELDS || tree.shapesCount >= MAX_SHAPES) {
+            return nextShape;
+        }
+        String[] nextFieldNames = Arrays.copyOf(fieldNames, fieldNames.length + 1);
+        nextFieldNames[fieldNames.length] = fieldName;
+        nextShape = new ObjectShape(tree, nextFieldNames);
+        if(nextShapes == null) {
+            nextShapes = new HashMap<>();
+        }
+        nextShapes.put(fieldName, nextShape);
+        tree.shapesCount++;
+        return nextShape;
+    }
+
+    /**
+     * It returns empty shape of tree to which this shape belongs.
+     *
+     * @return root shape
+     */
+    ObjectShape getRoot() {
+        return tree.root;
+    }
+
+    /**
+     * It returns count of shapes in tree to which this shape belongs, without root shape.
+     *
+     * @return count of shapes
+     */
+    int getShapesCount() {
+        return tree.shapesCount;
+    }
+
+    int indexOf(String fieldName) {
+        int hash = fieldName.hashCode();
+        for(int index = 0; index < fieldNames.length; index++) {
+            String currentFieldName = fieldNames[index];
+            if(currentFieldName == fieldName || currentFieldName.hashCode() == hash && currentFieldName.equals(fieldName)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    int size() {
+        return fieldNames.length;
+    }
+
+    String getFieldName(int index) {
+        return fieldNames[index];
+    }
+
+    /**
+     * Indexes of fields in the same order like fields in {@link HashMap} to which fields were added in order of this shape,
+     * so json from compact objects is the same like json from objects with fields in map.
+     *
+     * @return indexes of fields
+     */
+    int[] getIterationOrder() {
+        return iterationOrder;
+    }
+
+    private static int[] hashMapOrder(String[] fieldNames) {
+        Map<String, Integer> fieldIndexes = new HashMap<>();
+        for(int index = 0; index < fieldNames.length; index++) {
+            fieldIndexes.put(fieldNames[index], index);
+        }
+        int[] order = new int[fieldNames.length];
+        int position = 0;
+        for(Integer index : fieldIndexes.values()) {
+            order[position++] = index;
+        }
+        return order;
+    }
+
+    /**
+     * Root and count of shapes common for all shapes of one tree.
+     */
+    private static final class ShapeTree {
+
+        private ObjectShape root;
+        private int shapesCount;
+    }
+}
@@ -0,0 +1,143 @@
+package pl.jalokim.propertiestojson.object;
+
+import java.math.BigInteger;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * It returns one shared instance for equal leaf values of json, like {@link JsonNullReferenceType#NULL_OBJECT} for null.
+ * Booleans always have canonical instances, integer numbers from {@link #MIN_CACHED_NUMBER} to {@link #MAX_CACHED_NUMBER}
+ * have prepared instances and texts are cached until count of cached texts reaches limit.
+ * Only instances of {@link BooleanJsonType}, {@link LongJsonType}, {@link NumberJsonType} and {@link StringJsonType} are interned,
+ * subclasses are returned as they are. Shared instance for small integer number is always {@link LongJsonType}.
+ * It can be used by many threads.
+ */
+public class PrimitiveJsonTypesInterner {
+
+    public static final int DEFAULT_MAX_TEXTS = 10_000;
+    public static final int MAX_CACHED_TEXT_LENGTH = 256;
+    public static final int DISABLED = 0;
+
+    static final int MIN_CACHED_NUMBER = -128;
+    static final int MAX_CACHED_NUMBER = 1023;
+
+    private static final LongJsonType[] SMALL_NUMBERS = new LongJsonType[MAX_CACHED_NUMBER - MIN_CACHED_NUMBER + 1];
+
+    static {
+        for(int index = 0; index < SMALL_NUMBERS.length; index++) {
+            SMALL_NUMBERS[index] = new LongJsonType(MIN_CACHED_NUMBER + index);
+        }
+    }
+
+    private final int maxTexts;
+    private final ConcurrentMap<String, StringJsonType> texts = new ConcurrentHashMap<>();
+    private final AtomicInteger textsCount = new AtomicInteger();
+    private final AtomicLong hitsCount = new AtomicLong();
+    private final AtomicLong missesCount = new AtomicLong();
+
+    public PrimitiveJsonTypesInterner() {
+        this(DEFAULT_MAX_TEXTS);
+    }
+
+    /**
+     * It creates interner with limited count of cached texts.
+     *
+     * @param maxTexts max count of cached texts, {@link #DISABLED} means that texts will not be cached
+     */
+    public PrimitiveJsonTypesInterner(int maxTexts) {
+        if(maxTexts < 0) {
+            throw new IllegalArgumentException("Max count of cached texts cannot be negative, given: " + maxTexts);
+        }
+        this.maxTexts = maxTexts;
+    }
+
+    /**
+     * It returns shared instance equal to given json value or given json value when it cannot be shared.
+     * Returned shared instance is counted as hit, otherwise miss is counted for booleans, numbers and texts.
+     *
+     * @param jsonValue resolved json value
+     * @return shared instance or given json value
+     */
+    public AbstractJsonType intern(AbstractJsonType jsonValue) {
+        AbstractJsonType sharedValue = null;
+        Class<?> jsonValueType = jsonValue.getClass();
+        if(jsonValueType == BooleanJsonType.class) {
+            Boolean booleanValue = ((BooleanJsonType) jsonValue).value;
+            sharedValue = booleanValue == null ? null : BooleanJsonType.valueOf(booleanValue);
+        } else if(jsonValueType == LongJsonType.class) {
+            sharedValue = getSmallNumber(((LongJsonType) jsonValue).getValue());
+        } else if(jsonValueType == NumberJsonType.class) {
+            sharedValue = getSmallNumber(((NumberJsonType) jsonValue).value);
+        } else if(jsonValueType == StringJsonType.class) {
+            sharedValue = getText((StringJsonType) jsonValue);
+        } else {
+            return jsonValue;
+        }
+        if(sharedValue == null) {
+            missesCount.incrementAndGet();
+            return jsonValue;
+        }
+        hitsCount.incrementAndGet();
+        return sharedValue;
+    }
+
+    public long getHitsCount() {
+        return hitsCount.get();
+    }
+
+    public long getMissesCount() {
+        return missesCount.get();
+    }
+
+    public int getTextsCount() {
+        return textsCount.get();
+    }
+
+    public int getMaxTexts() {
+        return maxTexts;
+    }
+
+    /**
+     * It removes all cached texts and resets counters.
+     */
+    public void clear() {
+        texts.clear();
+        textsCount.set(0);
+        hitsCount.set(0);
+        missesCount.set(0);
+    }
+
+    private static LongJsonType getSmallNumber(Number number) {
+        if(number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte) {
+            return getSmallNumber(number.longValue());
+        } else if(number instanceof BigInteger && ((BigInteger) number).bitLength() < Integer.SIZE) {
+            return getSmallNumber(number.longValue());
+        }
+        return null;
+    }
+
+    private static LongJsonType getSmallNumber(long longValue) {
+        if(longValue < MIN_CACHED_NUMBER || longValue > MAX_CACHED_NUMBER) {
+            return null;
+        }
+        return SMALL_NUMBERS[(int) longValue - MIN_CACHED_NUMBER];
+    }
+
+    private StringJsonType getText(StringJsonType jsonText) {
+        String text = jsonText.value;
+        if(text == null || text.length() > MAX_CACHED_TEXT_LENGTH) {
+            return null;
+        }
+        StringJsonType cachedText = texts.get(text);
+        if(cachedText != null || textsCount.get() >= maxTexts) {
+            return cachedText;
+        }
+        cachedText = texts.putIfAbsent(text, jsonText);
+        if(cachedText == null) {
+            textsCount.incrementAndGet();
+        }
+        return cachedText;
+    }
+}
@@ -1,6 +1,7 @@
 package pl.jalokim.propertiestojson.object;
 
 import pl.jalokim.propertiestojson.util.StringToJsonStringWrapper;
+import pl.jalokim.propertiestojson.writer.JsonStreamWriter;
 
 public class StringJsonType extends PrimitiveJsonType<String> {
 
@@ -12,4 +13,9 @@ public class StringJsonType extends PrimitiveJsonType<String> {
     public String toStringJson() {
         return StringToJsonStringWrapper.wrap(value);
     }
+
+    @Override
+    public void writeJson(JsonStreamWriter writer) {
+        writer.stringValue(value);
+    }
 }
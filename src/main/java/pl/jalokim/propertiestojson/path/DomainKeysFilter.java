@@ -0,0 +1,116 @@
+package pl.jalokim.propertiestojson.path;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Compiled filter of property keys by domain keys. Property key belongs to domain when it is equal to domain key
+ * or when it begins with domain key followed by dot or by array index, for example <b>object1.field1</b>
+ * and <b>object1[0]</b> belong to domain <b>object1</b> but <b>object10.field</b> doesn't.
+ * Domain keys are stored in trie, so every property key is checked by one walk through its signs,
+ * independently of count of domain keys. Filter is immutable and it can be used by many threads and for many conversions.
+ */
+public class DomainKeysFilter {
+
+    private static final char FIELD_SEPARATOR = '.';
+    private static final char ARRAY_START = '[';
+
+    private final Node root = new Node();
+
+    /**
+     * It creates filter for given domain keys.
+     *
+     * @param includeDomainKeys domain head keys which should be included
+     */
+    public DomainKeysFilter(String... includeDomainKeys) {
+        for(String domainKey : includeDomainKeys) {
+            Node current = root;
+            for(int index = 0; index < domainKey.length(); index++) {
+                current = current.getOrAddChild(domainKey.charAt(index));
+            }
+            current.domainEnd = true;
+        }
+    }
+
+    /**
+     * It checks that given property key belongs to some domain.
+     *
+     * @param propertyKey property key
+     * @return true when property key is some domain key or it is nested in some domain key
+     */
+    public boolean matches(String propertyKey) {
+        Node current = root;
+        int length = propertyKey.length();
+        for(int index = 0; index < length; index++) {
+            if(current.domainEnd && isDomainBoundary(propertyKey.charAt(index))) {
+                return true;
+            }
+            current = current.getChild(propertyKey.charAt(index));
+            if(current == null) {
+                return false;
+            }
+        }
+        return current.domainEnd;
+    }
+
+    /**
+     * It returns new map only with properties which belong to some domain.
+     *
+     * @param properties properties to filter
+     * @param <V>        type of property values
+     * @return filtered properties
+     */
+    public <V> Map<String, V> filter(Map<String, V> properties) {
+        Map<String, V> filteredProperties = new HashMap<>();
+        for(Map.Entry<String, V> property : properties.entrySet()) {
+            if(matches(property.getKey())) {
+                filteredProperties.put(property.getKey(), property.getValue());
+            }
+        }
+        return filteredProperties;
+    }
+
+    private static boolean isDomainBoundary(char sign) {
+        return sign == FIELD_SEPARATOR || sign == ARRAY_START;
+    }
+
+    /**
+     * Node of trie with children sorted by their signs.
+     */
+    private static final class Node {
+
+        private char[] signs = new char[0];
+        private Node[] children = new Node[0];
+        private boolean domainEnd;
+
+        private Node getChild(char sign) {
+            int index = Arrays.binarySearch(signs, sign);
+            return index < 0 ? null : children[index];
+        }
+
+        private Node getOrAddChild(char sign) {
+            int index = Arrays.binarySearch(signs, sign);
+            if(index >= 0) {
+                return children[index];
+            }
+            int insertIndex = -index - 1;
+            Node child = new Node();
+            signs = insert(signs, insertIndex, sign);
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(children, 0, newChildren, 0, insertIndex);
+            newChildren[insertIndex] = child;
+            System.arraycopy(children, insertIndex, newChildren, insertIndex + 1, children.length - insertIndex);
+            children = newChildren;
+            return child;
+        }
+
+        private static char[] insert(char[] signs, int insertIndex, char sign) {
+            char[] newSigns = new char[signs.length + 1];
+            System.arraycopy(signs, 0, newSigns, 0, insertIndex);
+            newSigns[insertIndex] = sign;
+            System.arraycopy(signs, insertIndex, newSigns, insertIndex + 1, signs.length - insertIndex);
+            return newSigns;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package pl.jalokim.propertiestojson.path;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import pl.jalokim.propertiestojson.PropertyArrayHelper;
+
+/**
+ * Parsed field of property key stored in {@link KeySegmentTrie}.
+ */
+@Getter
+public class KeySegment {
+
+    private final String originalFieldName;
+    private final String fieldName;
+    private final PropertyArrayHelper propertyArrayHelper;
+    @Getter(AccessLevel.PACKAGE)
+    private final KeySegmentChildren children;
+
+    KeySegment(String originalFieldName, String fieldName, PropertyArrayHelper propertyArrayHelper, KeySegmentChildren children) {
+        this.originalFieldName = originalFieldName;
+        this.fieldName = fieldName;
+        this.propertyArrayHelper = propertyArrayHelper;
+        this.children = children;
+    }
+
+    public boolean isArrayField() {
+        return propertyArrayHelper != null;
+    }
+}
@@ -0,0 +1,97 @@
+package pl.jalokim.propertiestojson.path;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Children of {@link KeySegment} in {@link KeySegmentTrie}. Child is found by part of property key (start and end of field),
+ * so lookup doesn't create text of field. It is hash table with open addressing, lookups are without locks
+ * and new children are added under lock of this object.
+ */
+final class KeySegmentChildren {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private volatile AtomicReferenceArray<KeySegment> table = new AtomicReferenceArray<>(INITIAL_CAPACITY);
+    private int size;
+
+    /**
+     * It returns child with original field name equal to part of property key.
+     *
+     * @param propertyKey whole property key
+     * @param start       start of field
+     * @param end         end of field
+     * @return child segment or null when it doesn't exist
+     */
+    KeySegment get(String propertyKey, int start, int end) {
+        AtomicReferenceArray<KeySegment> currentTable = table;
+        int mask = currentTable.length() - 1;
+        int length = end - start;
+        for(int index = spread(hash(propertyKey, start, end)) & mask; ; index = (index + 1) & mask) {
+            KeySegment segment = currentTable.get(index);
+            if(segment == null) {
+                return null;
+            }
+            String fieldName = segment.getOriginalFieldName();
+            if(fieldName.length() == length && fieldName.regionMatches(0, propertyKey, start, length)) {
+                return segment;
+            }
+        }
+    }
+
+    /**
+     * It adds child when child with the same original field name doesn't exist.
+     *
+     * @param newSegment segment to add
+     * @return already existing child or null when given segment was added
+     */
+    synchronized KeySegment putIfAbsent(KeySegment newSegment) {
+        String fieldName = newSegment.getOriginalFieldName();
+        KeySegment existingSegment = get(fieldName, 0, fieldName.length());
+        if(existingSegment != null) {
+            return existingSegment;
+        }
+        AtomicReferenceArray<KeySegment> currentTable = table;
+        if((size + 1) * 2 > currentTable.length()) {
+            currentTable = resize(currentTable);
+        }
+        insert(currentTable, newSegment);
+        size++;
+        table = currentTable;
+        return null;
+    }
+
+    private static AtomicReferenceArray<KeySegment> resize(AtomicReferenceArray<KeySegment> oldTable) {
+        AtomicReferenceArray<KeySegment> newTable = new AtomicReferenceArray<>(oldTable.length() * 2);
+        for(int index = 0; index < oldTable.length(); index++) {
+            KeySegment segment = oldTable.get(index);
+            if(segment != null) {
+                insert(newTable, segment);
+            }
+        }
+        return newTable;
+    }
+
+    private static void insert(AtomicReferenceArray<KeySegment> table, KeySegment segment) {
+        int mask = table.length() - 1;
+        int index = spread(segment.getOriginalFieldName().hashCode()) & mask;
+        while(table.get(index) != null) {
+            index = (index + 1) & mask;
+        }
+        table.set(index, segment);
+    }
+
+    /**
+     * It computes the same hash like {@link String#hashCode()} of given part of text.
+     */
+    private static int hash(String text, int start, int end) {
+        int hash = 0;
+        for(int position = start; position < end; position++) {
+            hash = 31 * hash + text.charAt(position);
+        }
+        return hash;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
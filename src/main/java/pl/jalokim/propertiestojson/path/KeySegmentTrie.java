@@ -0,0 +1,140 @@
+package pl.jalokim.propertiestojson.path;
+
+import pl.jalokim.propertiestojson.PropertyArrayHelper;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static pl.jalokim.propertiestojson.path.PropertyKeyLexer.NOT_ARRAY_FIELD;
+import static pl.jalokim.propertiestojson.path.PropertyKeyLexer.findIndexesStart;
+import static pl.jalokim.propertiestojson.path.PropertyKeyLexer.countFields;
+import static pl.jalokim.propertiestojson.path.PropertyKeyLexer.findFieldEnd;
+import static pl.jalokim.propertiestojson.path.PropertyKeyLexer.findFieldsEnd;
+
+/**
+ * Trie of already parsed fields of property keys. Property keys mostly have the same prefixes like
+ * <b>app.datasource.primary.pool.size</b> and <b>app.datasource.primary.pool.timeout</b> so every field
+ * is parsed only once (name of field, array indexes) and the same field name instance is reused for every property key.
+ * Trie is walked by parts of property key, so text of field is created only when field is not cached yet.
+ * Count of cached segments is limited, when limit is reached then next new segments are parsed every time.
+ * It can be used by many threads.
+ */
+public class KeySegmentTrie {
+
+    public static final int DEFAULT_MAX_SEGMENTS = 10_000;
+    public static final int DISABLED = 0;
+
+    private final int maxSegments;
+    private volatile KeySegmentChildren rootSegments = new KeySegmentChildren();
+    private final ConcurrentMap<String, String> fieldNames = new ConcurrentHashMap<>();
+    private final AtomicInteger segmentsCount = new AtomicInteger();
+    private final AtomicLong hitsCount = new AtomicLong();
+    private final AtomicLong missesCount = new AtomicLong();
+
+    public KeySegmentTrie() {
+        this(DEFAULT_MAX_SEGMENTS);
+    }
+
+    /**
+     * It creates trie with limited size.
+     *
+     * @param maxSegments max count of cached segments, {@link #DISABLED} means that nothing will be cached
+     */
+    public KeySegmentTrie(int maxSegments) {
+        if(maxSegments < 0) {
+            throw new IllegalArgumentException("Max count of cached key segments cannot be negative, given: " + maxSegments);
+        }
+        this.maxSegments = maxSegments;
+    }
+
+    /**
+     * It returns parsed segments of property key, one segment for every field between dots.
+     *
+     * @param propertyKey whole property key
+     * @return segments of property key
+     */
+    public KeySegment[] getSegments(String propertyKey) {
+        int end = findFieldsEnd(propertyKey);
+        int fieldsCount = end > 0 || propertyKey.isEmpty() ? countFields(propertyKey, end) : 0;
+        KeySegment[] segments = new KeySegment[fieldsCount];
+        KeySegmentChildren children = rootSegments;
+        int fieldStart = 0;
+        for(int index = 0; index < fieldsCount; index++) {
+            int fieldEnd = findFieldEnd(propertyKey, fieldStart, end);
+            KeySegment segment = children == null ? null : children.get(propertyKey, fieldStart, fieldEnd);
+            if(segment == null) {
+                missesCount.incrementAndGet();
+                segment = createSegment(propertyKey.substring(fieldStart, fieldEnd), children);
+            } else {
+                hitsCount.incrementAndGet();
+            }
+            segments[index] = segment;
+            children = segment.getChildren();
+            fieldStart = fieldEnd + 1;
+        }
+        return segments;
+    }
+
+    public long getHitsCount() {
+        return hitsCount.get();
+    }
+
+    public long getMissesCount() {
+        return missesCount.get();
+    }
+
+    public int getSegmentsCount() {
+        return segmentsCount.get();
+    }
+
+    public int getMaxSegments() {
+        return maxSegments;
+    }
+
+    /**
+     * It removes all cached segments and resets counters.
+     */
+    public void clear() {
+        rootSegments = new KeySegmentChildren();
+        fieldNames.clear();
+        segmentsCount.set(0);
+        hitsCount.set(0);
+        missesCount.set(0);
+    }
+
+    private KeySegment createSegment(String field, KeySegmentChildren parentChildren) {
+        int indexesStart = findIndexesStart(field);
+        PropertyArrayHelper propertyArrayHelper = indexesStart == NOT_ARRAY_FIELD ? null : new PropertyArrayHelper(field, indexesStart);
+        String fieldName = propertyArrayHelper == null ? field : propertyArrayHelper.getArrayFieldName();
+        if(parentChildren == null || !reserveSegment()) {
+            return new KeySegment(field, fieldName, propertyArrayHelper, null);
+        }
+        KeySegment newSegment = new KeySegment(internFieldName(field), internFieldName(fieldName), propertyArrayHelper, new KeySegmentChildren());
+        KeySegment cachedSegment = parentChildren.putIfAbsent(newSegment);
+        if(cachedSegment != null) {
+            segmentsCount.decrementAndGet();
+            return cachedSegment;
+        }
+        return newSegment;
+    }
+
+    /**
+     * It reserves place for new segment, so count of cached segments never exceeds limit even when many threads add segments.
+     *
+     * @return true when place was reserved
+     */
+    private boolean reserveSegment() {
+        if(segmentsCount.incrementAndGet() > maxSegments) {
+            segmentsCount.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    private String internFieldName(String fieldName) {
+        String cachedName = fieldNames.putIfAbsent(fieldName, fieldName);
+        return cachedName == null ? fieldName : cachedName;
+    }
+}
@@ -7,16 +7,22 @@ import pl.jalokim.propertiestojson.object.AbstractJsonType;
 
 import static pl.jalokim.propertiestojson.Constants.EMPTY_STRING;
 import static pl.jalokim.propertiestojson.Constants.NORMAL_DOT;
+import static pl.jalokim.propertiestojson.path.PropertyKeyLexer.NOT_ARRAY_FIELD;
+import static pl.jalokim.propertiestojson.path.PropertyKeyLexer.findIndexesStart;
 
 
 @Data
 public class PathMetadata {
 
     private static final String NUMBER_PATTERN = "([1-9]\\d*)|0";
+    /**
+     * Regex of indexes at the end of array field.
+     *
+     * @deprecated indexes are read by {@link PropertyKeyLexer} without regex, this pattern isn't used by converter
+     */
+    @Deprecated
     public static final String INDEXES_PATTERN = "\\s*(\\[\\s*((" + NUMBER_PATTERN + ")|\\*)\\s*]\\s*)+";
 
-    private static final String WORD_PATTERN = "(.)*";
-
     private final String originalPropertyKey;
     private PathMetadata parent;
     private String fieldName;
@@ -48,12 +54,19 @@ public class PathMetadata {
 
     public void setFieldName(String fieldName) {
         this.fieldName = fieldName;
-        if (fieldName.matches(WORD_PATTERN + INDEXES_PATTERN)) {
-            propertyArrayHelper = new PropertyArrayHelper(fieldName);
+        int indexesStart = findIndexesStart(fieldName);
+        if (indexesStart != NOT_ARRAY_FIELD) {
+            propertyArrayHelper = new PropertyArrayHelper(fieldName, indexesStart);
             this.fieldName = propertyArrayHelper.getArrayFieldName();
         }
     }
 
+    void setKeySegment(KeySegment keySegment) {
+        this.fieldName = keySegment.getFieldName();
+        this.originalFieldName = keySegment.getOriginalFieldName();
+        this.propertyArrayHelper = keySegment.getPropertyArrayHelper();
+    }
+
     public void setRawValue(Object rawValue) {
         if (!isLeaf()) {
             throw new NotLeafValueException("Cannot set value for not leaf: " + getCurrentFullPath());
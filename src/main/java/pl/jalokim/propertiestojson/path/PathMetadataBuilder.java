@@ -1,6 +1,6 @@
 package pl.jalokim.propertiestojson.path;
 
-import static pl.jalokim.propertiestojson.Constants.REGEX_DOT;
+import static pl.jalokim.propertiestojson.path.PropertyKeyLexer.splitToFields;
 
 public class PathMetadataBuilder {
 
@@ -8,7 +8,7 @@ public class PathMetadataBuilder {
     }
 
     public static PathMetadata createRootPathMetaData(String propertyKey) {
-        String[] fields = propertyKey.split(REGEX_DOT);
+        String[] fields = splitToFields(propertyKey);
         PathMetadata currentPathMetadata = null;
 
         for(int index = 0; index < fields.length; index++) {
@@ -27,4 +27,27 @@ public class PathMetadataBuilder {
         }
         return currentPathMetadata.getRoot();
     }
+
+    /**
+     * It creates path metadata from segments cached in given trie, every field of property key is parsed only once by trie.
+     *
+     * @param propertyKey    whole property key
+     * @param keySegmentTrie trie with parsed segments of property keys
+     * @return root of path metadata
+     */
+    public static PathMetadata createRootPathMetaData(String propertyKey, KeySegmentTrie keySegmentTrie) {
+        PathMetadata currentPathMetadata = null;
+
+        for(KeySegment keySegment : keySegmentTrie.getSegments(propertyKey)) {
+            PathMetadata nextPathMetadata = new PathMetadata(propertyKey);
+            nextPathMetadata.setParent(currentPathMetadata);
+            nextPathMetadata.setKeySegment(keySegment);
+
+            if (currentPathMetadata != null) {
+                currentPathMetadata.setChild(nextPathMetadata);
+            }
+            currentPathMetadata = nextPathMetadata;
+        }
+        return currentPathMetadata.getRoot();
+    }
 }
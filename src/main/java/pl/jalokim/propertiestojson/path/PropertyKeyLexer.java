@@ -0,0 +1,234 @@
+package pl.jalokim.propertiestojson.path;
+
+/**
+ * Hand written lexer of property keys. It splits property key to fields and reads array indexes from field
+ * in one pass without regular expressions and without temporary texts.
+ * Field is array field when it ends with one or more indexes like: <b>field[0]</b>, <b>field [1] [ 2 ]</b>
+ * Index is zero or number without leading zeros, white signs are allowed around of indexes and inside of brackets.
+ */
+public final class PropertyKeyLexer {
+
+    public static final int NOT_ARRAY_FIELD = -1;
+
+    private static final char FIELD_SEPARATOR = '.';
+    private static final char INDEX_START = '[';
+    private static final char INDEX_END = ']';
+    private static final char ANY_INDEX = '*';
+    private static final String[] NO_FIELDS = new String[0];
+
+    private PropertyKeyLexer() {
+    }
+
+    /**
+     * It splits property key by dots. Empty fields at the end of property key are skipped like in {@link String#split(String)}.
+     *
+     * @param propertyKey whole property key
+     * @return fields of property key
+     */
+    public static String[] splitToFields(String propertyKey) {
+        int length = propertyKey.length();
+        if(length == 0) {
+            return new String[]{propertyKey};
+        }
+        int end = findFieldsEnd(propertyKey);
+        if(end == 0) {
+            return NO_FIELDS;
+        }
+        int fieldsCount = countFields(propertyKey, end);
+        if(fieldsCount == 1) {
+            return new String[]{end == length ? propertyKey : propertyKey.substring(0, end)};
+        }
+        String[] fields = new String[fieldsCount];
+        int fieldIndex = 0;
+        int fieldStart = 0;
+        for(int position = 0; position <= end; position++) {
+            if(position == end || propertyKey.charAt(position) == FIELD_SEPARATOR) {
+                fields[fieldIndex++] = propertyKey.substring(fieldStart, position);
+                fieldStart = position + 1;
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * It returns end of last field of property key, so dots at the end of property key are skipped.
+     *
+     * @param propertyKey whole property key
+     * @return end of last field, zero when property key contains only dots
+     */
+    static int findFieldsEnd(String propertyKey) {
+        int end = propertyKey.length();
+        while(end > 0 && propertyKey.charAt(end - 1) == FIELD_SEPARATOR) {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * It counts fields of property key to given end.
+     *
+     * @param propertyKey whole property key
+     * @param end         end of last field returned by {@link #findFieldsEnd(String)}
+     * @return count of fields
+     */
+    static int countFields(String propertyKey, int end) {
+        int fieldsCount = 1;
+        for(int position = 0; position < end; position++) {
+            if(propertyKey.charAt(position) == FIELD_SEPARATOR) {
+                fieldsCount++;
+            }
+        }
+        return fieldsCount;
+    }
+
+    /**
+     * It returns end of field which starts at given position.
+     *
+     * @param propertyKey whole property key
+     * @param fieldStart  start of field
+     * @param end         end of last field returned by {@link #findFieldsEnd(String)}
+     * @return position of dot after field or end of last field
+     */
+    static int findFieldEnd(String propertyKey, int fieldStart, int end) {
+        int position = fieldStart;
+        while(position < end && propertyKey.charAt(position) != FIELD_SEPARATOR) {
+            position++;
+        }
+        return position;
+    }
+
+    /**
+     * It reads indexes from the end of field.
+     *
+     * @param field one field from property key
+     * @return position of first index (with white signs before it) or {@link #NOT_ARRAY_FIELD} when field is not array field.
+     */
+    public static int findIndexesStart(String field) {
+        int indexesStart = NOT_ARRAY_FIELD;
+        int position = field.length() - 1;
+        while(true) {
+            int indexStart = findIndexStartBefore(field, position);
+            if(indexStart == NOT_ARRAY_FIELD) {
+                break;
+            }
+            indexesStart = indexStart;
+            position = indexStart - 1;
+        }
+        if(indexesStart == NOT_ARRAY_FIELD) {
+            return NOT_ARRAY_FIELD;
+        }
+        while(indexesStart > 0 && isWhiteSign(field.charAt(indexesStart - 1))) {
+            indexesStart--;
+        }
+        for(int namePosition = 0; namePosition < indexesStart; namePosition++) {
+            if(isLineTerminator(field.charAt(namePosition))) {
+                return NOT_ARRAY_FIELD;
+            }
+        }
+        return indexesStart;
+    }
+
+    /**
+     * It reads values of indexes from array field.
+     *
+     * @param field        one field from property key
+     * @param indexesStart position returned by {@link #findIndexesStart(String)}
+     * @return indexes for every dimension of array
+     * @throws NumberFormatException when index is too large or when index is '*'
+     */
+    public static int[] readIndexes(String field, int indexesStart) {
+        int length = field.length();
+        int indexesCount = 0;
+        for(int position = indexesStart; position < length; position++) {
+            if(field.charAt(position) == INDEX_START) {
+                indexesCount++;
+            }
+        }
+        int[] indexes = new int[indexesCount];
+        int dimension = 0;
+        int position = indexesStart;
+        while(dimension < indexesCount) {
+            while(field.charAt(position) != INDEX_START) {
+                position++;
+            }
+            position = skipWhiteSigns(field, position + 1);
+            int numberStart = position;
+            long value = 0;
+            char sign = field.charAt(position);
+            while(sign != INDEX_END && !isWhiteSign(sign)) {
+                if(sign == ANY_INDEX || value > Integer.MAX_VALUE) {
+                    throw invalidIndex(field, numberStart);
+                }
+                value = value * 10 + (sign - '0');
+                sign = field.charAt(++position);
+            }
+            if(value > Integer.MAX_VALUE) {
+                throw invalidIndex(field, numberStart);
+            }
+            indexes[dimension++] = (int) value;
+        }
+        return indexes;
+    }
+
+    private static int findIndexStartBefore(String field, int position) {
+        position = skipWhiteSignsBackward(field, position);
+        if(position < 0 || field.charAt(position) != INDEX_END) {
+            return NOT_ARRAY_FIELD;
+        }
+        position = skipWhiteSignsBackward(field, position - 1);
+        if(position < 0) {
+            return NOT_ARRAY_FIELD;
+        }
+        if(field.charAt(position) == ANY_INDEX) {
+            position--;
+        } else {
+            int numberEnd = position;
+            while(position >= 0 && isDigit(field.charAt(position))) {
+                position--;
+            }
+            int numberStart = position + 1;
+            if(numberStart > numberEnd || (field.charAt(numberStart) == '0' && numberStart != numberEnd)) {
+                return NOT_ARRAY_FIELD;
+            }
+        }
+        position = skipWhiteSignsBackward(field, position);
+        if(position < 0 || field.charAt(position) != INDEX_START) {
+            return NOT_ARRAY_FIELD;
+        }
+        return position;
+    }
+
+    private static NumberFormatException invalidIndex(String field, int numberStart) {
+        int numberEnd = numberStart;
+        while(field.charAt(numberEnd) != INDEX_END && !isWhiteSign(field.charAt(numberEnd))) {
+            numberEnd++;
+        }
+        return new NumberFormatException("For input string: \"" + field.substring(numberStart, numberEnd) + "\"");
+    }
+
+    private static int skipWhiteSigns(String field, int position) {
+        while(isWhiteSign(field.charAt(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    private static int skipWhiteSignsBackward(String field, int position) {
+        while(position >= 0 && isWhiteSign(field.charAt(position))) {
+            position--;
+        }
+        return position;
+    }
+
+    private static boolean isDigit(char sign) {
+        return sign >= '0' && sign <= '9';
+    }
+
+    private static boolean isWhiteSign(char sign) {
+        return sign == ' ' || sign == '\t' || sign == '\n' || sign == '\u000B' || sign == '\f' || sign == '\r';
+    }
+
+    private static boolean isLineTerminator(char sign) {
+        return sign == '\n' || sign == '\r' || sign == '\u0085' || sign == '\u2028' || sign == '\u2029';
+    }
+}
@@ -6,68 +6,64 @@ import pl.jalokim.propertiestojson.object.AbstractJsonType;
 import pl.jalokim.propertiestojson.object.ArrayJsonType;
 import pl.jalokim.propertiestojson.object.ObjectJsonType;
 import pl.jalokim.propertiestojson.path.PathMetadata;
-
-import java.util.List;
+import pl.jalokim.propertiestojson.resolvers.transfer.DataForResolve;
 
 import static pl.jalokim.propertiestojson.object.ArrayJsonType.createOrGetNextDimensionOfArray;
-import static pl.jalokim.utils.collection.CollectionUtils.isLastIndex;
+import static pl.jalokim.propertiestojson.object.ArrayJsonType.isLastIndex;
 
 public class ArrayJsonTypeResolver extends JsonTypeResolver {
 
     @Override
-    public ObjectJsonType traverse(PathMetadata currentPathMetaData) {
-        fetchJsonObjectAndCreateArrayWhenNotExist(currentPathMetaData);
-        return currentObjectJsonType;
+    public ObjectJsonType traverse(DataForResolve dataForResolve) {
+        return fetchJsonObjectAndCreateArrayWhenNotExist(dataForResolve.getCurrentObjectJsonType(), dataForResolve.getCurrentPathMetaData());
     }
 
-    private void fetchJsonObjectAndCreateArrayWhenNotExist(PathMetadata currentPathMetaData) {
-        if(isArrayExist(currentPathMetaData.getFieldName())) {
-            fetchArrayAndAddElement(currentPathMetaData);
-        } else {
-            createArrayAndAddElement(currentPathMetaData);
+    private ObjectJsonType fetchJsonObjectAndCreateArrayWhenNotExist(ObjectJsonType currentObjectJsonType, PathMetadata currentPathMetaData) {
+        if(currentObjectJsonType.containsField(currentPathMetaData.getFieldName())) {
+            return fetchArrayAndAddElement(currentObjectJsonType, currentPathMetaData);
         }
+        return createArrayAndAddElement(currentObjectJsonType, currentPathMetaData);
     }
 
-    private boolean isArrayExist(String field) {
-        return currentObjectJsonType.containsField(field);
-    }
-
-    private void fetchArrayAndAddElement(PathMetadata currentPathMetaData) {
+    private ObjectJsonType fetchArrayAndAddElement(ObjectJsonType currentObjectJsonType, PathMetadata currentPathMetaData) {
         PropertyArrayHelper propertyArrayHelper = currentPathMetaData.getPropertyArrayHelper();
-        ArrayJsonType arrayJsonType = getArrayJsonWhenIsValid(currentPathMetaData);
-        List<Integer> dimIndexes = propertyArrayHelper.getDimensionalIndexes();
+        ArrayJsonType arrayJsonType = getArrayJsonWhenIsValid(currentObjectJsonType, currentPathMetaData);
+        int[] dimIndexes = propertyArrayHelper.getDimensionalIndexArray();
         ArrayJsonType currentArray = arrayJsonType;
-        for(int index = 0; index < dimIndexes.size(); index++) {
+        ObjectJsonType nextObjectJsonType = currentObjectJsonType;
+        for(int index = 0; index < dimIndexes.length; index++) {
             if(isLastIndex(dimIndexes, index)) {
-                int lastDimIndex = dimIndexes.get(index);
+                int lastDimIndex = dimIndexes[index];
                 if(currentArray.existElementByGivenIndex(lastDimIndex)) {
-                    fetchJsonObjectWhenIsValid(currentPathMetaData, lastDimIndex, currentArray);
+                    nextObjectJsonType = fetchJsonObjectWhenIsValid(currentPathMetaData, lastDimIndex, currentArray);
                 } else {
-                    createJsonObjectAndAddToArray(lastDimIndex, currentArray, currentPathMetaData);
+                    nextObjectJsonType = createJsonObjectAndAddToArray(currentObjectJsonType, lastDimIndex, currentArray, currentPathMetaData);
                 }
             } else {
                 currentArray = createOrGetNextDimensionOfArray(currentArray, dimIndexes, index, currentPathMetaData);
             }
         }
+        return nextObjectJsonType;
     }
 
-    private void createJsonObjectAndAddToArray(int index, ArrayJsonType arrayJsonType, PathMetadata currentPathMetaData) {
-        ObjectJsonType nextObjectJsonType = new ObjectJsonType();
+    private ObjectJsonType createJsonObjectAndAddToArray(ObjectJsonType currentObjectJsonType, int index, ArrayJsonType arrayJsonType,
+                                                         PathMetadata currentPathMetaData) {
+        ObjectJsonType nextObjectJsonType = new ObjectJsonType(currentObjectJsonType);
         arrayJsonType.addElement(index, nextObjectJsonType, currentPathMetaData);
-        currentObjectJsonType = nextObjectJsonType;
+        return nextObjectJsonType;
     }
 
-    private void fetchJsonObjectWhenIsValid(PathMetadata currentPathMetaData, int index, ArrayJsonType arrayJsonType) {
+    private ObjectJsonType fetchJsonObjectWhenIsValid(PathMetadata currentPathMetaData, int index, ArrayJsonType arrayJsonType) {
         AbstractJsonType element = arrayJsonType.getElement(index);
         JsonObjectFieldsValidator.checkEarlierWasJsonObject(currentPathMetaData.getOriginalPropertyKey(), currentPathMetaData, element);
-        currentObjectJsonType = (ObjectJsonType) element;
+        return (ObjectJsonType) element;
     }
 
-    private void createArrayAndAddElement(PathMetadata currentPathMetaData) {
+    private ObjectJsonType createArrayAndAddElement(ObjectJsonType currentObjectJsonType, PathMetadata currentPathMetaData) {
         ArrayJsonType arrayJsonTypeObject = new ArrayJsonType();
-        ObjectJsonType nextObjectJsonType = new ObjectJsonType();
+        ObjectJsonType nextObjectJsonType = new ObjectJsonType(currentObjectJsonType);
         arrayJsonTypeObject.addElement(currentPathMetaData.getPropertyArrayHelper(), nextObjectJsonType, currentPathMetaData);
         currentObjectJsonType.addField(currentPathMetaData.getFieldName(), arrayJsonTypeObject, currentPathMetaData);
-        currentObjectJsonType = nextObjectJsonType;
+        return nextObjectJsonType;
     }
 }
@@ -1,31 +1,37 @@
 package pl.jalokim.propertiestojson.resolvers;
 
 
-import java.util.Map;
-
 import pl.jalokim.propertiestojson.object.AbstractJsonType;
 import pl.jalokim.propertiestojson.object.ArrayJsonType;
 import pl.jalokim.propertiestojson.object.ObjectJsonType;
 import pl.jalokim.propertiestojson.path.PathMetadata;
 import pl.jalokim.propertiestojson.resolvers.transfer.DataForResolve;
+import pl.jalokim.propertiestojson.util.exception.CannotOverrideFieldException;
 
+/**
+ * Resolver of one field in path of property key. Resolvers are shared by all conversions of one converter
+ * so they don't keep state of traverse, all state of current step is given in {@link DataForResolve}.
+ */
 public abstract class JsonTypeResolver {
 
-    protected Map<String, Object> properties;
-    protected String propertyKey;
-    protected ObjectJsonType currentObjectJsonType;
-
-	protected ArrayJsonType getArrayJsonWhenIsValid(PathMetadata currentPathMetaData) {
+	protected ArrayJsonType getArrayJsonWhenIsValid(ObjectJsonType currentObjectJsonType, PathMetadata currentPathMetaData) {
         AbstractJsonType jsonType = currentObjectJsonType.getField(currentPathMetaData.getFieldName());
+        if(!(jsonType instanceof ArrayJsonType)) {
+            throw new CannotOverrideFieldException(currentPathMetaData.getCurrentFullPathWithoutIndexes(), jsonType,
+                                                   currentPathMetaData.getOriginalPropertyKey());
+        }
         return (ArrayJsonType) jsonType;
     }
 
-    public abstract ObjectJsonType traverse(PathMetadata currentPathMetaData);
+    /**
+     * It resolves current field in current json object.
+     *
+     * @param dataForResolve current json object, current field and property key
+     * @return json object for next field in path
+     */
+    public abstract ObjectJsonType traverse(DataForResolve dataForResolve);
 
     public final ObjectJsonType traverseOnObjectAndInitByField(DataForResolve dataForResolve) {
-        properties = dataForResolve.getProperties();
-        propertyKey = dataForResolve.getPropertiesKey();
-        currentObjectJsonType = dataForResolve.getCurrentObjectJsonType();
-        return traverse(dataForResolve.getCurrentPathMetaData());
+        return traverse(dataForResolve);
     }
 }
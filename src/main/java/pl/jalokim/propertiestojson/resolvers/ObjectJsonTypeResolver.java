@@ -4,33 +4,35 @@ import pl.jalokim.propertiestojson.JsonObjectFieldsValidator;
 import pl.jalokim.propertiestojson.object.AbstractJsonType;
 import pl.jalokim.propertiestojson.object.ObjectJsonType;
 import pl.jalokim.propertiestojson.path.PathMetadata;
+import pl.jalokim.propertiestojson.resolvers.transfer.DataForResolve;
 
 public class ObjectJsonTypeResolver extends JsonTypeResolver {
 
 
     @Override
-    public ObjectJsonType traverse(PathMetadata currentPathMetaData) {
-        fetchJsonObjectOrCreate(currentPathMetaData);
-        return currentObjectJsonType;
+    public ObjectJsonType traverse(DataForResolve dataForResolve) {
+        return fetchJsonObjectOrCreate(dataForResolve.getCurrentObjectJsonType(), dataForResolve.getCurrentPathMetaData(),
+                                       dataForResolve.getPropertiesKey());
     }
 
-    private void fetchJsonObjectOrCreate(PathMetadata currentPathMetaData) {
+    private ObjectJsonType fetchJsonObjectOrCreate(ObjectJsonType currentObjectJsonType, PathMetadata currentPathMetaData,
+                                                   String propertyKey) {
         if (currentObjectJsonType.containsField(currentPathMetaData.getFieldName())) {
-            fetchJsonObjectWhenIsNotPrimitive(currentPathMetaData);
-        } else {
-            createNewJsonObjectAndAssignToCurrent(currentPathMetaData);
+            return fetchJsonObjectWhenIsNotPrimitive(currentObjectJsonType, currentPathMetaData, propertyKey);
         }
+        return createNewJsonObjectAndAssignToCurrent(currentObjectJsonType, currentPathMetaData);
     }
 
-    private void createNewJsonObjectAndAssignToCurrent(PathMetadata currentPathMetaData) {
-        ObjectJsonType nextObjectJsonType = new ObjectJsonType();
+    private ObjectJsonType createNewJsonObjectAndAssignToCurrent(ObjectJsonType currentObjectJsonType, PathMetadata currentPathMetaData) {
+        ObjectJsonType nextObjectJsonType = new ObjectJsonType(currentObjectJsonType);
         currentObjectJsonType.addField(currentPathMetaData.getFieldName(), nextObjectJsonType, currentPathMetaData);
-        currentObjectJsonType = nextObjectJsonType;
+        return nextObjectJsonType;
     }
 
-    private void fetchJsonObjectWhenIsNotPrimitive(PathMetadata currentPathMetaData) {
+    private ObjectJsonType fetchJsonObjectWhenIsNotPrimitive(ObjectJsonType currentObjectJsonType, PathMetadata currentPathMetaData,
+                                                             String propertyKey) {
         AbstractJsonType jsonType = currentObjectJsonType.getField(currentPathMetaData.getFieldName());
         JsonObjectFieldsValidator.checkEarlierWasJsonObject(propertyKey, currentPathMetaData, jsonType);
-        currentObjectJsonType = (ObjectJsonType) jsonType;
+        return (ObjectJsonType) jsonType;
     }
 }
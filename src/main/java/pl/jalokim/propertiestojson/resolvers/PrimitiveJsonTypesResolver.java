@@ -6,12 +6,14 @@ import pl.jalokim.propertiestojson.object.AbstractJsonType;
 import pl.jalokim.propertiestojson.object.ArrayJsonType;
 import pl.jalokim.propertiestojson.object.JsonNullReferenceType;
 import pl.jalokim.propertiestojson.object.ObjectJsonType;
+import pl.jalokim.propertiestojson.object.PrimitiveJsonTypesInterner;
 import pl.jalokim.propertiestojson.object.SkipJsonField;
 import pl.jalokim.propertiestojson.path.PathMetadata;
 import pl.jalokim.propertiestojson.resolvers.hierarchy.JsonTypeResolversHierarchyResolver;
 import pl.jalokim.propertiestojson.resolvers.primitives.object.NullToJsonTypeConverter;
 import pl.jalokim.propertiestojson.resolvers.primitives.object.ObjectToJsonTypeConverter;
 import pl.jalokim.propertiestojson.resolvers.primitives.string.TextToConcreteObjectResolver;
+import pl.jalokim.propertiestojson.resolvers.transfer.DataForResolve;
 import pl.jalokim.propertiestojson.util.exception.CannotOverrideFieldException;
 
 import java.util.List;
@@ -19,39 +21,96 @@ import java.util.Optional;
 
 import static pl.jalokim.propertiestojson.JsonObjectFieldsValidator.isArrayJson;
 import static pl.jalokim.propertiestojson.object.JsonNullReferenceType.NULL_OBJECT;
+import static pl.jalokim.propertiestojson.resolvers.primitives.utils.JsonObjectHelper.forgetParsedJsonObjectOrArray;
 
 public class PrimitiveJsonTypesResolver extends JsonTypeResolver {
 
     private final List<TextToConcreteObjectResolver> toObjectsResolvers;
+    private final TextResolversDispatchTable toObjectsResolversDispatchTable;
     private final JsonTypeResolversHierarchyResolver resolversHierarchyResolver;
     private final Boolean skipNulls;
     private final NullToJsonTypeConverter nullToJsonTypeConverter;
+    private final PrimitiveJsonTypesInterner primitiveJsonTypesInterner;
+    private final ResolvedValuesCache resolvedValuesCache;
+    private final int firstKeySensitiveResolverIndex;
 
     public PrimitiveJsonTypesResolver(List<TextToConcreteObjectResolver> toObjectsResolvers,
                                       List<ObjectToJsonTypeConverter> toJsonResolvers,
                                       Boolean skipNulls,
                                       NullToJsonTypeConverter nullToJsonTypeConverter) {
+        this(toObjectsResolvers, toJsonResolvers, skipNulls, nullToJsonTypeConverter, new PrimitiveJsonTypesInterner());
+    }
+
+    /**
+     * It creates resolver which returns shared instances of equal leaf values.
+     *
+     * @param toObjectsResolvers         resolvers from text to java objects
+     * @param toJsonResolvers            converters from java objects to json types
+     * @param skipNulls                  when true then null values will be skipped
+     * @param nullToJsonTypeConverter    converter for null values
+     * @param primitiveJsonTypesInterner interner of resolved booleans, numbers and texts
+     */
+    public PrimitiveJsonTypesResolver(List<TextToConcreteObjectResolver> toObjectsResolvers,
+                                      List<ObjectToJsonTypeConverter> toJsonResolvers,
+                                      Boolean skipNulls,
+                                      NullToJsonTypeConverter nullToJsonTypeConverter,
+                                      PrimitiveJsonTypesInterner primitiveJsonTypesInterner) {
+        this(toObjectsResolvers, toJsonResolvers, skipNulls, nullToJsonTypeConverter, primitiveJsonTypesInterner,
+             new ResolvedValuesCache(ResolvedValuesCache.DISABLED));
+    }
+
+    /**
+     * It creates resolver which returns shared instances of equal leaf values and which caches values resolved from texts.
+     *
+     * @param toObjectsResolvers         resolvers from text to java objects
+     * @param toJsonResolvers            converters from java objects to json types
+     * @param skipNulls                  when true then null values will be skipped
+     * @param nullToJsonTypeConverter    converter for null values
+     * @param primitiveJsonTypesInterner interner of resolved booleans, numbers and texts
+     * @param resolvedValuesCache        cache of values resolved from raw texts of properties
+     */
+    public PrimitiveJsonTypesResolver(List<TextToConcreteObjectResolver> toObjectsResolvers,
+                                      List<ObjectToJsonTypeConverter> toJsonResolvers,
+                                      Boolean skipNulls,
+                                      NullToJsonTypeConverter nullToJsonTypeConverter,
+                                      PrimitiveJsonTypesInterner primitiveJsonTypesInterner,
+                                      ResolvedValuesCache resolvedValuesCache) {
         this.toObjectsResolvers = ImmutableList.copyOf(toObjectsResolvers);
+        this.toObjectsResolversDispatchTable = new TextResolversDispatchTable(this.toObjectsResolvers);
         this.resolversHierarchyResolver = new JsonTypeResolversHierarchyResolver(toJsonResolvers);
         this.skipNulls = skipNulls;
         this.nullToJsonTypeConverter = nullToJsonTypeConverter;
+        this.primitiveJsonTypesInterner = primitiveJsonTypesInterner;
+        this.resolvedValuesCache = resolvedValuesCache;
+        this.firstKeySensitiveResolverIndex = findFirstKeySensitiveResolver(this.toObjectsResolvers);
+    }
+
+    private static int findFirstKeySensitiveResolver(List<TextToConcreteObjectResolver> resolvers) {
+        for(int index = 0; index < resolvers.size(); index++) {
+            if(resolvers.get(index).isPropertyKeySensitive()) {
+                return index;
+            }
+        }
+        return resolvers.size();
     }
 
     @Override
-    public ObjectJsonType traverse(PathMetadata currentPathMetaData) {
-        addPrimitiveFieldWhenIsValid(currentPathMetaData);
+    public ObjectJsonType traverse(DataForResolve dataForResolve) {
+        addPrimitiveFieldWhenIsValid(dataForResolve.getCurrentObjectJsonType(), dataForResolve.getCurrentPathMetaData(),
+                                     dataForResolve.getPropertiesKey());
         return null;
     }
 
-    private void addPrimitiveFieldWhenIsValid(PathMetadata currentPathMetaData) {
+    private void addPrimitiveFieldWhenIsValid(ObjectJsonType currentObjectJsonType, PathMetadata currentPathMetaData, String propertyKey) {
         JsonObjectFieldsValidator.checkThatFieldCanBeSet(currentObjectJsonType, currentPathMetaData, propertyKey);
-        addPrimitiveFieldToCurrentJsonObject(currentPathMetaData);
+        addPrimitiveFieldToCurrentJsonObject(currentObjectJsonType, currentPathMetaData, propertyKey);
     }
 
-    private void addPrimitiveFieldToCurrentJsonObject(PathMetadata currentPathMetaData) {
+    private void addPrimitiveFieldToCurrentJsonObject(ObjectJsonType currentObjectJsonType, PathMetadata currentPathMetaData,
+                                                      String propertyKey) {
         String field = currentPathMetaData.getFieldName();
         if(currentPathMetaData.isArrayField()) {
-            addFieldToArray(currentPathMetaData);
+            addFieldToArray(currentObjectJsonType, currentPathMetaData);
         } else {
             if(currentObjectJsonType.containsField(field) && isArrayJson(currentObjectJsonType.getField(field))) {
                 AbstractJsonType abstractJsonType = currentPathMetaData.getJsonValue();
@@ -71,14 +130,67 @@ public class PrimitiveJsonTypesResolver extends JsonTypeResolver {
         }
     }
 
+    /**
+     * It resolves java object from raw text of property value by first resolver which can resolve it.
+     * Resolvers which cannot resolve given text according to their {@link TextToConcreteObjectResolver#getApplicabilityHint()}
+     * are skipped.
+     * When cache of resolved values is enabled then the same raw text is resolved only once, unless
+     * some resolver which depends on property key was used.
+     *
+     * @param propertyValue raw text of property value
+     * @param propertyKey   property key
+     * @return resolved object
+     */
     public Object getResolvedObject(String propertyValue, String propertyKey) {
+        Object cachedObject = resolvedValuesCache.get(propertyValue);
+        if(cachedObject != null) {
+            return cachedObject;
+        }
+        try {
+            return resolveObject(propertyValue, propertyKey);
+        } finally {
+            forgetParsedJsonObjectOrArray();
+        }
+    }
+
+    private Object resolveObject(String propertyValue, String propertyKey) {
         Optional<?> objectOptional = Optional.empty();
-        for(TextToConcreteObjectResolver primitiveResolver : toObjectsResolvers) {
-            if(!objectOptional.isPresent()) {
-                objectOptional = primitiveResolver.returnConvertedValueForClearedText(this, propertyValue, propertyKey);
+        int resolverIndex = toObjectsResolvers.size();
+        if(propertyValue == null) {
+            for(int index = 0; index < toObjectsResolvers.size(); index++) {
+                objectOptional = toObjectsResolvers.get(index).returnConvertedValueForClearedText(this, null, propertyKey);
+                if(objectOptional.isPresent()) {
+                    resolverIndex = index;
+                    break;
+                }
+            }
+        } else {
+            String trimmedValue = propertyValue.trim();
+            for(int index : toObjectsResolversDispatchTable.getResolversIndexes(trimmedValue)) {
+                if(toObjectsResolversDispatchTable.canResolve(index, trimmedValue)) {
+                    objectOptional = toObjectsResolvers.get(index).returnConvertedValueForClearedText(this, propertyValue, propertyKey);
+                    if(objectOptional.isPresent()) {
+                        resolverIndex = index;
+                        break;
+                    }
+                }
             }
         }
-        return objectOptional.orElse(null);
+        Object resolvedObject = objectOptional.orElse(null);
+        if(resolvedObject != null && canBeCached(resolverIndex, resolvedObject)) {
+            return resolvedValuesCache.put(propertyValue, resolvedObject);
+        }
+        return resolvedObject;
+    }
+
+    /**
+     * Elements of list are resolved by all resolvers, so list can be cached only when no resolver depends on property key.
+     */
+    private boolean canBeCached(int resolverIndex, Object resolvedObject) {
+        if(!resolvedValuesCache.isEnabled() || resolverIndex >= firstKeySensitiveResolverIndex) {
+            return false;
+        }
+        return !(resolvedObject instanceof List) || firstKeySensitiveResolverIndex == toObjectsResolvers.size();
     }
 
     public AbstractJsonType resolvePrimitiveTypeAndReturn(Object propertyValue, String propertyKey) {
@@ -93,29 +205,33 @@ public class PrimitiveJsonTypesResolver extends JsonTypeResolver {
             result = SkipJsonField.SKIP_JSON_FIELD;
         }
 
-        return result;
+        return result == null ? null : primitiveJsonTypesInterner.intern(result);
     }
 
-    protected void addFieldToArray(PathMetadata currentPathMetaData) {
-        if(arrayWithGivenFieldNameExist(currentPathMetaData.getFieldName())) {
-            fetchArrayAndAddElement(currentPathMetaData);
-        } else {
-            createArrayAndAddElement(currentPathMetaData);
-        }
+    public PrimitiveJsonTypesInterner getPrimitiveJsonTypesInterner() {
+        return primitiveJsonTypesInterner;
     }
 
-    private boolean arrayWithGivenFieldNameExist(String field) {
-        return currentObjectJsonType.containsField(field);
+    public ResolvedValuesCache getResolvedValuesCache() {
+        return resolvedValuesCache;
+    }
+
+    protected void addFieldToArray(ObjectJsonType currentObjectJsonType, PathMetadata currentPathMetaData) {
+        if(currentObjectJsonType.containsField(currentPathMetaData.getFieldName())) {
+            fetchArrayAndAddElement(currentObjectJsonType, currentPathMetaData);
+        } else {
+            createArrayAndAddElement(currentObjectJsonType, currentPathMetaData);
+        }
     }
 
-    private void createArrayAndAddElement(PathMetadata currentPathMetaData) {
+    private void createArrayAndAddElement(ObjectJsonType currentObjectJsonType, PathMetadata currentPathMetaData) {
         ArrayJsonType arrayJsonTypeObject = new ArrayJsonType();
         addElementToArray(currentPathMetaData, arrayJsonTypeObject);
         currentObjectJsonType.addField(currentPathMetaData.getFieldName(), arrayJsonTypeObject, currentPathMetaData);
     }
 
-    private void fetchArrayAndAddElement(PathMetadata currentPathMetaData) {
-        ArrayJsonType arrayJsonType = getArrayJsonWhenIsValid(currentPathMetaData);
+    private void fetchArrayAndAddElement(ObjectJsonType currentObjectJsonType, PathMetadata currentPathMetaData) {
+        ArrayJsonType arrayJsonType = getArrayJsonWhenIsValid(currentObjectJsonType, currentPathMetaData);
         addElementToArray(currentPathMetaData, arrayJsonType);
     }
 
@@ -0,0 +1,201 @@
+package pl.jalokim.propertiestojson.resolvers;
+
+import pl.jalokim.propertiestojson.object.JsonNullReferenceType;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded cache from raw text of property value to object resolved in first conversion phase
+ * by {@link PrimitiveJsonTypesResolver#getResolvedObject(String, String)}.
+ * Least recently used values are removed when cache is full. Cache is split to segments with own locks,
+ * so it can be used by many threads, every segment has own part of max size.
+ * Only immutable values are cached: texts, booleans, characters, numbers from java.lang and java.math, json null
+ * and lists with such elements (stored as unmodifiable lists).
+ */
+public class ResolvedValuesCache {
+
+    public static final int DISABLED = 0;
+    public static final int MAX_CACHED_TEXT_LENGTH = 1024;
+
+    private static final int MAX_SEGMENTS_COUNT = 16;
+    private static final int MIN_SEGMENT_SIZE = 64;
+    private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<>(Arrays.asList(
+            String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class,
+            Float.class, Double.class, BigInteger.class, BigDecimal.class, JsonNullReferenceType.class));
+
+    private final int maxSize;
+    private final Segment[] segments;
+    private final AtomicLong hitsCount = new AtomicLong();
+    private final AtomicLong missesCount = new AtomicLong();
+    private final AtomicLong evictionsCount = new AtomicLong();
+
+    /**
+     * It creates cache with limited count of values.
+     *
+     * @param maxSize max count of cached values, {@link #DISABLED} means that nothing will be cached
+     */
+    public ResolvedValuesCache(int maxSize) {
+        if(maxSize < 0) {
+            throw new IllegalArgumentException("Max count of cached resolved values cannot be negative, given: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        int segmentsCount = Math.max(1, Math.min(MAX_SEGMENTS_COUNT, maxSize / MIN_SEGMENT_SIZE));
+        this.segments = new Segment[maxSize == DISABLED ? 0 : segmentsCount];
+        for(int index = 0; index < segments.length; index++) {
+            int segmentSize = maxSize / segmentsCount + (index < maxSize % segmentsCount ? 1 : 0);
+            segments[index] = new Segment(segmentSize);
+        }
+    }
+
+    public boolean isEnabled() {
+        return maxSize != DISABLED;
+    }
+
+    /**
+     * It returns cached value for given raw text.
+     *
+     * @param rawValue raw text of property value
+     * @return cached value or null when it is not cached
+     */
+    public Object get(String rawValue) {
+        if(!canBeCached(rawValue)) {
+            return null;
+        }
+        Object cachedValue = segmentFor(rawValue).get(rawValue);
+        if(cachedValue == null) {
+            missesCount.incrementAndGet();
+        } else {
+            hitsCount.incrementAndGet();
+        }
+        return cachedValue;
+    }
+
+    /**
+     * It stores resolved value when it is immutable.
+     *
+     * @param rawValue      raw text of property value
+     * @param resolvedValue value resolved from raw text
+     * @return value which should be used instead of resolved value, the same value or unmodifiable copy of list
+     */
+    public Object put(String rawValue, Object resolvedValue) {
+        if(!canBeCached(rawValue)) {
+            return resolvedValue;
+        }
+        Object valueToCache = toImmutableValue(resolvedValue);
+        if(valueToCache == null) {
+            return resolvedValue;
+        }
+        segmentFor(rawValue).put(rawValue, valueToCache);
+        return valueToCache;
+    }
+
+    public long getHitsCount() {
+        return hitsCount.get();
+    }
+
+    public long getMissesCount() {
+        return missesCount.get();
+    }
+
+    public long getEvictionsCount() {
+        return evictionsCount.get();
+    }
+
+    public int getSize() {
+        int size = 0;
+        for(Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * It removes all cached values and resets counters.
+     */
+    public void clear() {
+        for(Segment segment : segments) {
+            segment.clear();
+        }
+        hitsCount.set(0);
+        missesCount.set(0);
+        evictionsCount.set(0);
+    }
+
+    private boolean canBeCached(String rawValue) {
+        return segments.length > 0 && rawValue != null && rawValue.length() <= MAX_CACHED_TEXT_LENGTH;
+    }
+
+    private Segment segmentFor(String rawValue) {
+        int hash = rawValue.hashCode();
+        return segments[((hash ^ (hash >>> 16)) & Integer.MAX_VALUE) % segments.length];
+    }
+
+    private static Object toImmutableValue(Object value) {
+        if(value != null && IMMUTABLE_TYPES.contains(value.getClass())) {
+            return value;
+        }
+        if(value instanceof List) {
+            List<?> elements = (List<?>) value;
+            List<Object> copiedElements = new ArrayList<>(elements.size());
+            for(Object element : elements) {
+                if(element != null && !IMMUTABLE_TYPES.contains(element.getClass())) {
+                    return null;
+                }
+                copiedElements.add(element);
+            }
+            return Collections.unmodifiableList(copiedElements);
+        }
+        return null;
+    }
+
+    private final class Segment {
+
+        private final Map<String, Object> values;
+
+        private Segment(int maxSegmentSize) {
+            values = new LinkedHashMap<String, Object>(16, 0.75f, true) {
+
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Object> eldest) {
+                    if(size() > maxSegmentSize) {
+                        evictionsCount.incrementAndGet();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        synchronized Object get(String rawValue) {
+            return values.get(rawValue);
+        }
+
+        synchronized void put(String rawValue, Object resolvedValue) {
+            values.put(rawValue, resolvedValue);
+        }
+
+        synchronized int size() {
+            return values.size();
+        }
+
+        synchronized void clear() {
+            values.clear();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package pl.jalokim.propertiestojson.resolvers;
+
+import pl.jalokim.propertiestojson.resolvers.primitives.string.TextResolverHint;
+import pl.jalokim.propertiestojson.resolvers.primitives.string.TextToConcreteObjectResolver;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Indexes of resolvers from text to java object which can resolve text with given first sign, in order of resolvers.
+ * It is built once from {@link TextToConcreteObjectResolver#getApplicabilityHint()} of all resolvers,
+ * so for every text only resolvers which can resolve it are called and order of resolvers stays the same.
+ * Text with first sign out of ASCII is checked by all hints.
+ */
+final class TextResolversDispatchTable {
+
+    private static final int ASCII_SIGNS_COUNT = 128;
+
+    private final TextResolverHint[] hints;
+    private final int[][] resolversByFirstSign;
+    private final int[] resolversForOtherSigns;
+    private final int[] resolversForEmptyText;
+
+    TextResolversDispatchTable(List<TextToConcreteObjectResolver> resolvers) {
+        hints = new TextResolverHint[resolvers.size()];
+        for(int index = 0; index < hints.length; index++) {
+            hints[index] = resolvers.get(index).getApplicabilityHint();
+        }
+        resolversByFirstSign = new int[ASCII_SIGNS_COUNT][];
+        for(char sign = 0; sign < ASCII_SIGNS_COUNT; sign++) {
+            char firstSign = sign;
+            resolversByFirstSign[sign] = findResolvers(hint -> hint.canStartWith(firstSign));
+        }
+        resolversForOtherSigns = findResolvers(hint -> true);
+        resolversForEmptyText = findResolvers(TextResolverHint::canBeEmpty);
+    }
+
+    /**
+     * It returns indexes of resolvers which can resolve text with the same first sign like given text.
+     *
+     * @param trimmedText trimmed text of property value
+     * @return indexes of resolvers in order
+     */
+    int[] getResolversIndexes(String trimmedText) {
+        if(trimmedText.isEmpty()) {
+            return resolversForEmptyText;
+        }
+        char firstSign = trimmedText.charAt(0);
+        return firstSign < ASCII_SIGNS_COUNT ? resolversByFirstSign[firstSign] : resolversForOtherSigns;
+    }
+
+    /**
+     * It checks all conditions of hint of resolver for given text, not only first sign.
+     *
+     * @param resolverIndex index of resolver
+     * @param trimmedText   trimmed text of property value
+     * @return false when resolver cannot resolve given text
+     */
+    boolean canResolve(int resolverIndex, String trimmedText) {
+        TextResolverHint hint = hints[resolverIndex];
+        return hint.isAnyText() || hint.canMatch(trimmedText);
+    }
+
+    private int[] findResolvers(Predicate<TextResolverHint> canResolve) {
+        int[] indexes = new int[hints.length];
+        int count = 0;
+        for(int index = 0; index < hints.length; index++) {
+            if(canResolve.test(hints[index])) {
+                indexes[count++] = index;
+            }
+        }
+        int[] foundIndexes = new int[count];
+        System.arraycopy(indexes, 0, foundIndexes, 0, count);
+        return foundIndexes;
+    }
+}
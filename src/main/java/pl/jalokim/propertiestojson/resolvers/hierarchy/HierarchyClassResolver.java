@@ -24,7 +24,17 @@ public class HierarchyClassResolver {
         if(instance == null) {
             return null;
         }
-        final Class<?> instanceClass = instance.getClass();
+        return searchResolverClass(instance.getClass());
+    }
+
+    /**
+     * It returns the closest class or interface which can resolve instances of given class.
+     *
+     * @param instanceClass class of instance
+     * @return type which can resolve instances or null when not found
+     * @throws ParsePropertiesException when found many interfaces at the same level
+     */
+    public Class<?> searchResolverClass(final Class<?> instanceClass) {
         SearchContext searchContext = new SearchContext();
 
         for(Class<?> resolverClass : resolverClasses) {
@@ -66,7 +76,7 @@ public class HierarchyClassResolver {
 
         throw new ParsePropertiesException(String.format(ERROR_MSG,
                                                          foundClasses.size(),
-                                                         instance.getClass().getCanonicalName(),
+                                                         instanceClass.getCanonicalName(),
                                                          concatElementsAsLines(foundClasses)));
     }
 
@@ -24,11 +24,22 @@ import static pl.jalokim.propertiestojson.util.exception.ParsePropertiesExceptio
  * if not then will looks for closets parent class or parent interface.
  * If will find resolver for parent class or parent interface at the same level, then will get parent super class as first.
  * If will find only closets super interfaces (at the same level) then will throw exception...
+ * Found resolvers, or error for them, are remembered for every class of instance, so classes hierarchy is searched only once for class.
  */
 public class JsonTypeResolversHierarchyResolver {
 
     private final Map<Class<?>, List<ObjectToJsonTypeConverter<?>>> resolversByType = new HashMap<>();
     private final HierarchyClassResolver hierarchyClassResolver;
+    private final ClassValue<ResolversForClass> resolversByInstanceClass = new ClassValue<ResolversForClass>() {
+        @Override
+        protected ResolversForClass computeValue(Class<?> instanceClass) {
+            try {
+                return new ResolversForClass(findResolvers(instanceClass), null);
+            } catch(ParsePropertiesException ex) {
+                return new ResolversForClass(null, ex.getMessage());
+            }
+        }
+    };
 
     public JsonTypeResolversHierarchyResolver(List<ObjectToJsonTypeConverter> resolvers) {
         for(ObjectToJsonTypeConverter<?> resolver : resolvers) {
@@ -55,38 +66,60 @@ public class JsonTypeResolversHierarchyResolver {
                                                          String propertyKey) {
         Objects.requireNonNull(instance);
         Class<?> instanceClass = instance.getClass();
+        List<ObjectToJsonTypeConverter<?>> resolvers = resolversByInstanceClass.get(instanceClass).getResolvers();
+        for(ObjectToJsonTypeConverter<?> resolver : resolvers) {
+            Optional<AbstractJsonType> abstractJsonType = resolver.returnOptionalJsonType(mainResolver, instance, propertyKey);
+            if(abstractJsonType.isPresent()) {
+                return abstractJsonType.get();
+            }
+        }
+        throw new ParsePropertiesException(format(CANNOT_FIND_JSON_TYPE_OBJ, instanceClass, propertyKey, instance));
+    }
+
+    private List<ObjectToJsonTypeConverter<?>> findResolvers(Class<?> instanceClass) {
         List<ObjectToJsonTypeConverter<?>> resolvers = resolversByType.get(instanceClass);
         if(resolvers == null) {
-            Class<?> typeWhichCanResolve = hierarchyClassResolver.searchResolverClass(instance);
+            Class<?> typeWhichCanResolve = hierarchyClassResolver.searchResolverClass(instanceClass);
             if(typeWhichCanResolve == null) {
                 throw new ParsePropertiesException(format(CANNOT_FIND_TYPE_RESOLVER_MSG, instanceClass));
             }
             resolvers = resolversByType.get(typeWhichCanResolve);
         }
 
-        if(!resolvers.isEmpty()) {
-            if(instanceClass != String.class && resolvers.size() > 1 &&
-               resolvers.stream().anyMatch(resolver -> resolver instanceof PrimitiveJsonTypeResolverToNewApiAdapter)) {
-                List<Class<?>> resolversClasses = resolvers.stream()
-                                                           .map(resolver -> {
-                                                               if(resolver instanceof PrimitiveJsonTypeResolverToNewApiAdapter) {
-                                                                   PrimitiveJsonTypeResolverToNewApiAdapter adapter = (PrimitiveJsonTypeResolverToNewApiAdapter) resolver;
-                                                                   PrimitiveJsonTypeResolver oldImplementation = adapter.getOldImplementation();
-                                                                   return oldImplementation.getClass();
-                                                               }
-                                                               return resolver.getClass();
-                                                           }).collect(toList());
-                throw new ParsePropertiesException("Found: " + new ArrayList<>(resolversClasses) + " for type" + instanceClass + " expected only one!");
-            }
+        if(instanceClass != String.class && resolvers.size() > 1 &&
+           resolvers.stream().anyMatch(resolver -> resolver instanceof PrimitiveJsonTypeResolverToNewApiAdapter)) {
+            List<Class<?>> resolversClasses = resolvers.stream()
+                                                       .map(resolver -> {
+                                                           if(resolver instanceof PrimitiveJsonTypeResolverToNewApiAdapter) {
+                                                               PrimitiveJsonTypeResolverToNewApiAdapter adapter = (PrimitiveJsonTypeResolverToNewApiAdapter) resolver;
+                                                               PrimitiveJsonTypeResolver oldImplementation = adapter.getOldImplementation();
+                                                               return oldImplementation.getClass();
+                                                           }
+                                                           return resolver.getClass();
+                                                       }).collect(toList());
+            throw new ParsePropertiesException("Found: " + new ArrayList<>(resolversClasses) + " for type" + instanceClass + " expected only one!");
+        }
+        return resolvers;
+    }
 
-            for(ObjectToJsonTypeConverter<?> resolver : resolvers) {
-                Optional<AbstractJsonType> abstractJsonType = resolver.returnOptionalJsonType(mainResolver, instance, propertyKey);
-                if(abstractJsonType.isPresent()) {
-                    return abstractJsonType.get();
-                }
-            }
+    /**
+     * Resolvers for class of instance or message of error when resolvers cannot be used for this class.
+     */
+    private static final class ResolversForClass {
+
+        private final List<ObjectToJsonTypeConverter<?>> resolvers;
+        private final String errorMessage;
+
+        private ResolversForClass(List<ObjectToJsonTypeConverter<?>> resolvers, String errorMessage) {
+            this.resolvers = resolvers;
+            this.errorMessage = errorMessage;
         }
 
-        throw new ParsePropertiesException(format(CANNOT_FIND_JSON_TYPE_OBJ, instanceClass, propertyKey, instance));
+        private List<ObjectToJsonTypeConverter<?>> getResolvers() {
+            if(errorMessage != null) {
+                throw new ParsePropertiesException(errorMessage);
+            }
+            return resolvers;
+        }
     }
 }
@@ -6,24 +6,49 @@ import pl.jalokim.propertiestojson.resolvers.primitives.PrimitiveJsonTypeResolve
 import pl.jalokim.propertiestojson.resolvers.primitives.object.ObjectToJsonTypeConverter;
 import pl.jalokim.propertiestojson.resolvers.primitives.string.TextToConcreteObjectResolver;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Optional;
 
-import static java.util.Arrays.asList;
-import static pl.jalokim.utils.reflection.InvokableReflectionUtils.invokeMethod;
 import static pl.jalokim.utils.reflection.InvokableReflectionUtils.setValueForField;
 
 @SuppressWarnings("unchecked")
 public final class PrimitiveJsonTypeResolverToNewApiAdapter extends PrimitiveJsonTypeResolver
         implements TextToConcreteObjectResolver, ObjectToJsonTypeConverter {
 
+    private static final String RESOLVE_VALUE_METHOD_NAME = "returnConcreteValueWhenCanBeResolved";
+    private static final MethodType RESOLVE_VALUE_METHOD_TYPE = MethodType.methodType(Optional.class,
+                                                                                      PrimitiveJsonTypesResolver.class, String.class, String.class);
+
     private final PrimitiveJsonTypeResolver oldImplementation;
+    private final MethodHandle resolveValueOfOldImplementation;
 
     public PrimitiveJsonTypeResolverToNewApiAdapter(PrimitiveJsonTypeResolver oldImplementation) {
         this.oldImplementation = oldImplementation;
+        this.resolveValueOfOldImplementation = oldImplementation == null ? null : bindResolveValueMethod(oldImplementation);
         setValueForField(this, "canResolveClass", resolveTypeOfResolver());
     }
 
+    /**
+     * Method of old implementation is protected, so it is found by reflection only once and bound to old implementation.
+     */
+    private static MethodHandle bindResolveValueMethod(PrimitiveJsonTypeResolver oldImplementation) {
+        try {
+            Method resolveValueMethod = PrimitiveJsonTypeResolver.class.getDeclaredMethod(RESOLVE_VALUE_METHOD_NAME,
+                                                                                         RESOLVE_VALUE_METHOD_TYPE.parameterArray());
+            resolveValueMethod.setAccessible(true);
+            return MethodHandles.lookup()
+                                .unreflect(resolveValueMethod)
+                                .bindTo(oldImplementation)
+                                .asType(RESOLVE_VALUE_METHOD_TYPE);
+        } catch(NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException("Cannot bind method " + RESOLVE_VALUE_METHOD_NAME + " of " + oldImplementation.getClass(), e);
+        }
+    }
+
     @Override // from PrimitiveJsonTypeResolver and ObjectToJsonTypeConverter
     public Class<?> resolveTypeOfResolver() {
         if (oldImplementation != null) {
@@ -45,9 +70,13 @@ public final class PrimitiveJsonTypeResolverToNewApiAdapter extends PrimitiveJso
     protected Optional<Object> returnConcreteValueWhenCanBeResolved(PrimitiveJsonTypesResolver primitiveJsonTypesResolver,
                                                                     String propertyValue,
                                                                     String propertyKey) {
-        return invokeMethod(oldImplementation, "returnConcreteValueWhenCanBeResolved",
-                                                     asList(PrimitiveJsonTypesResolver.class, String.class, String.class),
-                                                     asList(primitiveJsonTypesResolver, propertyValue, propertyKey));
+        try {
+            return (Optional<Object>) resolveValueOfOldImplementation.invokeExact(primitiveJsonTypesResolver, propertyValue, propertyKey);
+        } catch(RuntimeException | Error e) {
+            throw e;
+        } catch(Throwable e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     @Override // from PrimitiveJsonTypeResolver
@@ -66,6 +95,16 @@ public final class PrimitiveJsonTypeResolverToNewApiAdapter extends PrimitiveJso
         return Optional.ofNullable(optional.orElse(null));
     }
 
+    /**
+     * Old implementation gets property key, so it is not known that its result depends only on property value.
+     *
+     * @return always true
+     */
+    @Override // from TextToConcreteObjectResolver
+    public boolean isPropertyKeySensitive() {
+        return true;
+    }
+
     @Override // from TextToConcreteObjectResolver
     public Optional<Object> returnObjectWhenCanBeResolved(PrimitiveJsonTypesResolver primitiveJsonTypesResolver,
                                                           String propertyValue,
@@ -1,7 +1,8 @@
 package pl.jalokim.propertiestojson.resolvers.primitives.custom;
 
 import pl.jalokim.propertiestojson.resolvers.PrimitiveJsonTypesResolver;
-import pl.jalokim.propertiestojson.resolvers.primitives.string.TextToConcreteObjectResolver;
+import pl.jalokim.propertiestojson.resolvers.primitives.string.KeyInsensitiveTextResolver;
+import pl.jalokim.propertiestojson.resolvers.primitives.string.TextResolverHint;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -13,7 +14,7 @@ import java.util.Optional;
  * @see <a href="https://github.com/mikolajmitura/java-properties-to-json/blob/v5.1.0/src/test/java/pl/jalokim/propertiestojson/resolvers/primitives/custom/TextToLocalDateResolverTest.java">LocalDateTimeResolverTest</a>
  * @see <a href="https://github.com/mikolajmitura/java-properties-to-json/blob/v5.1.0/src/test/java/pl/jalokim/propertiestojson/resolvers/primitives/custom/LocalDateConvertersTest.java">LocalDateTimeResolverTest</a>
  */
-public class TextToLocalDateResolver implements TextToConcreteObjectResolver<LocalDate> {
+public class TextToLocalDateResolver extends KeyInsensitiveTextResolver<LocalDate> {
 
     private static final String DATE_FORMAT = "dd-MM-yyyy";
     private final DateTimeFormatter formatter;
@@ -24,6 +25,7 @@ public class TextToLocalDateResolver implements TextToConcreteObjectResolver<Loc
 
 
     public TextToLocalDateResolver(String formatOfDate) {
+        super(TextToLocalDateResolver.class, TextResolverHint.ANY_TEXT);
         formatter = DateTimeFormatter.ofPattern(formatOfDate);
     }
 
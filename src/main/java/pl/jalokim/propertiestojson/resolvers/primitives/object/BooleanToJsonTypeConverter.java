@@ -12,6 +12,6 @@ public class BooleanToJsonTypeConverter extends AbstractObjectToJsonTypeConverte
     public Optional<AbstractJsonType> convertToJsonTypeOrEmpty(PrimitiveJsonTypesResolver primitiveJsonTypesResolver,
                                                                Boolean convertedValue,
                                                                String propertyKey) {
-        return Optional.of(new BooleanJsonType(convertedValue));
+        return Optional.of(BooleanJsonType.valueOf(convertedValue));
     }
 }
@@ -1,17 +1,43 @@
 package pl.jalokim.propertiestojson.resolvers.primitives.object;
 
 import pl.jalokim.propertiestojson.object.AbstractJsonType;
+import pl.jalokim.propertiestojson.object.DoubleJsonType;
+import pl.jalokim.propertiestojson.object.LongJsonType;
 import pl.jalokim.propertiestojson.object.NumberJsonType;
 import pl.jalokim.propertiestojson.resolvers.PrimitiveJsonTypesResolver;
 
+import java.math.BigInteger;
 import java.util.Optional;
 
+/**
+ * It converts numbers to the narrowest json number type. Integer numbers which fit in long are converted to {@link LongJsonType},
+ * doubles to {@link DoubleJsonType} and other numbers to {@link NumberJsonType}, so text of every number in json is not changed.
+ */
 public class NumberToJsonTypeConverter extends AbstractObjectToJsonTypeConverter<Number> {
 
     @Override
     public Optional<AbstractJsonType> convertToJsonTypeOrEmpty(PrimitiveJsonTypesResolver primitiveJsonTypesResolver,
                                                                Number convertedValue,
                                                                String propertyKey) {
-        return Optional.of(new NumberJsonType(convertedValue));
+        return Optional.of(toNarrowestJsonType(convertedValue));
+    }
+
+    /**
+     * It returns json number type with primitive value when text of primitive value is the same like text of given number.
+     *
+     * @param number number to convert
+     * @return json number
+     */
+    public static AbstractJsonType toNarrowestJsonType(Number number) {
+        if(number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte) {
+            return new LongJsonType(number.longValue());
+        }
+        if(number instanceof BigInteger && ((BigInteger) number).bitLength() < Long.SIZE) {
+            return new LongJsonType(number.longValue());
+        }
+        if(number instanceof Double) {
+            return new DoubleJsonType(number.doubleValue());
+        }
+        return new NumberJsonType(number);
     }
 }
@@ -12,6 +12,7 @@ import static pl.jalokim.propertiestojson.resolvers.primitives.utils.JsonObjectH
 import static pl.jalokim.propertiestojson.resolvers.primitives.utils.JsonObjectHelper.createObjectJsonType;
 import static pl.jalokim.propertiestojson.resolvers.primitives.utils.JsonObjectHelper.toJson;
 import static pl.jalokim.propertiestojson.resolvers.primitives.utils.JsonObjectHelper.toJsonElement;
+import static pl.jalokim.propertiestojson.resolvers.primitives.utils.JsonObjectHelper.toJsonObjectOrArray;
 
 public class SuperObjectToJsonTypeConverter extends AbstractObjectToJsonTypeConverter<Object> {
 
@@ -37,12 +38,17 @@ public class SuperObjectToJsonTypeConverter extends AbstractObjectToJsonTypeConv
     /**
      * It convert to implementation of AbstractJsonType through use of json for conversion from java object to raw json,
      * then raw json convert to com.google.gson.JsonElement, and this JsonElement to instance of AbstractJsonType (json object, array json, or simple text json)
+     * Java beans, collections, maps and arrays are converted directly to json types with the same result.
      *
      * @param propertyValue java bean to convert to instance of AbstractJsonType.
      * @param propertyKey   currently processed propertyKey from properties.
      * @return instance of AbstractJsonType
      */
     public static AbstractJsonType convertFromObjectToJson(Object propertyValue, String propertyKey) {
+        AbstractJsonType jsonObjectOrArray = toJsonObjectOrArray(propertyValue);
+        if(jsonObjectOrArray != null) {
+            return jsonObjectOrArray;
+        }
         return convertToObjectArrayOrJsonText(toJsonElement(toJson(propertyValue)), propertyKey);
     }
 
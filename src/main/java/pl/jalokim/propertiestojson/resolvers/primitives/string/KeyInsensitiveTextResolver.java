@@ -0,0 +1,35 @@
+package pl.jalokim.propertiestojson.resolvers.primitives.string;
+
+/**
+ * Base of built-in resolvers which resolve value only from text of property value, so their results can be cached
+ * and they can be skipped by {@link TextResolverHint}. It is true only for instances of exactly given resolver class,
+ * subclasses can resolve value by property key or resolve other texts, so they are treated like any other resolver.
+ *
+ * @param <T> type of resolved value
+ */
+public abstract class KeyInsensitiveTextResolver<T> implements TextToConcreteObjectResolver<T> {
+
+    private final boolean propertyKeySensitive;
+    private final TextResolverHint applicabilityHint;
+
+    /**
+     * It creates resolver which is not sensitive to property key when it is instance of exactly given class.
+     *
+     * @param resolverClass     class of built-in resolver which calls this constructor
+     * @param applicabilityHint hint of texts which can be resolved by instance of exactly given class
+     */
+    protected KeyInsensitiveTextResolver(Class<? extends KeyInsensitiveTextResolver<?>> resolverClass, TextResolverHint applicabilityHint) {
+        this.propertyKeySensitive = getClass() != resolverClass;
+        this.applicabilityHint = propertyKeySensitive ? TextResolverHint.ANY_TEXT : applicabilityHint;
+    }
+
+    @Override
+    public boolean isPropertyKeySensitive() {
+        return propertyKeySensitive;
+    }
+
+    @Override
+    public TextResolverHint getApplicabilityHint() {
+        return applicabilityHint;
+    }
+}
@@ -0,0 +1,127 @@
+package pl.jalokim.propertiestojson.resolvers.primitives.string;
+
+/**
+ * Cheap conditions which text of property value (after trim) needs to meet, so some {@link TextToConcreteObjectResolver}
+ * can resolve it. It is used only for skip resolvers which cannot resolve given text, so it can accept more texts than
+ * resolver but never less. Conditions of one hint are met together, hints joined by {@link #or(TextResolverHint)}
+ * are alternatives.
+ */
+public final class TextResolverHint {
+
+    /**
+     * Hint of resolver which can resolve any text.
+     */
+    public static final TextResolverHint ANY_TEXT = new TextResolverHint(null, 0, Integer.MAX_VALUE, null, null);
+
+    private final String firstSigns;
+    private final int minLength;
+    private final int maxLength;
+    private final String requiredText;
+    private final TextResolverHint alternative;
+
+    private TextResolverHint(String firstSigns, int minLength, int maxLength, String requiredText, TextResolverHint alternative) {
+        if(minLength < 0 || maxLength < minLength) {
+            throw new IllegalArgumentException("Invalid range of text length, given: " + minLength + ".." + maxLength);
+        }
+        this.firstSigns = firstSigns;
+        this.minLength = minLength;
+        this.maxLength = maxLength;
+        this.requiredText = requiredText;
+        this.alternative = alternative;
+    }
+
+    /**
+     * It returns hint for texts which begin with one of given signs.
+     *
+     * @param signs all possible first signs of text
+     * @return hint
+     */
+    public static TextResolverHint startsWithAnyOf(String signs) {
+        return new TextResolverHint(signs, 1, Integer.MAX_VALUE, null, null);
+    }
+
+    /**
+     * It returns hint for texts with length in given range.
+     *
+     * @param minLength min length of text
+     * @param maxLength max length of text
+     * @return hint
+     */
+    public static TextResolverHint lengthBetween(int minLength, int maxLength) {
+        return new TextResolverHint(null, minLength, maxLength, null, null);
+    }
+
+    /**
+     * It returns hint for texts which contain given text, for example delimiter of elements.
+     *
+     * @param text required part of text
+     * @return hint
+     */
+    public static TextResolverHint containing(String text) {
+        return new TextResolverHint(null, text.length(), Integer.MAX_VALUE, text, null);
+    }
+
+    /**
+     * It returns hint with the same conditions and with length of text in given range.
+     *
+     * @param minLength min length of text
+     * @param maxLength max length of text
+     * @return new hint
+     */
+    public TextResolverHint withLengthBetween(int minLength, int maxLength) {
+        return new TextResolverHint(firstSigns, Math.max(this.minLength, minLength), Math.min(this.maxLength, maxLength),
+                                    requiredText, alternative);
+    }
+
+    /**
+     * It returns hint which is met when this hint or other hint is met.
+     *
+     * @param otherHint alternative hint
+     * @return new hint
+     */
+    public TextResolverHint or(TextResolverHint otherHint) {
+        if(isAnyText() || otherHint.isAnyText()) {
+            return ANY_TEXT;
+        }
+        TextResolverHint lastAlternative = alternative == null ? otherHint : alternative.or(otherHint);
+        return new TextResolverHint(firstSigns, minLength, maxLength, requiredText, lastAlternative);
+    }
+
+    public boolean isAnyText() {
+        return this == ANY_TEXT;
+    }
+
+    /**
+     * It checks that text which begins with given sign can meet this hint.
+     *
+     * @param firstSign first sign of text
+     * @return false when no text with given first sign meets this hint
+     */
+    public boolean canStartWith(char firstSign) {
+        return maxLength > 0 && (firstSigns == null || firstSigns.indexOf(firstSign) >= 0)
+               || alternative != null && alternative.canStartWith(firstSign);
+    }
+
+    /**
+     * It checks that empty text can meet this hint.
+     *
+     * @return false when empty text doesn't meet this hint
+     */
+    public boolean canBeEmpty() {
+        return minLength == 0 || alternative != null && alternative.canBeEmpty();
+    }
+
+    /**
+     * It checks all conditions of this hint for given text.
+     *
+     * @param text trimmed text of property value
+     * @return false when text doesn't meet this hint, so resolver cannot resolve it
+     */
+    public boolean canMatch(String text) {
+        int length = text.length();
+        boolean matches = length >= minLength && length <= maxLength
+                          && (firstSigns == null || length > 0 && firstSigns.indexOf(text.charAt(0)) >= 0)
+                          && (requiredText == null || text.contains(requiredText));
+        return matches || alternative != null && alternative.canMatch(text);
+    }
+}
@@ -4,11 +4,19 @@ import pl.jalokim.propertiestojson.resolvers.PrimitiveJsonTypesResolver;
 
 import java.util.Optional;
 
-public class TextToBooleanResolver implements TextToConcreteObjectResolver<Boolean> {
+
+public class TextToBooleanResolver extends KeyInsensitiveTextResolver<Boolean> {
 
     private static final String TRUE = "true";
     private static final String FALSE = "false";
 
+    private static final TextResolverHint HINT = TextResolverHint.startsWithAnyOf("tTfF")
+                                                                 .withLengthBetween(TRUE.length(), FALSE.length());
+
+    public TextToBooleanResolver() {
+        super(TextToBooleanResolver.class, HINT);
+    }
+
     @Override
     public Optional<Boolean> returnObjectWhenCanBeResolved(PrimitiveJsonTypesResolver primitiveJsonTypesResolver, String propertyValue, String propertyKey) {
         if (TRUE.equalsIgnoreCase(propertyValue) || FALSE.equalsIgnoreCase(propertyValue)){
@@ -4,7 +4,14 @@ import pl.jalokim.propertiestojson.resolvers.PrimitiveJsonTypesResolver;
 
 import java.util.Optional;
 
-public class TextToCharacterResolver implements TextToConcreteObjectResolver<Character> {
+
+public class TextToCharacterResolver extends KeyInsensitiveTextResolver<Character> {
+
+    private static final TextResolverHint HINT = TextResolverHint.lengthBetween(1, 1);
+
+    public TextToCharacterResolver() {
+        super(TextToCharacterResolver.class, HINT);
+    }
 
     @Override
     public Optional<Character> returnObjectWhenCanBeResolved(PrimitiveJsonTypesResolver primitiveJsonTypesResolver, String propertyValue, String propertyKey) {
@@ -11,6 +11,29 @@ public interface TextToConcreteObjectResolver<T> {
                                                     propertyValue == null ? null : propertyValue.trim(), propertyKey);
     }
 
+    /**
+     * It tells that result of this resolver can depend on property key, not only on property value.
+     * Values resolved by such resolver, or after it in order of resolvers, are not stored in {@link pl.jalokim.propertiestojson.resolvers.ResolvedValuesCache}.
+     * By default every resolver is treated as dependent on property key, resolvers which use only property value
+     * can return false, so their values can be cached.
+     *
+     * @return true when result can depend on property key
+     */
+    default boolean isPropertyKeySensitive() {
+        return true;
+    }
+
+    /**
+     * It returns conditions which trimmed text of property value needs to meet, so this resolver can resolve it.
+     * Resolvers which cannot resolve some text are skipped by {@link PrimitiveJsonTypesResolver} without call,
+     * but order of resolvers stays the same. Hint can accept more texts than this resolver, never less.
+     *
+     * @return hint of texts which can be resolved, by default any text
+     */
+    default TextResolverHint getApplicabilityHint() {
+        return TextResolverHint.ANY_TEXT;
+    }
+
     /**
      * This method will be called in first phase processing step (from raw text to some object)
      * if your condition is met then return Optional of concrete value of Object.
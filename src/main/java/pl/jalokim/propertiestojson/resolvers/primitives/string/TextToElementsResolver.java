@@ -7,12 +7,13 @@ import java.util.List;
 import java.util.Optional;
 
 import static java.lang.String.join;
+import static pl.jalokim.propertiestojson.Constants.ARRAY_START_SIGN;
 import static pl.jalokim.propertiestojson.Constants.EMPTY_STRING;
 import static pl.jalokim.propertiestojson.Constants.SIMPLE_ARRAY_DELIMITER;
 import static pl.jalokim.propertiestojson.resolvers.primitives.utils.JsonObjectHelper.hasJsonArraySignature;
-import static pl.jalokim.propertiestojson.resolvers.primitives.utils.JsonObjectHelper.isValidJsonObjectOrArray;
+import static pl.jalokim.propertiestojson.resolvers.primitives.utils.JsonObjectHelper.isValidJsonObjectOrArrayForNextResolvers;
 
-public class TextToElementsResolver implements TextToConcreteObjectResolver<List<?>> {
+public class TextToElementsResolver extends KeyInsensitiveTextResolver<List<?>> {
 
     private final String arrayElementSeparator;
     private final boolean resolveTypeOfEachElement;
@@ -26,13 +27,16 @@ public class TextToElementsResolver implements TextToConcreteObjectResolver<List
     }
 
     public TextToElementsResolver(boolean resolveTypeOfEachElement, String arrayElementSeparator) {
+        super(TextToElementsResolver.class, TextResolverHint.startsWithAnyOf(ARRAY_START_SIGN)
+                                                            .withLengthBetween(2, Integer.MAX_VALUE)
+                                                            .or(TextResolverHint.containing(arrayElementSeparator)));
         this.resolveTypeOfEachElement = resolveTypeOfEachElement;
         this.arrayElementSeparator = arrayElementSeparator;
     }
 
     @Override
     public Optional<List<?>> returnObjectWhenCanBeResolved(PrimitiveJsonTypesResolver primitiveJsonTypesResolver, String propertyValue, String propertyKey) {
-        if(isSimpleArray(propertyValue) && !isValidJsonObjectOrArray(propertyValue)) {
+        if(isSimpleArray(propertyValue) && !isValidJsonObjectOrArrayForNextResolvers(propertyValue)) {
 
             if(hasJsonArraySignature(propertyValue)) {
                 propertyValue = propertyValue
@@ -4,11 +4,19 @@ import pl.jalokim.propertiestojson.resolvers.PrimitiveJsonTypesResolver;
 
 import java.util.Optional;
 
-public class TextToEmptyStringResolver implements TextToConcreteObjectResolver<String> {
 
-    public static final TextToEmptyStringResolver EMPTY_TEXT_RESOLVER = new TextToEmptyStringResolver();
+public class TextToEmptyStringResolver extends KeyInsensitiveTextResolver<String> {
+
     private static final String EMPTY_VALUE = "";
 
+    private static final TextResolverHint HINT = TextResolverHint.lengthBetween(0, 0);
+
+    public static final TextToEmptyStringResolver EMPTY_TEXT_RESOLVER = new TextToEmptyStringResolver();
+
+    public TextToEmptyStringResolver() {
+        super(TextToEmptyStringResolver.class, HINT);
+    }
+
     @Override
     public Optional<String> returnObjectWhenCanBeResolved(PrimitiveJsonTypesResolver primitiveJsonTypesResolver,
                                                           String propertyValue,
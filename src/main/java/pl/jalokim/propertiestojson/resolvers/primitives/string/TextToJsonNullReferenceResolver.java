@@ -7,10 +7,17 @@ import java.util.Optional;
 import static pl.jalokim.propertiestojson.object.JsonNullReferenceType.NULL_OBJECT;
 import static pl.jalokim.propertiestojson.object.JsonNullReferenceType.NULL_VALUE;
 
-public class TextToJsonNullReferenceResolver implements TextToConcreteObjectResolver<Object> {
+public class TextToJsonNullReferenceResolver extends KeyInsensitiveTextResolver<Object> {
+
+    private static final TextResolverHint HINT = TextResolverHint.startsWithAnyOf(NULL_VALUE.substring(0, 1))
+                                                                 .withLengthBetween(NULL_VALUE.length(), NULL_VALUE.length());
 
     public static final TextToJsonNullReferenceResolver TEXT_TO_NULL_JSON_RESOLVER = new TextToJsonNullReferenceResolver();
 
+    public TextToJsonNullReferenceResolver() {
+        super(TextToJsonNullReferenceResolver.class, HINT);
+    }
+
     @Override
     public Optional<Object> returnObjectWhenCanBeResolved(PrimitiveJsonTypesResolver primitiveJsonTypesResolver, String propertyValue, String propertyKey) {
         if (propertyValue == null || propertyValue.equals(NULL_VALUE)) {
@@ -6,42 +6,118 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Optional;
 
-public class TextToNumberResolver implements TextToConcreteObjectResolver<Number> {
+
+/**
+ * It resolves numbers from texts which are the same like text of resolved number, for example <b>12</b>, <b>-1.50</b>, <b>1E+5</b>
+ * but not <b>012</b>, <b>+12</b> or <b>.5</b>. Text is scanned once and number is created only when text has syntax of number.
+ * Integer numbers are returned as {@link Long} when they fit in long, otherwise as {@link BigInteger}.
+ * Decimal numbers are returned as {@link Double} when text of double is the same like given text, otherwise as {@link BigDecimal}.
+ */
+public class TextToNumberResolver extends KeyInsensitiveTextResolver<Number> {
+
+    private static final int MAX_LONG_DIGITS = 18;
+    private static final int MAX_DOUBLE_DIGITS = 15;
+
+    private static final TextResolverHint HINT = TextResolverHint.startsWithAnyOf("-0123456789");
+
+    public TextToNumberResolver() {
+        super(TextToNumberResolver.class, HINT);
+    }
 
     @Override
     public Optional<Number> returnObjectWhenCanBeResolved(PrimitiveJsonTypesResolver primitiveJsonTypesResolver, String propertyValue, String propertyKey) {
         return Optional.ofNullable(convertToNumber(propertyValue));
     }
 
+    /**
+     * It returns number when given text is the same like text of this number.
+     *
+     * @param propertyValue text of number
+     * @return number or null when text is not a number
+     */
     public static Number convertToNumber(String propertyValue) {
-        Number number = convertToNumberFromText(propertyValue);
-        if (number!= null && number.toString().equals(propertyValue)) {
-            return number;
+        if (propertyValue == null) {
+            return null;
+        }
+        int length = propertyValue.length();
+        int position = propertyValue.startsWith("-") ? 1 : 0;
+        int integerStart = position;
+        position = skipDigits(propertyValue, position);
+        int integerDigits = position - integerStart;
+        if (integerDigits == 0 || integerDigits > 1 && propertyValue.charAt(integerStart) == '0') {
+            return null;
+        }
+        if (position == length) {
+            return integerStart == 1 && integerDigits == 1 && propertyValue.charAt(1) == '0'
+                    ? null : toIntegerNumber(propertyValue, integerStart, integerDigits);
+        }
+        int fractionDigits = 0;
+        if (propertyValue.charAt(position) == '.') {
+            int fractionStart = position + 1;
+            position = skipDigits(propertyValue, fractionStart);
+            fractionDigits = position - fractionStart;
+            if (fractionDigits == 0) {
+                return null;
+            }
+        }
+        boolean hasExponent = position < length && propertyValue.charAt(position) == 'E';
+        if (hasExponent) {
+            position++;
+            if (position < length && (propertyValue.charAt(position) == '+' || propertyValue.charAt(position) == '-')) {
+                position++;
+            }
+            int exponentStart = position;
+            position = skipDigits(propertyValue, exponentStart);
+            if (position == exponentStart) {
+                return null;
+            }
+        }
+        if (position != length) {
+            return null;
         }
-        return null;
+        return toDecimalNumber(propertyValue, !hasExponent && integerDigits + fractionDigits <= MAX_DOUBLE_DIGITS);
     }
 
-    private static Number convertToNumberFromText(String propertyValue) {
-
-        try {
-            return getIntegerNumber(propertyValue);
-        } catch (NumberFormatException exc) {
-            // NOTHING TO DO
+    private static int skipDigits(String text, int from) {
+        int position = from;
+        while (position < text.length() && isDigit(text.charAt(position))) {
+            position++;
         }
-        try {
-            return getDoubleNumber(propertyValue);
-        } catch (NumberFormatException exc) {
-            // NOTHING TO DO
-        }
-        return null;
+        return position;
     }
 
+    private static boolean isDigit(char sign) {
+        return sign >= '0' && sign <= '9';
+    }
 
-    private static BigInteger getIntegerNumber(String toParse) {
-        return new BigInteger(toParse);
+    private static Number toIntegerNumber(String text, int digitsStart, int digitsCount) {
+        if (digitsCount > MAX_LONG_DIGITS) {
+            return new BigInteger(text);
+        }
+        long value = 0;
+        for (int position = digitsStart; position < text.length(); position++) {
+            value = value * 10 + (text.charAt(position) - '0');
+        }
+        return digitsStart == 0 ? value : -value;
     }
 
-    private static BigDecimal getDoubleNumber(String toParse) {
-        return new BigDecimal(toParse);
+    /**
+     * Number is created from text with valid syntax, only too big exponent can be rejected by {@link BigDecimal}.
+     * Negative zero is not a number because text of {@link BigDecimal} for it has no minus sign.
+     */
+    private static Number toDecimalNumber(String text, boolean canBeDouble) {
+        if (canBeDouble) {
+            double doubleValue = Double.parseDouble(text);
+            boolean negativeZero = doubleValue == 0 && text.charAt(0) == '-';
+            if (!negativeZero && Double.toString(doubleValue).equals(text)) {
+                return doubleValue;
+            }
+        }
+        try {
+            BigDecimal decimalValue = new BigDecimal(text);
+            return decimalValue.toString().equals(text) ? decimalValue : null;
+        } catch (NumberFormatException exponentOutOfRange) {
+            return null;
+        }
     }
 }
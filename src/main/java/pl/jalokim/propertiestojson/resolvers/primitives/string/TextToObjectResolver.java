@@ -5,22 +5,21 @@ import pl.jalokim.propertiestojson.resolvers.PrimitiveJsonTypesResolver;
 
 import java.util.Optional;
 
-import static pl.jalokim.propertiestojson.resolvers.primitives.utils.JsonObjectHelper.convertToAbstractJsonType;
-import static pl.jalokim.propertiestojson.resolvers.primitives.utils.JsonObjectHelper.hasJsonArraySignature;
-import static pl.jalokim.propertiestojson.resolvers.primitives.utils.JsonObjectHelper.hasJsonObjectSignature;
-import static pl.jalokim.propertiestojson.resolvers.primitives.utils.JsonObjectHelper.toJsonElement;
+import static pl.jalokim.propertiestojson.Constants.ARRAY_START_SIGN;
+import static pl.jalokim.propertiestojson.Constants.JSON_OBJECT_START;
+import static pl.jalokim.propertiestojson.resolvers.primitives.utils.JsonObjectHelper.takeParsedJsonObjectOrArray;
 
-public class TextToObjectResolver implements TextToConcreteObjectResolver<AbstractJsonType> {
+public class TextToObjectResolver extends KeyInsensitiveTextResolver<AbstractJsonType> {
+
+    private static final TextResolverHint HINT = TextResolverHint.startsWithAnyOf(JSON_OBJECT_START + ARRAY_START_SIGN)
+                                                                 .withLengthBetween(2, Integer.MAX_VALUE);
+
+    public TextToObjectResolver() {
+        super(TextToObjectResolver.class, HINT);
+    }
 
     @Override
     public Optional<AbstractJsonType> returnObjectWhenCanBeResolved(PrimitiveJsonTypesResolver primitiveJsonTypesResolver, String propertyValue, String propertyKey) {
-        if(hasJsonObjectSignature(propertyValue) || hasJsonArraySignature(propertyValue)) {
-            try {
-                return Optional.ofNullable(convertToAbstractJsonType(toJsonElement(propertyValue), propertyKey));
-            } catch(Exception exception) {
-                return Optional.empty();
-            }
-        }
-        return Optional.empty();
+        return Optional.ofNullable(takeParsedJsonObjectOrArray(propertyValue));
     }
 }
@@ -4,10 +4,14 @@ import pl.jalokim.propertiestojson.resolvers.PrimitiveJsonTypesResolver;
 
 import java.util.Optional;
 
-public class TextToStringResolver implements TextToConcreteObjectResolver<String> {
+public class TextToStringResolver extends KeyInsensitiveTextResolver<String> {
 
     public static final TextToStringResolver TO_STRING_RESOLVER = new TextToStringResolver();
 
+    public TextToStringResolver() {
+        super(TextToStringResolver.class, TextResolverHint.ANY_TEXT);
+    }
+
     @Override
     public Optional<String> returnObjectWhenCanBeResolved(PrimitiveJsonTypesResolver primitiveJsonTypesResolver,
                                                           String propertyValue,
@@ -0,0 +1,321 @@
+package pl.jalokim.propertiestojson.resolvers.primitives.utils;
+
+import com.google.gson.JsonElement;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import pl.jalokim.propertiestojson.object.AbstractJsonType;
+import pl.jalokim.propertiestojson.object.ArrayJsonType;
+import pl.jalokim.propertiestojson.object.BooleanJsonType;
+import pl.jalokim.propertiestojson.object.LongJsonType;
+import pl.jalokim.propertiestojson.object.ObjectJsonType;
+import pl.jalokim.propertiestojson.object.PrimitiveJsonTypesInterner;
+import pl.jalokim.propertiestojson.object.StringJsonType;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static pl.jalokim.propertiestojson.object.JsonNullReferenceType.NULL_OBJECT;
+import static pl.jalokim.propertiestojson.resolvers.primitives.object.NumberToJsonTypeConverter.toNarrowestJsonType;
+import static pl.jalokim.propertiestojson.resolvers.primitives.string.TextToNumberResolver.convertToNumber;
+import static pl.jalokim.propertiestojson.resolvers.primitives.utils.JsonObjectHelper.convertToAbstractJsonType;
+import static pl.jalokim.propertiestojson.resolvers.primitives.utils.JsonObjectHelper.toJson;
+import static pl.jalokim.propertiestojson.resolvers.primitives.utils.JsonObjectHelper.toJsonElement;
+
+/**
+ * It converts java beans, collections, maps and arrays directly to json types, with the same result like conversion
+ * to json text by default {@link com.google.gson.Gson}, then parse of this text and conversion of parsed json.
+ * Fields of bean class are read by getters created once for class from {@link MethodHandle}.
+ * Like in gson fields of bean and its super classes are used, without static and transient fields,
+ * name of field in json is name of java field or value of {@link SerializedName}, null values of fields and maps are skipped.
+ * Instances of anonymous and local classes are nulls, like in gson.
+ * Values of classes from JDK (for example dates), classes with {@link JsonAdapter} or classes which cannot be read
+ * by getters are converted by gson. Json objects of one walk share shapes of fields.
+ */
+final class BeanToJsonTypeWalker {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final String[] CLASS_NAME_PREFIXES_FOR_GSON = {"java.", "javax.", "sun.", "com.sun.", "com.google.gson."};
+
+    private static final ClassValue<BeanClassFields> BEAN_CLASS_FIELDS = new ClassValue<BeanClassFields>() {
+        @Override
+        protected BeanClassFields computeValue(Class<?> type) {
+            return BeanClassFields.of(type);
+        }
+    };
+
+    private static final ClassValue<String[]> ENUM_CONSTANT_NAMES = new ClassValue<String[]>() {
+        @Override
+        protected String[] computeValue(Class<?> type) {
+            return enumConstantNames(type);
+        }
+    };
+
+    private final PrimitiveJsonTypesInterner primitiveJsonTypesInterner;
+    private final ObjectJsonType shapesOwner = new ObjectJsonType();
+
+    private BeanToJsonTypeWalker(PrimitiveJsonTypesInterner primitiveJsonTypesInterner) {
+        this.primitiveJsonTypesInterner = primitiveJsonTypesInterner;
+    }
+
+    /**
+     * It returns json object or json array for java bean, collection, map or array.
+     *
+     * @param value                      java object
+     * @param primitiveJsonTypesInterner interner of leaf values
+     * @return json type or null when given value is not bean, collection, map or array, or it needs to be converted by gson
+     */
+    static AbstractJsonType toJsonObjectOrArray(Object value, PrimitiveJsonTypesInterner primitiveJsonTypesInterner) {
+        if(isWrittenAsNull(value) || isLeafValue(value)) {
+            return null;
+        }
+        Class<?> type = value.getClass();
+        if(!type.isArray() && !(value instanceof Collection) && !(value instanceof Map) && BEAN_CLASS_FIELDS.get(type).isForGson()) {
+            return null;
+        }
+        return new BeanToJsonTypeWalker(primitiveJsonTypesInterner).walk(value);
+    }
+
+    private AbstractJsonType walk(Object value) {
+        if(isWrittenAsNull(value)) {
+            return NULL_OBJECT;
+        }
+        if(value instanceof String) {
+            return primitiveJsonTypesInterner.intern(new StringJsonType((String) value));
+        }
+        if(value instanceof Boolean) {
+            return BooleanJsonType.valueOf((Boolean) value);
+        }
+        if(value instanceof Character) {
+            return primitiveJsonTypesInterner.intern(new StringJsonType(value.toString()));
+        }
+        if(value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return primitiveJsonTypesInterner.intern(new LongJsonType(((Number) value).longValue()));
+        }
+        if(isOtherNumber(value)) {
+            return walkNumber((Number) value);
+        }
+        if(value instanceof Enum) {
+            Enum<?> enumValue = (Enum<?>) value;
+            String name = ENUM_CONSTANT_NAMES.get(enumValue.getDeclaringClass())[enumValue.ordinal()];
+            return primitiveJsonTypesInterner.intern(new StringJsonType(name));
+        }
+        if(value.getClass().isArray()) {
+            return walkArray(value);
+        }
+        if(value instanceof Collection) {
+            return walkCollection((Collection<?>) value);
+        }
+        if(value instanceof Map) {
+            return walkMap((Map<?, ?>) value);
+        }
+        BeanClassFields beanClassFields = BEAN_CLASS_FIELDS.get(value.getClass());
+        if(beanClassFields.isForGson()) {
+            return convertByGson(value);
+        }
+        return walkBean(value, beanClassFields);
+    }
+
+    private AbstractJsonType walkNumber(Number number) {
+        if(number instanceof Double && !Double.isFinite(number.doubleValue())
+           || number instanceof Float && !Float.isFinite(number.floatValue())) {
+            return convertByGson(number);
+        }
+        Number convertedNumber = convertToNumber(number.toString());
+        return convertedNumber == null ? NULL_OBJECT : primitiveJsonTypesInterner.intern(toNarrowestJsonType(convertedNumber));
+    }
+
+    private ArrayJsonType walkArray(Object array) {
+        ArrayJsonType arrayJsonType = new ArrayJsonType();
+        int length = Array.getLength(array);
+        for(int index = 0; index < length; index++) {
+            arrayJsonType.addElement(index, walk(Array.get(array, index)), null);
+        }
+        return arrayJsonType;
+    }
+
+    private ArrayJsonType walkCollection(Collection<?> collection) {
+        ArrayJsonType arrayJsonType = new ArrayJsonType();
+        int index = 0;
+        for(Object element : collection) {
+            arrayJsonType.addElement(index, walk(element), null);
+            index++;
+        }
+        return arrayJsonType;
+    }
+
+    /**
+     * Gson uses text of map key as field name, so when two keys have the same text then gson keeps last value.
+     */
+    private AbstractJsonType walkMap(Map<?, ?> map) {
+        ObjectJsonType objectJsonType = new ObjectJsonType(shapesOwner);
+        for(Map.Entry<?, ?> entry : map.entrySet()) {
+            if(!isWrittenAsNull(entry.getValue())) {
+                String field = String.valueOf(entry.getKey());
+                if(objectJsonType.containsField(field)) {
+                    return convertByGson(map);
+                }
+                objectJsonType.addField(field, walk(entry.getValue()), null);
+            }
+        }
+        return objectJsonType;
+    }
+
+    private ObjectJsonType walkBean(Object bean, BeanClassFields beanClassFields) {
+        ObjectJsonType objectJsonType = new ObjectJsonType(shapesOwner);
+        for(BeanField beanField : beanClassFields.fields) {
+            Object fieldValue = beanField.getValue(bean);
+            if(!isWrittenAsNull(fieldValue)) {
+                objectJsonType.addField(beanField.name, walk(fieldValue), null);
+            }
+        }
+        return objectJsonType;
+    }
+
+    private static AbstractJsonType convertByGson(Object value) {
+        JsonElement jsonElement = toJsonElement(toJson(value));
+        return convertToAbstractJsonType(jsonElement, null);
+    }
+
+    private static boolean isWrittenAsNull(Object value) {
+        return value == null || isAnonymousOrLocalClass(value.getClass());
+    }
+
+    private static boolean isAnonymousOrLocalClass(Class<?> type) {
+        return !Enum.class.isAssignableFrom(type) && (type.isAnonymousClass() || type.isLocalClass());
+    }
+
+    private static boolean isLeafValue(Object value) {
+        return value instanceof String || value instanceof Boolean || value instanceof Character || value instanceof Enum
+               || value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte
+               || isOtherNumber(value);
+    }
+
+    private static boolean isOtherNumber(Object value) {
+        Class<?> type = value.getClass();
+        return type == Double.class || type == Float.class || type == BigDecimal.class || type == BigInteger.class
+               || type == AtomicInteger.class || type == AtomicLong.class;
+    }
+
+    private static String[] enumConstantNames(Class<?> enumType) {
+        Object[] constants = enumType.getEnumConstants();
+        String[] names = new String[constants.length];
+        for(int index = 0; index < constants.length; index++) {
+            String name = ((Enum<?>) constants[index]).name();
+            try {
+                SerializedName serializedName = enumType.getField(name).getAnnotation(SerializedName.class);
+                names[index] = serializedName == null ? name : serializedName.value();
+            } catch(NoSuchFieldException e) {
+                names[index] = name;
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Fields of bean class in the same order like in gson, or information that instances of class need to be converted by gson.
+     */
+    private static final class BeanClassFields {
+
+        private static final BeanClassFields FOR_GSON = new BeanClassFields(null);
+
+        private final List<BeanField> fields;
+
+        private BeanClassFields(List<BeanField> fields) {
+            this.fields = fields;
+        }
+
+        private boolean isForGson() {
+            return fields == null;
+        }
+
+        private static BeanClassFields of(Class<?> type) {
+            if(!canBeWalked(type)) {
+                return FOR_GSON;
+            }
+            List<BeanField> fields = new ArrayList<>();
+            Set<String> names = new HashSet<>();
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            for(Class<?> currentType = type; currentType != Object.class; currentType = currentType.getSuperclass()) {
+                if(!canBeWalked(currentType)) {
+                    return FOR_GSON;
+                }
+                for(Field field : currentType.getDeclaredFields()) {
+                    if(isSkippedField(field)) {
+                        continue;
+                    }
+                    if(field.isAnnotationPresent(JsonAdapter.class)) {
+                        return FOR_GSON;
+                    }
+                    SerializedName serializedName = field.getAnnotation(SerializedName.class);
+                    String name = serializedName == null ? field.getName() : serializedName.value();
+                    if(!names.add(name)) {
+                        return FOR_GSON;
+                    }
+                    try {
+                        field.setAccessible(true);
+                        fields.add(new BeanField(name, lookup.unreflectGetter(field).asType(GETTER_TYPE)));
+                    } catch(IllegalAccessException | RuntimeException e) {
+                        return FOR_GSON;
+                    }
+                }
+            }
+            return new BeanClassFields(fields);
+        }
+
+        private static boolean canBeWalked(Class<?> type) {
+            if(type.isAnnotationPresent(JsonAdapter.class)) {
+                return false;
+            }
+            for(String prefix : CLASS_NAME_PREFIXES_FOR_GSON) {
+                if(type.getName().startsWith(prefix)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Gson skips static, transient and synthetic fields and fields with type of anonymous or local class.
+         */
+        private static boolean isSkippedField(Field field) {
+            int modifiers = field.getModifiers();
+            return Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()
+                   || isAnonymousOrLocalClass(field.getType());
+        }
+    }
+
+    private static final class BeanField {
+
+        private final String name;
+        private final MethodHandle getter;
+
+        private BeanField(String name, MethodHandle getter) {
+            this.name = name;
+            this.getter = getter;
+        }
+
+        private Object getValue(Object bean) {
+            try {
+                return (Object) getter.invokeExact(bean);
+            } catch(RuntimeException | Error e) {
+                throw e;
+            } catch(Throwable e) {
+                throw new IllegalStateException("Cannot read field: " + name + " of " + bean.getClass().getName(), e);
+            }
+        }
+    }
+}
@@ -36,6 +36,7 @@ public class JsonObjectHelper {
     private static final PrimitiveJsonTypesResolver primitiveJsonTypesResolver;
     private static final JsonParser jp = new JsonParser();
     private static final Gson gson = new Gson();
+    private static final ThreadLocal<ParsedJsonText> lastParsedJsonText = new ThreadLocal<>();
 
     static {
         List<ObjectToJsonTypeConverter> toJsonResolvers = new ArrayList<>();
@@ -61,6 +62,18 @@ public class JsonObjectHelper {
         return jp.parse(json);
     }
 
+    /**
+     * It converts java bean, collection, map or array directly to json type, like it would be converted to json text
+     * by gson and then parsed.
+     *
+     * @param object java object
+     * @return json object or json array, or null when given object is not bean, collection, map or array
+     * or when it should be converted through json text
+     */
+    public static AbstractJsonType toJsonObjectOrArray(Object object) {
+        return BeanToJsonTypeWalker.toJsonObjectOrArray(object, primitiveJsonTypesResolver.getPrimitiveJsonTypesInterner());
+    }
+
     public static ObjectJsonType createObjectJsonType(JsonElement parsedJson, String propertyKey) {
         ObjectJsonType objectJsonType = new ObjectJsonType();
         JsonObject asJsonObject = parsedJson.getAsJsonObject();
@@ -108,17 +121,85 @@ public class JsonObjectHelper {
         return arrayJsonType;
     }
 
+    /**
+     * It checks that text is valid json object or array.
+     *
+     * @param propertyValue text of property value
+     * @return true when text is valid json object or array
+     */
     public static boolean isValidJsonObjectOrArray(String propertyValue) {
+        return parseJsonObjectOrArray(propertyValue) != null;
+    }
+
+    /**
+     * It checks that text is valid json object or array like {@link #isValidJsonObjectOrArray(String)}, parsed json of valid text
+     * is remembered for current thread, so it is not parsed again by {@link #takeParsedJsonObjectOrArray(String)} for the same text.
+     * Remembered json is forgotten by {@link #forgetParsedJsonObjectOrArray()} at the end of
+     * {@link PrimitiveJsonTypesResolver#getResolvedObject(String, String)}, so it is only for next resolvers of the same value.
+     *
+     * @param propertyValue text of property value
+     * @return true when text is valid json object or array
+     */
+    public static boolean isValidJsonObjectOrArrayForNextResolvers(String propertyValue) {
+        AbstractJsonType parsedJson = parseJsonObjectOrArray(propertyValue);
+        if(parsedJson == null) {
+            lastParsedJsonText.remove();
+            return false;
+        }
+        lastParsedJsonText.set(new ParsedJsonText(propertyValue, parsedJson));
+        return true;
+    }
+
+    /**
+     * It returns json type of parsed json object or array. When the same text was checked by {@link #isValidJsonObjectOrArrayForNextResolvers(String)}
+     * during resolve of current value then json parsed by it is returned and forgotten.
+     *
+     * @param propertyValue text of property value
+     * @return parsed json or null when text is not valid json object or array
+     */
+    public static AbstractJsonType takeParsedJsonObjectOrArray(String propertyValue) {
+        ParsedJsonText parsedJsonText = lastParsedJsonText.get();
+        if(parsedJsonText != null) {
+            lastParsedJsonText.remove();
+            if(parsedJsonText.isParsedFrom(propertyValue)) {
+                return parsedJsonText.parsedJson;
+            }
+        }
+        return parseJsonObjectOrArray(propertyValue);
+    }
+
+    /**
+     * It forgets json remembered by {@link #isValidJsonObjectOrArrayForNextResolvers(String)} in current thread.
+     */
+    public static void forgetParsedJsonObjectOrArray() {
+        if(lastParsedJsonText.get() != null) {
+            lastParsedJsonText.remove();
+        }
+    }
+
+    /**
+     * Json text is read directly to json types, only json with duplicated fields is read through gson json elements.
+     * Too deeply nested json is not valid, like for {@link JsonParser}.
+     */
+    private static AbstractJsonType parseJsonObjectOrArray(String propertyValue) {
         if(hasJsonObjectSignature(propertyValue) || hasJsonArraySignature(propertyValue)) {
-            JsonParser jp = new JsonParser();
             try {
-                jp.parse(propertyValue);
-                return true;
-            } catch(Exception ex) {
-                return false;
+                return JsonTextParser.parse(propertyValue, primitiveJsonTypesResolver.getPrimitiveJsonTypesInterner());
+            } catch(JsonTextParser.DuplicatedJsonFieldException ex) {
+                return parseByJsonElements(propertyValue);
+            } catch(Exception | StackOverflowError ex) {
+                return null;
             }
         }
-        return false;
+        return null;
+    }
+
+    private static AbstractJsonType parseByJsonElements(String propertyValue) {
+        try {
+            return convertToAbstractJsonType(jp.parse(propertyValue), null);
+        } catch(Exception ex) {
+            return null;
+        }
     }
 
     public static boolean hasJsonArraySignature(String propertyValue) {
@@ -140,4 +221,19 @@ public class JsonObjectHelper {
     private static String lastLetter(String text) {
         return text.substring(text.length() - 1);
     }
+
+    private static final class ParsedJsonText {
+
+        private final String text;
+        private final AbstractJsonType parsedJson;
+
+        private ParsedJsonText(String text, AbstractJsonType parsedJson) {
+            this.text = text;
+            this.parsedJson = parsedJson;
+        }
+
+        private boolean isParsedFrom(String otherText) {
+            return text == otherText || text.equals(otherText);
+        }
+    }
 }
@@ -0,0 +1,115 @@
+package pl.jalokim.propertiestojson.resolvers.primitives.utils;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+import pl.jalokim.propertiestojson.object.AbstractJsonType;
+import pl.jalokim.propertiestojson.object.ArrayJsonType;
+import pl.jalokim.propertiestojson.object.BooleanJsonType;
+import pl.jalokim.propertiestojson.object.ObjectJsonType;
+import pl.jalokim.propertiestojson.object.PrimitiveJsonTypesInterner;
+import pl.jalokim.propertiestojson.object.StringJsonType;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static pl.jalokim.propertiestojson.object.JsonNullReferenceType.NULL_OBJECT;
+import static pl.jalokim.propertiestojson.resolvers.primitives.object.NumberToJsonTypeConverter.toNarrowestJsonType;
+import static pl.jalokim.propertiestojson.resolvers.primitives.string.TextToNumberResolver.convertToNumber;
+
+/**
+ * It reads json text by lenient {@link JsonReader} and builds json types directly, without tree of gson json elements.
+ * Texts of numbers are converted like by {@link pl.jalokim.propertiestojson.resolvers.primitives.string.TextToNumberResolver},
+ * numbers which cannot be converted are json nulls. Leaf values are shared by {@link PrimitiveJsonTypesInterner},
+ * json objects of one json text share shapes of fields.
+ */
+final class JsonTextParser {
+
+    private final JsonReader reader;
+    private final PrimitiveJsonTypesInterner primitiveJsonTypesInterner;
+    private final ObjectJsonType shapesOwner = new ObjectJsonType();
+
+    private JsonTextParser(JsonReader reader, PrimitiveJsonTypesInterner primitiveJsonTypesInterner) {
+        this.reader = reader;
+        this.primitiveJsonTypesInterner = primitiveJsonTypesInterner;
+    }
+
+    /**
+     * It returns json type for whole json text.
+     *
+     * @param jsonText                   json text
+     * @param primitiveJsonTypesInterner interner of leaf values
+     * @return json type
+     * @throws IOException                 when json text is not valid json
+     * @throws DuplicatedJsonFieldException when some json object has the same field many times
+     */
+    static AbstractJsonType parse(String jsonText, PrimitiveJsonTypesInterner primitiveJsonTypesInterner) throws IOException {
+        JsonReader reader = new JsonReader(new StringReader(jsonText));
+        reader.setLenient(true);
+        AbstractJsonType json = new JsonTextParser(reader, primitiveJsonTypesInterner).readValue();
+        if(reader.peek() != JsonToken.END_DOCUMENT) {
+            throw new MalformedJsonException("Did not consume the entire document.");
+        }
+        return json;
+    }
+
+    private AbstractJsonType readValue() throws IOException {
+        JsonToken token = reader.peek();
+        switch(token) {
+            case BEGIN_OBJECT:
+                return readObject();
+            case BEGIN_ARRAY:
+                return readArray();
+            case STRING:
+                return primitiveJsonTypesInterner.intern(new StringJsonType(reader.nextString()));
+            case NUMBER:
+                Number number = convertToNumber(reader.nextString());
+                return number == null ? NULL_OBJECT : primitiveJsonTypesInterner.intern(toNarrowestJsonType(number));
+            case BOOLEAN:
+                return BooleanJsonType.valueOf(reader.nextBoolean());
+            case NULL:
+                reader.nextNull();
+                return NULL_OBJECT;
+            default:
+                throw new MalformedJsonException("Unexpected json token: " + token);
+        }
+    }
+
+    private ObjectJsonType readObject() throws IOException {
+        ObjectJsonType objectJsonType = new ObjectJsonType(shapesOwner);
+        reader.beginObject();
+        while(reader.hasNext()) {
+            String field = reader.nextName();
+            if(objectJsonType.containsField(field)) {
+                throw new DuplicatedJsonFieldException();
+            }
+            objectJsonType.addField(field, readValue(), null);
+        }
+        reader.endObject();
+        return objectJsonType;
+    }
+
+    private ArrayJsonType readArray() throws IOException {
+        ArrayJsonType arrayJsonType = new ArrayJsonType();
+        reader.beginArray();
+        int index = 0;
+        while(reader.hasNext()) {
+            arrayJsonType.addElement(index, readValue(), null);
+            index++;
+        }
+        reader.endArray();
+        return arrayJsonType;
+    }
+
+    /**
+     * Last value of duplicated field wins in gson json object, json types cannot replace value of field.
+     */
+    static final class DuplicatedJsonFieldException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private DuplicatedJsonFieldException() {
+            super("Duplicated field in json object", null, false, false);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package pl.jalokim.propertiestojson.stream;
+
+import pl.jalokim.propertiestojson.path.KeySegmentTrie;
+import pl.jalokim.propertiestojson.util.exception.ReadInputException;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * It sorts properties in order of {@link PropertyKeyPathComparator} with limited usage of heap.
+ * Properties are read to buffer until estimated size of buffer reaches memory limit, then buffer is sorted
+ * and stored as sorted run in temporary file. At the end all runs are merged (k-way merge) by {@link SortedPropertiesIterator}.
+ * When count of runs is greater than merge fan-in then runs are merged in many passes to new temporary files.
+ * When all properties fit in memory limit then nothing is stored in files.
+ * It can be used by many threads.
+ */
+public class ExternalPropertiesSorter {
+
+    public static final long DEFAULT_MEMORY_LIMIT = 64L * 1024 * 1024;
+    public static final int DEFAULT_MERGE_FAN_IN = 64;
+
+    private static final String RUN_FILE_PREFIX = "properties-to-json";
+    private static final String RUN_FILE_SUFFIX = ".run";
+    private static final int MIN_MERGE_FAN_IN = 2;
+
+    private final long memoryLimit;
+    private final File temporaryDirectory;
+    private final int mergeFanIn;
+
+    public ExternalPropertiesSorter() {
+        this(DEFAULT_MEMORY_LIMIT, null);
+    }
+
+    /**
+     * It creates sorter with given limit of heap for buffer.
+     *
+     * @param memoryLimit        max estimated count of bytes for buffered properties
+     * @param temporaryDirectory directory for sorted runs, null means default directory for temporary files
+     */
+    public ExternalPropertiesSorter(long memoryLimit, File temporaryDirectory) {
+        this(memoryLimit, temporaryDirectory, DEFAULT_MERGE_FAN_IN);
+    }
+
+    /**
+     * It creates sorter with given limit of heap for buffer and with given max count of runs merged at once.
+     *
+     * @param memoryLimit        max estimated count of bytes for buffered properties
+     * @param temporaryDirectory directory for sorted runs, null means default directory for temporary files
+     * @param mergeFanIn         max count of runs which are merged at once, every opened run has own read buffer
+     */
+    public ExternalPropertiesSorter(long memoryLimit, File temporaryDirectory, int mergeFanIn) {
+        if(memoryLimit <= 0) {
+            throw new IllegalArgumentException("Memory limit for sort of properties should be positive, given: " + memoryLimit);
+        }
+        if(mergeFanIn < MIN_MERGE_FAN_IN) {
+            throw new IllegalArgumentException("Merge fan-in cannot be less than " + MIN_MERGE_FAN_IN + ", given: " + mergeFanIn);
+        }
+        this.memoryLimit = memoryLimit;
+        this.temporaryDirectory = temporaryDirectory;
+        this.mergeFanIn = mergeFanIn;
+    }
+
+    /**
+     * It reads all given properties and returns them in order of {@link PropertyKeyPathComparator}.
+     * When the same property key is read many times then the last value is returned.
+     * Returned iterator should be closed.
+     *
+     * @param properties     properties in any order
+     * @param keySegmentTrie trie with parsed fields of property keys
+     * @return sorted properties
+     * @throws ReadInputException when cannot read properties or cannot use temporary files
+     */
+    public SortedPropertiesIterator sort(Iterator<Map.Entry<String, String>> properties, KeySegmentTrie keySegmentTrie) {
+        List<File> createdFiles = new ArrayList<>();
+        try {
+            List<File> runFiles = new ArrayList<>();
+            List<SortedProperty> buffer = new ArrayList<>();
+            long bufferedBytes = 0;
+            while(properties.hasNext()) {
+                Map.Entry<String, String> property = properties.next();
+                SortedProperty sortedProperty = new SortedProperty(property.getKey(), property.getValue(),
+                                                                   keySegmentTrie.getSegments(property.getKey()));
+                buffer.add(sortedProperty);
+                bufferedBytes += sortedProperty.estimateSize();
+                if(bufferedBytes >= memoryLimit) {
+                    runFiles.add(writeRun(sortWithoutDuplicates(buffer).iterator(), createdFiles));
+                    buffer.clear();
+                    bufferedBytes = 0;
+                }
+            }
+            List<SortedProperty> lastRun = sortWithoutDuplicates(buffer);
+            if(runFiles.isEmpty()) {
+                return new SortedPropertiesIterator(Collections.singletonList(SortedPropertiesRun.fromMemory(0, lastRun)),
+                                                    Collections.emptyList());
+            }
+            if(!lastRun.isEmpty()) {
+                runFiles.add(writeRun(lastRun.iterator(), createdFiles));
+            }
+            runFiles = mergeToFanIn(runFiles, keySegmentTrie, createdFiles);
+            return new SortedPropertiesIterator(openRuns(runFiles, keySegmentTrie), runFiles);
+        } catch(RuntimeException e) {
+            deleteFiles(createdFiles);
+            throw e;
+        }
+    }
+
+    public long getMemoryLimit() {
+        return memoryLimit;
+    }
+
+    public File getTemporaryDirectory() {
+        return temporaryDirectory;
+    }
+
+    public int getMergeFanIn() {
+        return mergeFanIn;
+    }
+
+    static void deleteFiles(List<File> files) {
+        for(File file : files) {
+            if(file.exists() && !file.delete()) {
+                file.deleteOnExit();
+            }
+        }
+    }
+
+    private List<File> mergeToFanIn(List<File> runFiles, KeySegmentTrie keySegmentTrie, List<File> createdFiles) {
+        List<File> currentRunFiles = runFiles;
+        while(currentRunFiles.size() > mergeFanIn) {
+            List<File> mergedRunFiles = new ArrayList<>();
+            for(int from = 0; from < currentRunFiles.size(); from += mergeFanIn) {
+                List<File> mergedGroup = currentRunFiles.subList(from, Math.min(from + mergeFanIn, currentRunFiles.size()));
+                if(mergedGroup.size() == 1) {
+                    mergedRunFiles.add(mergedGroup.get(0));
+                    continue;
+                }
+                try(SortedPropertiesIterator mergedProperties = new SortedPropertiesIterator(openRuns(mergedGroup, keySegmentTrie),
+                                                                                             mergedGroup)) {
+                    mergedRunFiles.add(writeRun(mergedProperties, createdFiles));
+                }
+            }
+            currentRunFiles = mergedRunFiles;
+        }
+        return currentRunFiles;
+    }
+
+    private static List<SortedProperty> sortWithoutDuplicates(List<SortedProperty> buffer) {
+        buffer.sort(SortedProperty.PATH_ORDER);
+        List<SortedProperty> sortedProperties = new ArrayList<>(buffer.size());
+        for(int index = 0; index < buffer.size(); index++) {
+            boolean overriddenByNext = index + 1 < buffer.size() && buffer.get(index).getKey().equals(buffer.get(index + 1).getKey());
+            if(!overriddenByNext) {
+                sortedProperties.add(buffer.get(index));
+            }
+        }
+        return sortedProperties;
+    }
+
+    private File writeRun(Iterator<? extends Map.Entry<String, String>> sortedProperties, List<File> createdFiles) {
+        File runFile;
+        try {
+            runFile = File.createTempFile(RUN_FILE_PREFIX, RUN_FILE_SUFFIX, temporaryDirectory);
+        } catch(IOException e) {
+            throw new ReadInputException(e);
+        }
+        createdFiles.add(runFile);
+        SortedPropertiesRun.writeToFile(runFile, sortedProperties);
+        return runFile;
+    }
+
+    private static List<SortedPropertiesRun> openRuns(List<File> runFiles, KeySegmentTrie keySegmentTrie) {
+        List<SortedPropertiesRun> runs = new ArrayList<>(runFiles.size());
+        try {
+            for(int order = 0; order < runFiles.size(); order++) {
+                runs.add(SortedPropertiesRun.fromFile(order, runFiles.get(order), keySegmentTrie));
+            }
+        } catch(RuntimeException e) {
+            for(SortedPropertiesRun run : runs) {
+                run.close();
+            }
+            throw e;
+        }
+        return runs;
+    }
+}
@@ -0,0 +1,150 @@
+package pl.jalokim.propertiestojson.stream;
+
+import pl.jalokim.propertiestojson.path.KeySegment;
+
+import static pl.jalokim.propertiestojson.Constants.ARRAY_END_SIGN;
+import static pl.jalokim.propertiestojson.Constants.ARRAY_START_SIGN;
+import static pl.jalokim.propertiestojson.Constants.NORMAL_DOT;
+
+/**
+ * First difference between paths of two property keys. Path of property key is treated as sequence of steps,
+ * every field of property key is one step by field name and next steps by every array index of this field.
+ * Steps are compared by field name or by value of index.
+ */
+final class KeyPathDifference {
+
+    static final int FIELD_NAME_POSITION = -1;
+    private static final int[] NO_INDEXES = new int[0];
+
+    enum Type {
+        /**
+         * next path is after previous path.
+         */
+        ORDERED,
+        /**
+         * next path is before previous path.
+         */
+        UNSORTED,
+        /**
+         * previous path is the same like next path.
+         */
+        EQUAL,
+        /**
+         * leaf of previous path is one of not leaf fields of next path.
+         */
+        PREFIX,
+        /**
+         * the same field is json object in one path and json array in another one, or json array with other count of dimensions.
+         */
+        TYPE_CONFLICT
+    }
+
+    private final Type type;
+    private final int segmentIndex;
+    private final int indexPosition;
+    private final boolean previousFirst;
+
+    private KeyPathDifference(Type type, int segmentIndex, int indexPosition, boolean previousFirst) {
+        this.type = type;
+        this.segmentIndex = segmentIndex;
+        this.indexPosition = indexPosition;
+        this.previousFirst = previousFirst;
+    }
+
+    static KeyPathDifference between(KeySegment[] previous, KeySegment[] next) {
+        int commonLength = Math.min(previous.length, next.length);
+        for(int segmentIndex = 0; segmentIndex < commonLength; segmentIndex++) {
+            KeySegment previousSegment = previous[segmentIndex];
+            KeySegment nextSegment = next[segmentIndex];
+            if(previousSegment == nextSegment) {
+                continue;
+            }
+            int namesOrder = previousSegment.getFieldName().compareTo(nextSegment.getFieldName());
+            if(namesOrder != 0) {
+                return ordered(namesOrder < 0, segmentIndex, FIELD_NAME_POSITION);
+            }
+            int[] previousIndexes = indexesOf(previousSegment);
+            int[] nextIndexes = indexesOf(nextSegment);
+            int commonIndexes = Math.min(previousIndexes.length, nextIndexes.length);
+            for(int indexPosition = 0; indexPosition < commonIndexes; indexPosition++) {
+                if(previousIndexes[indexPosition] != nextIndexes[indexPosition]) {
+                    return ordered(previousIndexes[indexPosition] < nextIndexes[indexPosition], segmentIndex, indexPosition);
+                }
+            }
+            if(previousIndexes.length != nextIndexes.length) {
+                boolean previousShorter = previousIndexes.length < nextIndexes.length;
+                boolean shorterIsLeaf = previousShorter ? segmentIndex == previous.length - 1 : segmentIndex == next.length - 1;
+                if(shorterIsLeaf) {
+                    return new KeyPathDifference(previousShorter ? Type.PREFIX : Type.UNSORTED, segmentIndex, commonIndexes, previousShorter);
+                }
+                return new KeyPathDifference(Type.TYPE_CONFLICT, segmentIndex, commonIndexes, previousShorter);
+            }
+        }
+        if(previous.length == next.length) {
+            int lastSegment = previous.length - 1;
+            return new KeyPathDifference(Type.EQUAL, lastSegment, lastSegment < 0 ? 0 : indexesOf(previous[lastSegment]).length, true);
+        }
+        if(previous.length < next.length) {
+            int lastSegment = previous.length - 1;
+            return new KeyPathDifference(Type.PREFIX, lastSegment, lastSegment < 0 ? 0 : indexesOf(previous[lastSegment]).length, true);
+        }
+        return new KeyPathDifference(Type.UNSORTED, next.length - 1, 0, false);
+    }
+
+    private static KeyPathDifference ordered(boolean ordered, int segmentIndex, int indexPosition) {
+        return new KeyPathDifference(ordered ? Type.ORDERED : Type.UNSORTED, segmentIndex, indexPosition, ordered);
+    }
+
+    static int[] indexesOf(KeySegment segment) {
+        return segment.isArrayField() ? segment.getPropertyArrayHelper().getDimensionalIndexArray() : NO_INDEXES;
+    }
+
+    /**
+     * It returns position of step in whole path where paths are different.
+     *
+     * @param path one of compared paths
+     * @return position of first different step
+     */
+    int getStepPosition(KeySegment[] path) {
+        int stepPosition = 0;
+        for(int segment = 0; segment < segmentIndex; segment++) {
+            stepPosition += 1 + indexesOf(path[segment]).length;
+        }
+        return indexPosition == FIELD_NAME_POSITION ? stepPosition : stepPosition + 1 + indexPosition;
+    }
+
+    /**
+     * It returns path to json element which exists in both paths and where paths are different.
+     *
+     * @param path one of compared paths
+     * @return path like: field.array[0]
+     */
+    String getCommonPathText(KeySegment[] path) {
+        StringBuilder pathText = new StringBuilder();
+        for(int segment = 0; segment < segmentIndex; segment++) {
+            pathText.append(path[segment].getOriginalFieldName()).append(NORMAL_DOT);
+        }
+        pathText.append(path[segmentIndex].getFieldName());
+        int[] indexes = indexesOf(path[segmentIndex]);
+        for(int position = 0; position < indexPosition; position++) {
+            pathText.append(ARRAY_START_SIGN).append(indexes[position]).append(ARRAY_END_SIGN);
+        }
+        return pathText.toString();
+    }
+
+    Type getType() {
+        return type;
+    }
+
+    int getSegmentIndex() {
+        return segmentIndex;
+    }
+
+    int getIndexPosition() {
+        return indexPosition;
+    }
+
+    boolean isPreviousFirst() {
+        return previousFirst;
+    }
+}
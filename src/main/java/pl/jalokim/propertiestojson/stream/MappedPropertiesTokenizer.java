@@ -0,0 +1,232 @@
+package pl.jalokim.propertiestojson.stream;
+
+import pl.jalokim.propertiestojson.util.exception.ReadInputException;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static pl.jalokim.propertiestojson.stream.PropertiesEscapes.ESCAPE_SIGN;
+import static pl.jalokim.propertiestojson.stream.PropertiesEscapes.isSeparator;
+import static pl.jalokim.propertiestojson.stream.PropertiesEscapes.isWhiteSpace;
+import static pl.jalokim.propertiestojson.stream.PropertiesEscapes.unescape;
+
+/**
+ * It reads properties directly from bytes of memory mapped file in the same format like {@link java.util.Properties#load(java.io.Reader)}.
+ * Comments, separators, white signs and line ends are found in bytes, only keys and values are decoded to texts.
+ * Logical lines are split by {@link PropertiesLineScanner}.
+ * Keys and values with ASCII signs only and without escaped signs are created without decoder.
+ * Bytes are copied only for lines continued by backslash.
+ * It supports only charsets in which these signs are always single ASCII bytes: UTF-8, ISO-8859-1 and US-ASCII.
+ * When the same property key occurs many times then every occurrence is returned.
+ */
+public class MappedPropertiesTokenizer implements Iterator<Map.Entry<String, String>> {
+
+    private static final int INIT_LINE_SIZE = 256;
+
+    private final ByteBuffer input;
+    private final int limit;
+    private final CharsetDecoder decoder;
+    private final PropertiesLineScanner lineScanner = new PropertiesLineScanner();
+    private int position;
+
+    private ByteBuffer lineBytes;
+    private int lineStart;
+    private int lineEnd;
+    private byte[] joinedLine = new byte[INIT_LINE_SIZE];
+    private char[] signs = new char[INIT_LINE_SIZE];
+
+    private Map.Entry<String, String> nextProperty;
+
+    /**
+     * It creates tokenizer for all remaining bytes of given buffer.
+     *
+     * @param input   bytes with properties, for example memory mapped file
+     * @param charset charset of properties, it should be supported by {@link #isSupportedCharset(Charset)}
+     */
+    public MappedPropertiesTokenizer(ByteBuffer input, Charset charset) {
+        if(!isSupportedCharset(charset)) {
+            throw new IllegalArgumentException("Unsupported charset for tokenizer of bytes: " + charset);
+        }
+        this.input = input;
+        this.position = input.position();
+        this.limit = input.limit();
+        this.decoder = charset.newDecoder()
+                              .onMalformedInput(CodingErrorAction.REPLACE)
+                              .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    /**
+     * It returns properties from file, file is memory mapped when it is possible,
+     * otherwise properties are read by {@link PropertiesEntryReader}.
+     * Returned properties can be read only until given channel is open.
+     *
+     * @param fileChannel channel of file with properties
+     * @param charset     charset of properties
+     * @return properties from file
+     * @throws ReadInputException when cannot read file
+     */
+    public static Iterator<Map.Entry<String, String>> readProperties(FileChannel fileChannel, Charset charset) {
+        try {
+            long size = fileChannel.size();
+            if(size <= Integer.MAX_VALUE && isSupportedCharset(charset)) {
+                return new MappedPropertiesTokenizer(fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, size), charset);
+            }
+            return new PropertiesEntryReader(new InputStreamReader(Channels.newInputStream(fileChannel), charset));
+        } catch(IOException e) {
+            throw new ReadInputException(e);
+        }
+    }
+
+    public static boolean isSupportedCharset(Charset charset) {
+        return StandardCharsets.UTF_8.equals(charset) || StandardCharsets.ISO_8859_1.equals(charset)
+               || StandardCharsets.US_ASCII.equals(charset);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if(nextProperty == null && readLogicalLine()) {
+            nextProperty = splitToKeyAndValue();
+        }
+        return nextProperty != null;
+    }
+
+    @Override
+    public Map.Entry<String, String> next() {
+        if(!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Map.Entry<String, String> property = nextProperty;
+        nextProperty = null;
+        return property;
+    }
+
+    private boolean readLogicalLine() {
+        int segmentStart = -1;
+        int segmentEnd = -1;
+        int joinedLength = -1;
+        while(position < limit) {
+            int action = lineScanner.accept(input.get(position));
+            if(action == PropertiesLineScanner.APPEND) {
+                if(segmentStart < 0) {
+                    segmentStart = position;
+                }
+                segmentEnd = position + 1;
+            } else if(action == PropertiesLineScanner.CONTINUE_LINE) {
+                joinedLength = appendToJoinedLine(Math.max(joinedLength, 0), segmentStart, segmentEnd - 1);
+                segmentStart = -1;
+            } else if(action == PropertiesLineScanner.END_OF_LINE) {
+                position++;
+                setLine(segmentStart, segmentEnd, joinedLength);
+                return true;
+            }
+            position++;
+        }
+        int lineLength = lineScanner.endOfInput();
+        if(lineLength < 0) {
+            return false;
+        }
+        if(segmentStart >= 0) {
+            segmentEnd = segmentStart + lineLength - Math.max(joinedLength, 0);
+        }
+        setLine(segmentStart, segmentEnd, joinedLength);
+        return true;
+    }
+
+    private void setLine(int segmentStart, int segmentEnd, int joinedLength) {
+        int start = segmentStart < 0 ? 0 : segmentStart;
+        int end = segmentStart < 0 ? 0 : segmentEnd;
+        if(joinedLength < 0) {
+            setLine(input, start, end);
+        } else {
+            setLine(ByteBuffer.wrap(joinedLine), 0, appendToJoinedLine(joinedLength, start, end));
+        }
+    }
+
+    private int appendToJoinedLine(int joinedLength, int from, int to) {
+        int newLength = joinedLength + to - from;
+        if(newLength > joinedLine.length) {
+            joinedLine = Arrays.copyOf(joinedLine, Math.max(newLength, joinedLine.length * 2));
+        }
+        for(int index = from; index < to; index++) {
+            joinedLine[joinedLength + index - from] = input.get(index);
+        }
+        return newLength;
+    }
+
+    private void setLine(ByteBuffer bytes, int start, int end) {
+        lineBytes = bytes;
+        lineStart = start;
+        lineEnd = end;
+    }
+
+    private Map.Entry<String, String> splitToKeyAndValue() {
+        int keyEnd = lineStart;
+        int valueStart = lineEnd;
+        boolean hasSeparator = false;
+        boolean precedingBackslash = false;
+        while(keyEnd < lineEnd) {
+            byte sign = lineBytes.get(keyEnd);
+            if(!precedingBackslash && isSeparator(sign)) {
+                valueStart = keyEnd + 1;
+                hasSeparator = true;
+                break;
+            } else if(!precedingBackslash && isWhiteSpace(sign)) {
+                valueStart = keyEnd + 1;
+                break;
+            }
+            precedingBackslash = sign == ESCAPE_SIGN && !precedingBackslash;
+            keyEnd++;
+        }
+        while(valueStart < lineEnd) {
+            byte sign = lineBytes.get(valueStart);
+            if(!isWhiteSpace(sign)) {
+                if(hasSeparator || !isSeparator(sign)) {
+                    break;
+                }
+                hasSeparator = true;
+            }
+            valueStart++;
+        }
+        return new AbstractMap.SimpleImmutableEntry<>(toText(lineStart, keyEnd), toText(valueStart, lineEnd));
+    }
+
+    private String toText(int from, int to) {
+        int length = to - from;
+        if(signs.length < length) {
+            signs = new char[Math.max(length, signs.length * 2)];
+        }
+        for(int index = 0; index < length; index++) {
+            byte sign = lineBytes.get(from + index);
+            if(sign < 0) {
+                return decodeToText(from, to);
+            }
+            signs[index] = (char) sign;
+        }
+        return unescape(signs, 0, length);
+    }
+
+    private String decodeToText(int from, int to) {
+        ByteBuffer bytes = lineBytes.duplicate();
+        bytes.limit(to).position(from);
+        try {
+            CharBuffer decoded = decoder.reset().decode(bytes);
+            return unescape(decoded.array(), decoded.arrayOffset(), decoded.arrayOffset() + decoded.limit());
+        } catch(CharacterCodingException e) {
+            throw new ReadInputException(e);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package pl.jalokim.propertiestojson.stream;
+
+import pl.jalokim.propertiestojson.resolvers.PrimitiveJsonTypesResolver;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import static pl.jalokim.propertiestojson.stream.PropertiesEscapes.ESCAPE_SIGN;
+import static pl.jalokim.propertiestojson.stream.PropertiesEscapes.isLineEnd;
+
+/**
+ * It parses large properties in parallel. Bytes of properties are split to chunks at begin of lines,
+ * never inside of line continued by backslash. Every chunk is read by {@link MappedPropertiesTokenizer}
+ * and its values are resolved by {@link PrimitiveJsonTypesResolver#getResolvedObject(String, String)} in fork/join pool,
+ * then results of chunks are merged in order of chunks, so the last value of property key wins.
+ * Resolvers of values need to be thread safe.
+ */
+public class ParallelPropertiesParser {
+
+    public static final int DEFAULT_MIN_CHUNK_SIZE = 1024 * 1024;
+
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private final ForkJoinPool forkJoinPool;
+    private final int minChunkSize;
+
+    public ParallelPropertiesParser() {
+        this(ForkJoinPool.commonPool(), DEFAULT_MIN_CHUNK_SIZE);
+    }
+
+    /**
+     * It creates parser which uses given pool.
+     *
+     * @param forkJoinPool pool for parse of chunks
+     * @param minChunkSize min count of bytes in one chunk, smaller properties are parsed in current thread
+     */
+    public ParallelPropertiesParser(ForkJoinPool forkJoinPool, int minChunkSize) {
+        if(minChunkSize <= 0) {
+            throw new IllegalArgumentException("Min size of chunk should be positive, given: " + minChunkSize);
+        }
+        this.forkJoinPool = forkJoinPool;
+        this.minChunkSize = minChunkSize;
+    }
+
+    /**
+     * It checks that properties can be parsed by this parser.
+     *
+     * @param size    count of bytes of properties
+     * @param charset charset of properties
+     * @return true when properties can be memory mapped and charset is supported by {@link MappedPropertiesTokenizer}
+     */
+    public boolean canParse(long size, Charset charset) {
+        return size <= Integer.MAX_VALUE && MappedPropertiesTokenizer.isSupportedCharset(charset);
+    }
+
+    /**
+     * It returns properties with values after first conversion phase, from text to java object.
+     *
+     * @param input              bytes with properties, for example memory mapped file
+     * @param charset            charset of properties
+     * @param primitiveResolvers resolvers of values
+     * @return properties with resolved values
+     */
+    public Map<String, Object> parse(ByteBuffer input, Charset charset, PrimitiveJsonTypesResolver primitiveResolvers) {
+        int chunksCount = (int) Math.min((long) forkJoinPool.getParallelism() * CHUNKS_PER_THREAD,
+                                         Math.max(1, input.remaining() / minChunkSize));
+        int[] boundaries = findChunkBoundaries(input, chunksCount);
+        ParseChunksTask parseTask = new ParseChunksTask(input, boundaries, 0, boundaries.length - 1, charset, primitiveResolvers);
+        if(boundaries.length == 2) {
+            return parseTask.compute();
+        }
+        return forkJoinPool.invoke(parseTask);
+    }
+
+    /**
+     * It returns begins of chunks and end of last chunk. Every chunk begins at begin of new logical line.
+     *
+     * @param input       bytes with properties
+     * @param chunksCount expected count of chunks
+     * @return positions of chunks boundaries
+     */
+    static int[] findChunkBoundaries(ByteBuffer input, int chunksCount) {
+        int start = input.position();
+        int limit = input.limit();
+        int[] boundaries = new int[chunksCount + 1];
+        int boundariesCount = 0;
+        boundaries[boundariesCount++] = start;
+        long size = (long) limit - start;
+        for(int chunk = 1; chunk < chunksCount; chunk++) {
+            int previousBoundary = boundaries[boundariesCount - 1];
+            int boundary = findLineStart(input, (int) Math.max(start + size * chunk / chunksCount, previousBoundary), limit);
+            if(boundary > previousBoundary && boundary < limit) {
+                boundaries[boundariesCount++] = boundary;
+            }
+        }
+        boundaries[boundariesCount++] = limit;
+        return Arrays.copyOf(boundaries, boundariesCount);
+    }
+
+    private static int findLineStart(ByteBuffer input, int from, int limit) {
+        int position = from;
+        while(position < limit) {
+            byte sign = input.get(position);
+            if(!isLineEnd(sign)) {
+                position++;
+                continue;
+            }
+            int nextLineStart = position + 1;
+            if(sign == '\r' && nextLineStart < limit && input.get(nextLineStart) == '\n') {
+                nextLineStart++;
+            }
+            boolean secondSignOfLineEnd = sign == '\n' && position > input.position() && input.get(position - 1) == '\r';
+            if(!isContinuedLine(input, secondSignOfLineEnd ? position - 1 : position)) {
+                return nextLineStart;
+            }
+            position = nextLineStart;
+        }
+        return limit;
+    }
+
+    private static boolean isContinuedLine(ByteBuffer input, int lineEnd) {
+        int backslashesCount = 0;
+        int position = lineEnd - 1;
+        while(position >= input.position() && input.get(position) == ESCAPE_SIGN) {
+            backslashesCount++;
+            position--;
+        }
+        return backslashesCount % 2 == 1;
+    }
+
+    private static final class ParseChunksTask extends RecursiveTask<Map<String, Object>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient ByteBuffer input;
+        private final int[] boundaries;
+        private final int fromChunk;
+        private final int toChunk;
+        private final transient Charset charset;
+        private final transient PrimitiveJsonTypesResolver primitiveResolvers;
+
+        private ParseChunksTask(ByteBuffer input, int[] boundaries, int fromChunk, int toChunk,
+                                Charset charset, PrimitiveJsonTypesResolver primitiveResolvers) {
+            this.input = input;
+            this.boundaries = boundaries;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+            this.charset = charset;
+            this.primitiveResolvers = primitiveResolvers;
+        }
+
+        @Override
+        protected Map<String, Object> compute() {
+            if(toChunk - fromChunk == 1) {
+                return parseChunk();
+            }
+            int middleChunk = (fromChunk + toChunk) >>> 1;
+            ParseChunksTask firstHalf = new ParseChunksTask(input, boundaries, fromChunk, middleChunk, charset, primitiveResolvers);
+            firstHalf.fork();
+            Map<String, Object> secondHalfProperties = new ParseChunksTask(input, boundaries, middleChunk, toChunk, charset, primitiveResolvers)
+                    .compute();
+            Map<String, Object> properties = firstHalf.join();
+            properties.putAll(secondHalfProperties);
+            return properties;
+        }
+
+        private Map<String, Object> parseChunk() {
+            ByteBuffer chunk = input.duplicate();
+            chunk.limit(boundaries[toChunk]).position(boundaries[fromChunk]);
+            MappedPropertiesTokenizer tokenizer = new MappedPropertiesTokenizer(chunk, charset);
+            Map<String, Object> properties = new HashMap<>();
+            while(tokenizer.hasNext()) {
+                Map.Entry<String, String> property = tokenizer.next();
+                properties.put(property.getKey(), primitiveResolvers.getResolvedObject(property.getValue(), property.getKey()));
+            }
+            return properties;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package pl.jalokim.propertiestojson.stream;
+
+import pl.jalokim.propertiestojson.util.exception.ReadInputException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static pl.jalokim.propertiestojson.stream.PropertiesEscapes.ESCAPE_SIGN;
+import static pl.jalokim.propertiestojson.stream.PropertiesEscapes.isSeparator;
+import static pl.jalokim.propertiestojson.stream.PropertiesEscapes.isWhiteSpace;
+import static pl.jalokim.propertiestojson.stream.PropertiesEscapes.unescape;
+
+/**
+ * It reads properties one by one in the same format like {@link java.util.Properties#load(Reader)},
+ * logical lines are split by {@link PropertiesLineScanner},
+ * so properties are not stored in memory all together.
+ * Comments, separators: '=', ':' or white signs, continuation of lines and escaped signs are supported.
+ * When the same property key occurs many times then every occurrence is returned.
+ * Given reader is not closed.
+ */
+public class PropertiesEntryReader implements Iterator<Map.Entry<String, String>> {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int INIT_LINE_SIZE = 256;
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final PropertiesLineScanner lineScanner = new PropertiesLineScanner();
+    private int bufferPosition;
+    private int bufferLimit;
+    private char[] lineBuffer = new char[INIT_LINE_SIZE];
+
+    private Map.Entry<String, String> nextProperty;
+    private boolean endOfInput;
+
+    public PropertiesEntryReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if(nextProperty == null && !endOfInput) {
+            int lineLength = readLogicalLine();
+            if(lineLength < 0) {
+                endOfInput = true;
+            } else {
+                nextProperty = splitToKeyAndValue(lineLength);
+            }
+        }
+        return nextProperty != null;
+    }
+
+    @Override
+    public Map.Entry<String, String> next() {
+        if(!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Map.Entry<String, String> property = nextProperty;
+        nextProperty = null;
+        return property;
+    }
+
+    private int readLogicalLine() {
+        int length = 0;
+        while(true) {
+            if(bufferPosition >= bufferLimit) {
+                bufferLimit = read();
+                bufferPosition = 0;
+                if(bufferLimit <= 0) {
+                    bufferLimit = 0;
+                    return lineScanner.endOfInput();
+                }
+            }
+            char sign = buffer[bufferPosition++];
+            int action = lineScanner.accept(sign);
+            if(action == PropertiesLineScanner.APPEND) {
+                append(length++, sign);
+            } else if(action == PropertiesLineScanner.CONTINUE_LINE) {
+                length--;
+            } else if(action == PropertiesLineScanner.END_OF_LINE) {
+                return length;
+            }
+        }
+    }
+
+    private Map.Entry<String, String> splitToKeyAndValue(int lineLength) {
+        int keyLength = 0;
+        int valueStart = lineLength;
+        boolean hasSeparator = false;
+        boolean precedingBackslash = false;
+        while(keyLength < lineLength) {
+            char sign = lineBuffer[keyLength];
+            if(!precedingBackslash && isSeparator(sign)) {
+                valueStart = keyLength + 1;
+                hasSeparator = true;
+                break;
+            } else if(!precedingBackslash && isWhiteSpace(sign)) {
+                valueStart = keyLength + 1;
+                break;
+            }
+            precedingBackslash = sign == ESCAPE_SIGN && !precedingBackslash;
+            keyLength++;
+        }
+        while(valueStart < lineLength) {
+            char sign = lineBuffer[valueStart];
+            if(!isWhiteSpace(sign)) {
+                if(hasSeparator || !isSeparator(sign)) {
+                    break;
+                }
+                hasSeparator = true;
+            }
+            valueStart++;
+        }
+        return new AbstractMap.SimpleImmutableEntry<>(unescape(lineBuffer, 0, keyLength), unescape(lineBuffer, valueStart, lineLength));
+    }
+
+    private void append(int position, char sign) {
+        if(position == lineBuffer.length) {
+            lineBuffer = Arrays.copyOf(lineBuffer, position * 2);
+        }
+        lineBuffer[position] = sign;
+    }
+
+    private int read() {
+        try {
+            return reader.read(buffer);
+        } catch(IOException e) {
+            throw new ReadInputException(e);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package pl.jalokim.propertiestojson.stream;
+
+/**
+ * Escaped signs in keys and values of properties, like in {@link java.util.Properties#load(java.io.Reader)}.
+ */
+final class PropertiesEscapes {
+
+    static final char ESCAPE_SIGN = '\\';
+
+    private static final int UNICODE_DIGITS = 4;
+    private static final int HEX_RADIX = 16;
+    private static final int HEX_LETTER_OFFSET = 10;
+    private static final String MALFORMED_UNICODE = "Malformed \\uxxxx encoding.";
+
+    private PropertiesEscapes() {
+    }
+
+    /**
+     * It returns text with replaced escaped signs: \t, \r, \n, \f, \\uxxxx and any other escaped sign as itself.
+     *
+     * @param signs signs of key or value
+     * @param from  first sign of text
+     * @param to    end of text, exclusive
+     * @return text without escapes
+     * @throws IllegalArgumentException when \\uxxxx is malformed
+     */
+    static String unescape(char[] signs, int from, int to) {
+        int position = from;
+        while(position < to && signs[position] != ESCAPE_SIGN) {
+            position++;
+        }
+        if(position == to) {
+            return new String(signs, from, to - from);
+        }
+        StringBuilder text = new StringBuilder(to - from);
+        text.append(signs, from, position - from);
+        while(position < to) {
+            char sign = signs[position++];
+            if(sign != ESCAPE_SIGN || position == to) {
+                text.append(sign);
+                continue;
+            }
+            sign = signs[position++];
+            if(sign == 'u') {
+                text.append(readUnicode(signs, position, to));
+                position += UNICODE_DIGITS;
+            } else if(sign == 't') {
+                text.append('\t');
+            } else if(sign == 'r') {
+                text.append('\r');
+            } else if(sign == 'n') {
+                text.append('\n');
+            } else if(sign == 'f') {
+                text.append('\f');
+            } else {
+                text.append(sign);
+            }
+        }
+        return text.toString();
+    }
+
+    static boolean isWhiteSpace(int sign) {
+        return sign == ' ' || sign == '\t' || sign == '\f';
+    }
+
+    static boolean isLineEnd(int sign) {
+        return sign == '\n' || sign == '\r';
+    }
+
+    static boolean isSeparator(int sign) {
+        return sign == '=' || sign == ':';
+    }
+
+    static boolean isCommentStart(int sign) {
+        return sign == '#' || sign == '!';
+    }
+
+    private static char readUnicode(char[] signs, int from, int to) {
+        if(from + UNICODE_DIGITS > to) {
+            throw new IllegalArgumentException(MALFORMED_UNICODE);
+        }
+        int value = 0;
+        for(int position = from; position < from + UNICODE_DIGITS; position++) {
+            value = value * HEX_RADIX + hexDigit(signs[position]);
+        }
+        return (char) value;
+    }
+
+    private static int hexDigit(char sign) {
+        if(sign >= '0' && sign <= '9') {
+            return sign - '0';
+        } else if(sign >= 'a' && sign <= 'f') {
+            return sign - 'a' + HEX_LETTER_OFFSET;
+        } else if(sign >= 'A' && sign <= 'F') {
+            return sign - 'A' + HEX_LETTER_OFFSET;
+        }
+        throw new IllegalArgumentException(MALFORMED_UNICODE);
+    }
+}
@@ -0,0 +1,143 @@
+package pl.jalokim.propertiestojson.stream;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Properties;
+
+import static pl.jalokim.propertiestojson.stream.PropertiesEscapes.ESCAPE_SIGN;
+import static pl.jalokim.propertiestojson.stream.PropertiesEscapes.isCommentStart;
+import static pl.jalokim.propertiestojson.stream.PropertiesEscapes.isLineEnd;
+import static pl.jalokim.propertiestojson.stream.PropertiesEscapes.isWhiteSpace;
+
+/**
+ * It splits signs of properties to logical lines in the same way like {@link Properties#load(java.io.Reader)}
+ * of current java runtime, so {@link PropertiesEntryReader} and {@link MappedPropertiesTokenizer} return the same properties.
+ * Signs are given one by one and scanner tells what should be done with every sign, scanner doesn't keep signs of line.
+ * Line continued by backslash at the end of input or before last line end of input gives line without the backslash,
+ * so line with only backslash gives property with empty key and empty value.
+ * Line after line with only backslash is comment line when it begins with '#' or '!' only since java 9,
+ * java 8 reads it as part of property, scanner checks which behaviour has current java runtime.
+ */
+final class PropertiesLineScanner {
+
+    /**
+     * Sign is not part of logical line.
+     */
+    static final int SKIP = 0;
+    /**
+     * Sign is next sign of logical line.
+     */
+    static final int APPEND = 1;
+    /**
+     * Sign is line end after backslash, the backslash is not part of logical line and next line continues logical line.
+     */
+    static final int CONTINUE_LINE = 2;
+    /**
+     * Sign is line end of logical line, logical line is complete and sign is not part of it.
+     */
+    static final int END_OF_LINE = 3;
+
+    static final boolean COMMENT_AFTER_EMPTY_CONTINUATION = isCommentAfterEmptyContinuation();
+
+    private int length;
+    private boolean skipWhiteSpace = true;
+    private boolean commentLine;
+    private boolean newLine = true;
+    private boolean appendedLineBegin;
+    private boolean precedingBackslash;
+    private boolean skipLineFeed;
+    private boolean emptyLineAtEnd;
+
+    /**
+     * It returns what should be done with next sign of properties.
+     *
+     * @param sign next sign of properties
+     * @return one of {@link #SKIP}, {@link #APPEND}, {@link #CONTINUE_LINE} or {@link #END_OF_LINE}
+     */
+    int accept(int sign) {
+        emptyLineAtEnd = false;
+        if(skipLineFeed) {
+            skipLineFeed = false;
+            if(sign == '\n') {
+                return SKIP;
+            }
+        }
+        if(skipWhiteSpace) {
+            if(isWhiteSpace(sign) || !appendedLineBegin && isLineEnd(sign)) {
+                return SKIP;
+            }
+            skipWhiteSpace = false;
+            appendedLineBegin = false;
+        }
+        if(newLine || COMMENT_AFTER_EMPTY_CONTINUATION && length == 0) {
+            newLine = false;
+            if(isCommentStart(sign)) {
+                commentLine = true;
+                return SKIP;
+            }
+        }
+        if(!isLineEnd(sign)) {
+            if(commentLine) {
+                return SKIP;
+            }
+            length++;
+            precedingBackslash = sign == ESCAPE_SIGN && !precedingBackslash;
+            return APPEND;
+        }
+        if(commentLine || length == 0) {
+            commentLine = false;
+            newLine = true;
+            skipWhiteSpace = true;
+            length = 0;
+            return SKIP;
+        }
+        if(precedingBackslash) {
+            length--;
+            skipWhiteSpace = true;
+            appendedLineBegin = true;
+            precedingBackslash = false;
+            skipLineFeed = sign == '\r';
+            emptyLineAtEnd = length == 0;
+            return CONTINUE_LINE;
+        }
+        reset();
+        return END_OF_LINE;
+    }
+
+    /**
+     * It finishes logical line at the end of input.
+     *
+     * @return length of last logical line or -1 when there is no more logical line
+     */
+    int endOfInput() {
+        int lineLength = -1;
+        if(length > 0) {
+            lineLength = precedingBackslash ? length - 1 : length;
+        } else if(emptyLineAtEnd) {
+            lineLength = 0;
+        }
+        reset();
+        return lineLength;
+    }
+
+    private void reset() {
+        length = 0;
+        skipWhiteSpace = true;
+        commentLine = false;
+        newLine = true;
+        appendedLineBegin = false;
+        precedingBackslash = false;
+        skipLineFeed = false;
+        emptyLineAtEnd = false;
+    }
+
+    private static boolean isCommentAfterEmptyContinuation() {
+        Properties properties = new Properties();
+        try {
+            properties.load(new StringReader("\\\n#"));
+        } catch(IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return properties.isEmpty();
+    }
+}
@@ -0,0 +1,42 @@
+package pl.jalokim.propertiestojson.stream;
+
+import pl.jalokim.propertiestojson.path.KeySegment;
+import pl.jalokim.propertiestojson.path.KeySegmentTrie;
+
+import java.util.Comparator;
+
+/**
+ * It compares property keys field by field, field names are compared like texts and array indexes are compared like numbers.
+ * So <b>array[2]</b> is before <b>array[10]</b> and all keys with the same prefix are next to each other.
+ * Property keys in this order can be converted by {@link SortedPropertiesJsonEmitter}.
+ */
+public class PropertyKeyPathComparator implements Comparator<String> {
+
+    private final KeySegmentTrie keySegmentTrie;
+
+    public PropertyKeyPathComparator() {
+        this(new KeySegmentTrie());
+    }
+
+    /**
+     * It creates comparator which uses given trie for parse of property keys.
+     *
+     * @param keySegmentTrie trie with parsed fields of property keys
+     */
+    public PropertyKeyPathComparator(KeySegmentTrie keySegmentTrie) {
+        this.keySegmentTrie = keySegmentTrie;
+    }
+
+    @Override
+    public int compare(String firstKey, String secondKey) {
+        return compare(firstKey, keySegmentTrie.getSegments(firstKey), secondKey, keySegmentTrie.getSegments(secondKey));
+    }
+
+    static int compare(String firstKey, KeySegment[] firstPath, String secondKey, KeySegment[] secondPath) {
+        KeyPathDifference difference = KeyPathDifference.between(firstPath, secondPath);
+        if(difference.getType() == KeyPathDifference.Type.EQUAL) {
+            return firstKey.compareTo(secondKey);
+        }
+        return difference.isPreviousFirst() ? -1 : 1;
+    }
+}
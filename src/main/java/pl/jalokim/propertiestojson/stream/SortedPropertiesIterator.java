@@ -0,0 +1,80 @@
+package pl.jalokim.propertiestojson.stream;
+
+import java.io.Closeable;
+import java.io.File;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Properties in order of {@link PropertyKeyPathComparator} merged from sorted runs (k-way merge).
+ * When the same property key exists in many runs then only value from the newest run is returned,
+ * like for {@link java.util.Properties} where the last value of property key wins.
+ * It should be closed after use, then temporary files of runs are removed.
+ */
+public final class SortedPropertiesIterator implements Iterator<Map.Entry<String, String>>, Closeable {
+
+    private static final Comparator<SortedPropertiesRun> MERGE_ORDER = (first, second) -> {
+        int pathOrder = PropertyKeyPathComparator.compare(first.getKey(), first.getPath(), second.getKey(), second.getPath());
+        return pathOrder != 0 ? pathOrder : Integer.compare(second.getOrder(), first.getOrder());
+    };
+
+    private final PriorityQueue<SortedPropertiesRun> runs;
+    private final List<File> runFiles;
+
+    SortedPropertiesIterator(List<SortedPropertiesRun> runs, List<File> runFiles) {
+        this.runs = new PriorityQueue<>(Math.max(1, runs.size()), MERGE_ORDER);
+        this.runFiles = new ArrayList<>(runFiles);
+        for(SortedPropertiesRun run : runs) {
+            moveToNext(run);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !runs.isEmpty();
+    }
+
+    @Override
+    public Map.Entry<String, String> next() {
+        if(runs.isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        SortedPropertiesRun newestRun = runs.poll();
+        Map.Entry<String, String> property = new AbstractMap.SimpleImmutableEntry<>(newestRun.getKey(), newestRun.getValue());
+        moveToNext(newestRun);
+        while(!runs.isEmpty() && runs.peek().getKey().equals(property.getKey())) {
+            moveToNext(runs.poll());
+        }
+        return property;
+    }
+
+    /**
+     * It closes all runs and removes their temporary files.
+     */
+    @Override
+    public void close() {
+        try {
+            for(SortedPropertiesRun run : runs) {
+                run.close();
+            }
+            runs.clear();
+        } finally {
+            ExternalPropertiesSorter.deleteFiles(runFiles);
+            runFiles.clear();
+        }
+    }
+
+    private void moveToNext(SortedPropertiesRun run) {
+        if(run.advance()) {
+            runs.add(run);
+        } else {
+            run.close();
+        }
+    }
+}
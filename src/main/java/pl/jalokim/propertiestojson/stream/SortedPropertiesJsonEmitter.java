@@ -0,0 +1,221 @@
+package pl.jalokim.propertiestojson.stream;
+
+import pl.jalokim.propertiestojson.object.AbstractJsonType;
+import pl.jalokim.propertiestojson.object.MergableObject;
+import pl.jalokim.propertiestojson.object.SkipJsonField;
+import pl.jalokim.propertiestojson.path.KeySegment;
+import pl.jalokim.propertiestojson.path.KeySegmentTrie;
+import pl.jalokim.propertiestojson.resolvers.PrimitiveJsonTypesResolver;
+import pl.jalokim.propertiestojson.util.PropertyConflict.JsonNodeKind;
+import pl.jalokim.propertiestojson.util.exception.CannotOverrideFieldException;
+import pl.jalokim.propertiestojson.util.exception.ParsePropertiesException;
+import pl.jalokim.propertiestojson.writer.JsonStreamWriter;
+
+import java.util.Arrays;
+
+import static java.lang.String.format;
+import static pl.jalokim.propertiestojson.object.JsonNullReferenceType.NULL_OBJECT;
+import static pl.jalokim.propertiestojson.stream.KeyPathDifference.indexesOf;
+import static pl.jalokim.propertiestojson.util.exception.ParsePropertiesException.CANNOT_MERGE_IN_SORTED_MODE;
+import static pl.jalokim.propertiestojson.util.exception.ParsePropertiesException.PROPERTY_KEYS_NOT_SORTED;
+
+/**
+ * It writes json directly during read of properties, without json objects tree in memory.
+ * Property keys need to be in order of {@link PropertyKeyPathComparator}, then only json objects and json arrays
+ * from path of current property key are opened, so memory usage depends only on depth of json.
+ * Leaf values are resolved by {@link PrimitiveJsonTypesResolver} in the same way like during normal conversion.
+ * Fields which are json object in one property key and json array in another property key are reported
+ * by {@link CannotOverrideFieldException} with path and kind of already written json object or json array,
+ * its fields are not kept, so current value in message is only "{...}" or "[...]".
+ * Values which should be merged with next property keys (json object or json array as value) are not supported,
+ * then {@link ParsePropertiesException} is thrown.
+ */
+public class SortedPropertiesJsonEmitter {
+
+    private static final int INIT_DEPTH = 16;
+    private static final int ROOT_STEP = -1;
+    private static final int JSON_OBJECT = -1;
+
+    private final PrimitiveJsonTypesResolver primitiveJsonTypesResolver;
+    private final KeySegmentTrie keySegmentTrie;
+    private final JsonStreamWriter writer;
+
+    private int[] openedBySteps = new int[INIT_DEPTH];
+    private int[] nextArrayIndexes = new int[INIT_DEPTH];
+    private int openedCount;
+
+    private String previousPropertyKey;
+    private KeySegment[] previousPath;
+    private AbstractJsonType previousLeafValue;
+
+    public SortedPropertiesJsonEmitter(PrimitiveJsonTypesResolver primitiveJsonTypesResolver,
+                                       KeySegmentTrie keySegmentTrie, JsonStreamWriter writer) {
+        this.primitiveJsonTypesResolver = primitiveJsonTypesResolver;
+        this.keySegmentTrie = keySegmentTrie;
+        this.writer = writer;
+    }
+
+    /**
+     * It checks that property keys are in order of {@link PropertyKeyPathComparator} and that every value can be written
+     * without merge with value of next property key.
+     *
+     * @param propertyKeys   property keys in order of conversion
+     * @param keySegmentTrie trie with parsed fields of property keys
+     * @return true when json for these property keys can be written by this emitter
+     */
+    public static boolean canEmitInOrder(Iterable<String> propertyKeys, KeySegmentTrie keySegmentTrie) {
+        KeySegment[] previousPath = null;
+        for(String propertyKey : propertyKeys) {
+            KeySegment[] path = keySegmentTrie.getSegments(propertyKey);
+            if(path.length == 0 || previousPath != null
+                    && KeyPathDifference.between(previousPath, path).getType() != KeyPathDifference.Type.ORDERED) {
+                return false;
+            }
+            previousPath = path;
+        }
+        return true;
+    }
+
+    /**
+     * It writes value for next property key.
+     *
+     * @param propertyKey property key, not before previous property key
+     * @param value       value after first conversion phase, from text to java object
+     */
+    public void emit(String propertyKey, Object value) {
+        if(value instanceof SkipJsonField) {
+            return;
+        }
+        KeySegment[] path = keySegmentTrie.getSegments(propertyKey);
+        AbstractJsonType jsonValue = primitiveJsonTypesResolver.resolvePrimitiveTypeAndReturn(value, propertyKey);
+        if(jsonValue instanceof SkipJsonField && !path[path.length - 1].isArrayField()) {
+            return;
+        }
+        int stepPosition = 0;
+        int segmentIndex = 0;
+        int indexPosition = KeyPathDifference.FIELD_NAME_POSITION;
+        if(openedCount == 0) {
+            beginObject(ROOT_STEP);
+        } else {
+            KeyPathDifference difference = KeyPathDifference.between(previousPath, path);
+            checkDifference(difference, propertyKey);
+            stepPosition = difference.getStepPosition(path);
+            segmentIndex = difference.getSegmentIndex();
+            indexPosition = difference.getIndexPosition();
+            closeOpenedFrom(stepPosition);
+        }
+        writePath(path, segmentIndex, indexPosition, stepPosition, jsonValue);
+        previousPropertyKey = propertyKey;
+        previousPath = path;
+        previousLeafValue = jsonValue;
+    }
+
+    /**
+     * It closes all opened json objects and json arrays and flushes writer.
+     */
+    public void finish() {
+        if(openedCount == 0) {
+            beginObject(ROOT_STEP);
+        }
+        closeOpenedFrom(ROOT_STEP);
+        writer.flush();
+    }
+
+    private void checkDifference(KeyPathDifference difference, String propertyKey) {
+        switch(difference.getType()) {
+            case ORDERED:
+                return;
+            case UNSORTED:
+                throw new ParsePropertiesException(format(PROPERTY_KEYS_NOT_SORTED, previousPropertyKey, propertyKey));
+            case TYPE_CONFLICT:
+                int previousStep = difference.getStepPosition(previousPath);
+                boolean openedArray = nextArrayIndexes[openedIndexOf(previousStep - 1)] != JSON_OBJECT;
+                throw CannotOverrideFieldException.withValueKind(difference.getCommonPathText(previousPath),
+                                                                 openedArray ? JsonNodeKind.ARRAY : JsonNodeKind.OBJECT, propertyKey);
+            default:
+                if(previousLeafValue instanceof MergableObject) {
+                    throw new ParsePropertiesException(format(CANNOT_MERGE_IN_SORTED_MODE, previousPropertyKey, propertyKey));
+                }
+                throw new CannotOverrideFieldException(difference.getCommonPathText(previousPath), previousLeafValue, propertyKey);
+        }
+    }
+
+    private void writePath(KeySegment[] path, int fromSegment, int fromIndexPosition, int fromStep, AbstractJsonType jsonValue) {
+        int stepPosition = fromStep;
+        int indexPosition = fromIndexPosition;
+        for(int segmentIndex = fromSegment; segmentIndex < path.length; segmentIndex++) {
+            int[] indexes = indexesOf(path[segmentIndex]);
+            boolean lastSegment = segmentIndex == path.length - 1;
+            for(; indexPosition < indexes.length; indexPosition++) {
+                if(indexPosition == KeyPathDifference.FIELD_NAME_POSITION) {
+                    writer.name(path[segmentIndex].getFieldName());
+                } else {
+                    moveToArrayIndex(indexes[indexPosition]);
+                }
+                boolean lastStep = lastSegment && indexPosition == indexes.length - 1;
+                if(lastStep) {
+                    writeLeaf(jsonValue);
+                } else if(indexPosition + 1 < indexes.length) {
+                    writer.beginArray();
+                    open(stepPosition, 0);
+                } else {
+                    beginObject(stepPosition);
+                }
+                stepPosition++;
+            }
+            indexPosition = KeyPathDifference.FIELD_NAME_POSITION;
+        }
+    }
+
+    private void moveToArrayIndex(int index) {
+        int top = openedCount - 1;
+        for(int nullIndex = nextArrayIndexes[top]; nullIndex < index; nullIndex++) {
+            NULL_OBJECT.writeJson(writer);
+        }
+        nextArrayIndexes[top] = index + 1;
+    }
+
+    private void writeLeaf(AbstractJsonType jsonValue) {
+        if(!(jsonValue instanceof SkipJsonField)) {
+            jsonValue.writeJson(writer);
+        }
+    }
+
+    private void beginObject(int openedByStep) {
+        writer.beginObject();
+        open(openedByStep, JSON_OBJECT);
+    }
+
+    /**
+     * It returns position in stack of opened json objects and json arrays of json object or json array
+     * which is value of given step.
+     */
+    private int openedIndexOf(int openedByStep) {
+        int openedIndex = openedCount - 1;
+        while(openedBySteps[openedIndex] != openedByStep) {
+            openedIndex--;
+        }
+        return openedIndex;
+    }
+
+    private void open(int openedByStep, int nextArrayIndex) {
+        if(openedCount == openedBySteps.length) {
+            openedBySteps = Arrays.copyOf(openedBySteps, openedCount * 2);
+            nextArrayIndexes = Arrays.copyOf(nextArrayIndexes, openedCount * 2);
+        }
+        openedBySteps[openedCount] = openedByStep;
+        nextArrayIndexes[openedCount] = nextArrayIndex;
+        openedCount++;
+    }
+
+    private void closeOpenedFrom(int stepPosition) {
+        while(openedCount > 0 && openedBySteps[openedCount - 1] >= stepPosition) {
+            openedCount--;
+            if(nextArrayIndexes[openedCount] == JSON_OBJECT) {
+                writer.endObject();
+            } else {
+                writer.endArray();
+            }
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package pl.jalokim.propertiestojson.stream;
+
+import pl.jalokim.propertiestojson.path.KeySegment;
+import pl.jalokim.propertiestojson.path.KeySegmentTrie;
+import pl.jalokim.propertiestojson.util.exception.ReadInputException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sorted sequence of properties during k-way merge, read from memory or from temporary file.
+ * Runs with greater order contain properties which were read later, so their values override values from older runs.
+ */
+abstract class SortedPropertiesRun implements Closeable {
+
+    private static final byte NEXT_PROPERTY = 1;
+    private static final byte END_OF_RUN = 0;
+    private static final int IO_BUFFER_SIZE = 64 * 1024;
+
+    private final int order;
+    private String key;
+    private String value;
+    private KeySegment[] path;
+
+    SortedPropertiesRun(int order) {
+        this.order = order;
+    }
+
+    static SortedPropertiesRun fromMemory(int order, List<SortedProperty> sortedProperties) {
+        return new MemoryRun(order, sortedProperties.iterator());
+    }
+
+    static SortedPropertiesRun fromFile(int order, File runFile, KeySegmentTrie keySegmentTrie) {
+        try {
+            return new FileRun(order, runFile, keySegmentTrie);
+        } catch(IOException e) {
+            throw new ReadInputException(e);
+        }
+    }
+
+    /**
+     * It writes sorted properties to file which can be read by {@link #fromFile(int, File, KeySegmentTrie)}.
+     *
+     * @param runFile          target file
+     * @param sortedProperties properties in order of {@link PropertyKeyPathComparator}
+     */
+    static void writeToFile(File runFile, Iterator<? extends Map.Entry<String, String>> sortedProperties) {
+        try(DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(runFile), IO_BUFFER_SIZE))) {
+            while(sortedProperties.hasNext()) {
+                Map.Entry<String, String> property = sortedProperties.next();
+                output.writeByte(NEXT_PROPERTY);
+                writeText(output, property.getKey());
+                writeText(output, property.getValue());
+            }
+            output.writeByte(END_OF_RUN);
+        } catch(IOException e) {
+            throw new ReadInputException(e);
+        }
+    }
+
+    /**
+     * It moves to next property of this run.
+     *
+     * @return false when there is no more properties
+     */
+    abstract boolean advance();
+
+    @Override
+    public abstract void close();
+
+    int getOrder() {
+        return order;
+    }
+
+    String getKey() {
+        return key;
+    }
+
+    String getValue() {
+        return value;
+    }
+
+    KeySegment[] getPath() {
+        return path;
+    }
+
+    void setCurrent(String key, String value, KeySegment[] path) {
+        this.key = key;
+        this.value = value;
+        this.path = path;
+    }
+
+    private static void writeText(DataOutputStream output, String text) throws IOException {
+        output.writeInt(text.length());
+        output.writeChars(text);
+    }
+
+    private static final class MemoryRun extends SortedPropertiesRun {
+
+        private final Iterator<SortedProperty> sortedProperties;
+
+        private MemoryRun(int order, Iterator<SortedProperty> sortedProperties) {
+            super(order);
+            this.sortedProperties = sortedProperties;
+        }
+
+        @Override
+        boolean advance() {
+            if(!sortedProperties.hasNext()) {
+                return false;
+            }
+            SortedProperty property = sortedProperties.next();
+            setCurrent(property.getKey(), property.getValue(), property.getPath());
+            return true;
+        }
+
+        @Override
+        public void close() {
+            // nothing to release
+        }
+    }
+
+    private static final class FileRun extends SortedPropertiesRun {
+
+        private final DataInputStream input;
+        private final KeySegmentTrie keySegmentTrie;
+        private byte[] textBytes = new byte[0];
+
+        private FileRun(int order, File runFile, KeySegmentTrie keySegmentTrie) throws IOException {
+            super(order);
+            this.input = new DataInputStream(new BufferedInputStream(new FileInputStream(runFile), IO_BUFFER_SIZE));
+            this.keySegmentTrie = keySegmentTrie;
+        }
+
+        @Override
+        boolean advance() {
+            try {
+                if(input.readByte() == END_OF_RUN) {
+                    return false;
+                }
+                String key = readText();
+                setCurrent(key, readText(), keySegmentTrie.getSegments(key));
+                return true;
+            } catch(IOException e) {
+                throw new ReadInputException(e);
+            }
+        }
+
+        private String readText() throws IOException {
+            int length = input.readInt();
+            int bytesCount = length * Character.BYTES;
+            if(textBytes.length < bytesCount) {
+                textBytes = new byte[bytesCount];
+            }
+            input.readFully(textBytes, 0, bytesCount);
+            char[] signs = new char[length];
+            for(int index = 0; index < length; index++) {
+                signs[index] = (char) ((textBytes[2 * index] & 0xFF) << Byte.SIZE | textBytes[2 * index + 1] & 0xFF);
+            }
+            return new String(signs);
+        }
+
+        @Override
+        public void close() {
+            try {
+                input.close();
+            } catch(IOException e) {
+                throw new ReadInputException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package pl.jalokim.propertiestojson.stream;
+
+import pl.jalokim.propertiestojson.path.KeySegment;
+
+import java.util.AbstractMap;
+import java.util.Comparator;
+
+/**
+ * Property with parsed fields of property key, it is sorted in memory before spill to file.
+ */
+final class SortedProperty extends AbstractMap.SimpleImmutableEntry<String, String> {
+
+    static final Comparator<SortedProperty> PATH_ORDER = (first, second) ->
+            PropertyKeyPathComparator.compare(first.getKey(), first.path, second.getKey(), second.path);
+
+    private static final long serialVersionUID = 1L;
+    private static final int ESTIMATED_OVERHEAD = 128;
+    private static final int REFERENCE_SIZE = 8;
+
+    private final transient KeySegment[] path;
+
+    SortedProperty(String key, String value, KeySegment[] path) {
+        super(key, value);
+        this.path = path;
+    }
+
+    KeySegment[] getPath() {
+        return path;
+    }
+
+    /**
+     * It returns estimated count of bytes used in heap by this property.
+     *
+     * @return count of bytes
+     */
+    long estimateSize() {
+        return ESTIMATED_OVERHEAD + (long) Character.BYTES * (getKey().length() + getValue().length())
+               + (long) REFERENCE_SIZE * path.length;
+    }
+}
@@ -1,19 +1,20 @@
 package pl.jalokim.propertiestojson.util;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParser;
 import pl.jalokim.propertiestojson.AlgorithmType;
+import pl.jalokim.propertiestojson.JsonObjectsTraverseCursor;
 import pl.jalokim.propertiestojson.JsonObjectsTraverseResolver;
 import pl.jalokim.propertiestojson.helper.PropertyKeysOrderResolver;
 import pl.jalokim.propertiestojson.object.ObjectJsonType;
+import pl.jalokim.propertiestojson.object.PrimitiveJsonTypesInterner;
+import pl.jalokim.propertiestojson.path.DomainKeysFilter;
+import pl.jalokim.propertiestojson.path.KeySegmentTrie;
 import pl.jalokim.propertiestojson.path.PathMetadata;
 import pl.jalokim.propertiestojson.path.PathMetadataBuilder;
 import pl.jalokim.propertiestojson.resolvers.ArrayJsonTypeResolver;
 import pl.jalokim.propertiestojson.resolvers.JsonTypeResolver;
 import pl.jalokim.propertiestojson.resolvers.ObjectJsonTypeResolver;
 import pl.jalokim.propertiestojson.resolvers.PrimitiveJsonTypesResolver;
+import pl.jalokim.propertiestojson.resolvers.ResolvedValuesCache;
 import pl.jalokim.propertiestojson.resolvers.primitives.PrimitiveJsonTypeResolver;
 import pl.jalokim.propertiestojson.resolvers.primitives.StringJsonTypeResolver;
 import pl.jalokim.propertiestojson.resolvers.primitives.adapter.PrimitiveJsonTypeResolverToNewApiAdapter;
@@ -23,19 +24,32 @@ import pl.jalokim.propertiestojson.resolvers.primitives.object.StringToJsonTypeC
 import pl.jalokim.propertiestojson.resolvers.primitives.string.TextToConcreteObjectResolver;
 import pl.jalokim.propertiestojson.resolvers.primitives.string.TextToEmptyStringResolver;
 import pl.jalokim.propertiestojson.resolvers.primitives.string.TextToJsonNullReferenceResolver;
+import pl.jalokim.propertiestojson.stream.ExternalPropertiesSorter;
+import pl.jalokim.propertiestojson.stream.MappedPropertiesTokenizer;
+import pl.jalokim.propertiestojson.stream.ParallelPropertiesParser;
+import pl.jalokim.propertiestojson.stream.PropertiesEntryReader;
+import pl.jalokim.propertiestojson.stream.PropertyKeyPathComparator;
+import pl.jalokim.propertiestojson.stream.SortedPropertiesIterator;
+import pl.jalokim.propertiestojson.stream.SortedPropertiesJsonEmitter;
+import pl.jalokim.propertiestojson.util.exception.CannotOverrideFieldException;
+import pl.jalokim.propertiestojson.util.exception.ConflictExceptions;
+import pl.jalokim.propertiestojson.util.exception.MergeObjectException;
 import pl.jalokim.propertiestojson.util.exception.ParsePropertiesException;
 import pl.jalokim.propertiestojson.util.exception.ReadInputException;
+import pl.jalokim.propertiestojson.util.exception.WriteOutputException;
+import pl.jalokim.propertiestojson.writer.JsonStreamWriter;
 
 import java.io.*;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
 import java.util.stream.Collectors;
 
 import static java.lang.String.format;
 import static java.util.Arrays.asList;
 import static java.util.Objects.requireNonNull;
-import static pl.jalokim.propertiestojson.Constants.ARRAY_START_SIGN;
 import static pl.jalokim.propertiestojson.resolvers.primitives.object.NullToJsonTypeConverter.NULL_TO_JSON_RESOLVER;
 import static pl.jalokim.propertiestojson.resolvers.primitives.object.StringToJsonTypeConverter.STRING_TO_JSON_RESOLVER;
 import static pl.jalokim.propertiestojson.resolvers.primitives.string.TextToEmptyStringResolver.EMPTY_TEXT_RESOLVER;
@@ -47,6 +61,10 @@ import static pl.jalokim.propertiestojson.util.exception.ParsePropertiesExceptio
 import static pl.jalokim.propertiestojson.util.exception.ParsePropertiesException.STRING_RESOLVER_AS_NOT_LAST;
 import static pl.jalokim.propertiestojson.util.exception.ParsePropertiesException.STRING_TO_JSON_RESOLVER_AS_NOT_LAST;
 
+/**
+ * It converts properties to json. State of conversion is created for every call,
+ * so one built converter can be used by many threads at once.
+ */
 public final class PropertiesToJsonConverter {
 
     private final NullToJsonTypeConverter nullToJsonConverter;
@@ -56,9 +74,13 @@ public final class PropertiesToJsonConverter {
     private final Map<AlgorithmType, JsonTypeResolver> algorithms = new HashMap<>();
     private final PrimitiveJsonTypesResolver primitiveResolvers;
 
-    private PropertyKeysOrderResolver propertyKeysOrderResolver = new PropertyKeysOrderResolver();
+    private volatile PropertyKeysOrderResolver propertyKeysOrderResolver;
 
     private final Charset charsetToUse;
+    private final int jsonIndentWidth;
+    private final KeySegmentTrie keySegmentTrie;
+    private final ExternalPropertiesSorter externalPropertiesSorter;
+    private final ParallelPropertiesParser parallelPropertiesParser;
 
     /**
      * Default implementation of json primitive type resolvers.
@@ -124,16 +146,36 @@ public final class PropertiesToJsonConverter {
                                      Boolean skipNull,
                                      Charset charset) {
 
+        this(toObjectsResolvers, toJsonTypeResolvers, nullToJsonConverter, textToJsonNullResolver, textToEmptyStringResolver, skipNull, charset,
+             PropertiesToJsonConverterSettings.DEFAULT_SETTINGS);
+    }
+
+    PropertiesToJsonConverter(List<TextToConcreteObjectResolver> toObjectsResolvers,
+                              List<ObjectToJsonTypeConverter> toJsonTypeResolvers,
+                              NullToJsonTypeConverter nullToJsonConverter,
+                              TextToJsonNullReferenceResolver textToJsonNullResolver,
+                              TextToEmptyStringResolver textToEmptyStringResolver,
+                              Boolean skipNull,
+                              Charset charset,
+                              PropertiesToJsonConverterSettings settings) {
+
+        this.parallelPropertiesParser = settings.getParallelPropertiesParser();
+        this.externalPropertiesSorter = Optional.ofNullable(settings.getExternalPropertiesSorter()).orElseGet(ExternalPropertiesSorter::new);
         this.nullToJsonConverter = nullToJsonConverter;
         this.textToJsonNullResolver = textToJsonNullResolver;
         this.textToEmptyStringResolver = textToEmptyStringResolver;
         this.charsetToUse = Optional.ofNullable(charset).orElse(StandardCharsets.UTF_8);
+        this.jsonIndentWidth = settings.getJsonIndentWidth();
+        this.keySegmentTrie = new KeySegmentTrie(settings.getMaxCachedKeySegments());
+        this.propertyKeysOrderResolver = Optional.ofNullable(settings.getPropertyKeysOrderResolver()).orElseGet(PropertyKeysOrderResolver::new);
 
         validateTypeResolverOrder(toJsonTypeResolvers);
         this.primitiveResolvers = new PrimitiveJsonTypesResolver(buildAllToObjectResolvers(toObjectsResolvers),
                 buildAllToJsonResolvers(toJsonTypeResolvers),
                 skipNull,
-                nullToJsonConverter);
+                nullToJsonConverter,
+                new PrimitiveJsonTypesInterner(),
+                new ResolvedValuesCache(settings.getMaxCachedResolvedValues()));
         algorithms.put(AlgorithmType.OBJECT, new ObjectJsonTypeResolver());
         algorithms.put(AlgorithmType.PRIMITIVE, this.primitiveResolvers);
         algorithms.put(AlgorithmType.ARRAY, new ArrayJsonTypeResolver());
@@ -240,12 +282,7 @@ public final class PropertiesToJsonConverter {
      * @throws ParsePropertiesException when structure of properties is not compatible with json structure
      */
     public String convertPropertiesFromFileToJson(File file) {
-        try {
-            InputStream targetStream = new FileInputStream(file);
-            return convertToJson(targetStream);
-        } catch(FileNotFoundException e) {
-            throw new ReadInputException(e);
-        }
+        return convertFromValuesAsObjectMap(propertiesFileToMap(file));
     }
 
     /**
@@ -275,14 +312,150 @@ public final class PropertiesToJsonConverter {
      * @throws ParsePropertiesException when structure of properties is not compatible with json structure
      */
     public String convertPropertiesFromFileToJson(File file, String... includeDomainKeys) {
-        try {
-            InputStream targetStream = new FileInputStream(file);
-            return convertToJson(targetStream, includeDomainKeys);
-        } catch(FileNotFoundException e) {
+        return convertFromValuesAsObjectMap(propertiesFileToMap(file), includeDomainKeys);
+    }
+
+    /**
+     * It writes Json generated from properties file stored in provided File directly to given writer.
+     * It works like {@link #convertPropertiesFromFileToJson(File)} but json is not built as one String.
+     * Given writer is flushed but not closed.
+     *
+     * @param file   file with properties
+     * @param writer target for json
+     * @throws ReadInputException       when cannot find file
+     * @throws WriteOutputException     when cannot write json to writer
+     * @throws ParsePropertiesException when structure of properties is not compatible with json structure
+     */
+    public void convertPropertiesFromFileToJson(File file, Writer writer) {
+        convertFromValuesAsObjectMap(propertiesFileToMap(file), writer);
+    }
+
+    /**
+     * It writes Json generated from properties file stored in provided File directly to given writer,
+     * it will converts only included keys or parts of property keys provided by last parameter.
+     * It works like {@link #convertPropertiesFromFileToJson(File, String...)} but json is not built as one String.
+     * Given writer is flushed but not closed.
+     *
+     * @param file              file with properties
+     * @param writer            target for json
+     * @param includeDomainKeys domain head keys which should be parsed to json
+     * @throws ReadInputException       when cannot find file
+     * @throws WriteOutputException     when cannot write json to writer
+     * @throws ParsePropertiesException when structure of properties is not compatible with json structure
+     */
+    public void convertPropertiesFromFileToJson(File file, Writer writer, String... includeDomainKeys) {
+        convertFromValuesAsObjectMap(propertiesFileToMap(file), writer, includeDomainKeys);
+    }
+
+    /**
+     * It writes Json generated from properties file stored in provided File directly to given output stream in UTF-8.
+     * It works like {@link #convertPropertiesFromFileToJson(File)} but json is not built as one String.
+     * Given output stream is flushed but not closed.
+     *
+     * @param file         file with properties
+     * @param outputStream target for json
+     * @throws ReadInputException       when cannot find file
+     * @throws WriteOutputException     when cannot write json to output stream
+     * @throws ParsePropertiesException when structure of properties is not compatible with json structure
+     */
+    public void convertPropertiesFromFileToJson(File file, OutputStream outputStream) {
+        convertPropertiesFromFileToJson(file, toWriter(outputStream));
+    }
+
+    /**
+     * It writes Json generated from properties file stored in provided File directly to given output stream in UTF-8,
+     * it will converts only included keys or parts of property keys provided by last parameter.
+     * It works like {@link #convertPropertiesFromFileToJson(File, String...)} but json is not built as one String.
+     * Given output stream is flushed but not closed.
+     *
+     * @param file              file with properties
+     * @param outputStream      target for json
+     * @param includeDomainKeys domain head keys which should be parsed to json
+     * @throws ReadInputException       when cannot find file
+     * @throws WriteOutputException     when cannot write json to output stream
+     * @throws ParsePropertiesException when structure of properties is not compatible with json structure
+     */
+    public void convertPropertiesFromFileToJson(File file, OutputStream outputStream, String... includeDomainKeys) {
+        convertPropertiesFromFileToJson(file, toWriter(outputStream), includeDomainKeys);
+    }
+
+    /**
+     * It writes Json generated from large properties file stored in provided File directly to given writer.
+     * It works like {@link #convertLargePropertiesToJson(InputStream, Writer)}.
+     * Given writer is flushed but not closed.
+     *
+     * @param file   file with properties
+     * @param writer target for json
+     * @throws ReadInputException       when cannot find file or cannot use temporary files
+     * @throws WriteOutputException     when cannot write json to writer
+     * @throws ParsePropertiesException when some value needs to be merged with value of another property key
+     *                                  or when structure of properties is not compatible with json structure
+     */
+    public void convertLargePropertiesFromFileToJson(File file, Writer writer) {
+        try(FileChannel fileChannel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            convertLargePropertiesToJson(MappedPropertiesTokenizer.readProperties(fileChannel, charsetToUse), writer);
+        } catch(IOException e) {
             throw new ReadInputException(e);
         }
     }
 
+    /**
+     * It writes Json generated from large properties file stored in provided File directly to given output stream in UTF-8.
+     * It works like {@link #convertLargePropertiesToJson(InputStream, Writer)}.
+     * Given output stream is flushed but not closed.
+     *
+     * @param file         file with properties
+     * @param outputStream target for json
+     * @throws ReadInputException       when cannot find file or cannot use temporary files
+     * @throws WriteOutputException     when cannot write json to output stream
+     * @throws ParsePropertiesException when some value needs to be merged with value of another property key
+     *                                  or when structure of properties is not compatible with json structure
+     */
+    public void convertLargePropertiesFromFileToJson(File file, OutputStream outputStream) {
+        convertLargePropertiesFromFileToJson(file, toWriter(outputStream));
+    }
+
+    /**
+     * It writes Json generated from properties stored in provided InputStream directly to given writer with limited usage of heap,
+     * so properties can be larger than memory.
+     * Properties are sorted by {@link ExternalPropertiesSorter} which stores sorted parts of properties in temporary files
+     * when they exceed its memory limit, then merged properties are converted like by {@link #convertSortedToJson(Iterator, Writer)}.
+     * Values which are json objects or json arrays cannot be merged with values of other property keys in this mode.
+     * Given writer is flushed but not closed.
+     *
+     * @param inputStream InputStream with properties
+     * @param writer      target for json
+     * @throws ReadInputException       when cannot read input stream or cannot use temporary files
+     * @throws WriteOutputException     when cannot write json to writer
+     * @throws ParsePropertiesException when some value needs to be merged with value of another property key
+     *                                  or when structure of properties is not compatible with json structure
+     */
+    public void convertLargePropertiesToJson(InputStream inputStream, Writer writer) {
+        convertLargePropertiesToJson(new PropertiesEntryReader(new InputStreamReader(inputStream, charsetToUse)), writer);
+    }
+
+    private void convertLargePropertiesToJson(Iterator<Map.Entry<String, String>> properties, Writer writer) {
+        try(SortedPropertiesIterator sortedProperties = externalPropertiesSorter.sort(properties, keySegmentTrie)) {
+            convertSortedToJson(sortedProperties, writer);
+        }
+    }
+
+    /**
+     * It writes Json generated from properties stored in provided InputStream directly to given output stream in UTF-8 with limited usage of heap.
+     * It works like {@link #convertLargePropertiesToJson(InputStream, Writer)}.
+     * Given output stream is flushed but not closed.
+     *
+     * @param inputStream  InputStream with properties
+     * @param outputStream target for json
+     * @throws ReadInputException       when cannot read input stream or cannot use temporary files
+     * @throws WriteOutputException     when cannot write json to output stream
+     * @throws ParsePropertiesException when some value needs to be merged with value of another property key
+     *                                  or when structure of properties is not compatible with json structure
+     */
+    public void convertLargePropertiesToJson(InputStream inputStream, OutputStream outputStream) {
+        convertLargePropertiesToJson(inputStream, toWriter(outputStream));
+    }
+
     /**
      * It generates Json from properties stored in provided InputStream.
      * Every property value will tries resolve to concrete object by given resolvers...
@@ -336,6 +509,70 @@ public final class PropertiesToJsonConverter {
         return convertToJson(inputStreamToProperties(inputStream), includeDomainKeys);
     }
 
+    /**
+     * It writes Json generated from properties stored in provided InputStream directly to given writer.
+     * It works like {@link #convertToJson(InputStream)} but json is not built as one String.
+     * Given writer is flushed but not closed.
+     *
+     * @param inputStream InputStream with properties
+     * @param writer      target for json
+     * @throws ReadInputException       when cannot read input stream
+     * @throws WriteOutputException     when cannot write json to writer
+     * @throws ParsePropertiesException when structure of properties is not compatible with json structure
+     */
+    public void convertToJson(InputStream inputStream, Writer writer) {
+        convertToJson(inputStreamToProperties(inputStream), writer);
+    }
+
+    /**
+     * It writes Json generated from properties stored in provided InputStream directly to given writer,
+     * it will converts only included keys or parts of property keys provided by last parameter.
+     * It works like {@link #convertToJson(InputStream, String...)} but json is not built as one String.
+     * Given writer is flushed but not closed.
+     *
+     * @param inputStream       InputStream with properties
+     * @param writer            target for json
+     * @param includeDomainKeys domain head keys which should be parsed to json
+     * @throws ReadInputException       when cannot read input stream
+     * @throws WriteOutputException     when cannot write json to writer
+     * @throws ParsePropertiesException when structure of properties is not compatible with json structure
+     */
+    public void convertToJson(InputStream inputStream, Writer writer, String... includeDomainKeys) {
+        convertToJson(inputStreamToProperties(inputStream), writer, includeDomainKeys);
+    }
+
+    /**
+     * It writes Json generated from properties stored in provided InputStream directly to given output stream in UTF-8.
+     * It works like {@link #convertToJson(InputStream)} but json is not built as one String.
+     * Given output stream is flushed but not closed.
+     *
+     * @param inputStream  InputStream with properties
+     * @param outputStream target for json
+     * @throws ReadInputException       when cannot read input stream
+     * @throws WriteOutputException     when cannot write json to output stream
+     * @throws ParsePropertiesException when structure of properties is not compatible with json structure
+     */
+    public void convertToJson(InputStream inputStream, OutputStream outputStream) {
+        convertToJson(inputStream, toWriter(outputStream));
+    }
+
+    /**
+     * It writes Json generated from properties stored in provided InputStream directly to given output stream in UTF-8,
+     * it will converts only included keys or parts of property keys provided by last parameter.
+     * It works like {@link #convertToJson(InputStream, String...)} but json is not built as one String.
+     * Given output stream is flushed but not closed.
+     *
+     * @param inputStream       InputStream with properties
+     * @param outputStream      target for json
+     * @param includeDomainKeys domain head keys which should be parsed to json
+     * @throws ReadInputException       when cannot read input stream
+     * @throws WriteOutputException     when cannot write json to output stream
+     * @throws ParsePropertiesException when structure of properties is not compatible with json structure
+     */
+    public void convertToJson(InputStream inputStream, OutputStream outputStream, String... includeDomainKeys) {
+        convertToJson(inputStream, toWriter(outputStream), includeDomainKeys);
+    }
+
     /**
      * It generates Json from given Java Properties instance.
      * If property value will be string then will not try convert it to another type.
@@ -352,16 +589,71 @@ public final class PropertiesToJsonConverter {
      * @throws ParsePropertiesException when structure of properties is not compatible with json structure
      */
     public String convertToJson(Properties properties) {
-        for(Map.Entry<Object, Object> entry : properties.entrySet()) {
-            if(!(entry.getKey() instanceof String)) {
-                throw new ParsePropertiesException(format(PROPERTY_KEY_NEEDS_TO_BE_STRING_TYPE,
-                                                          entry.getKey().getClass(),
-                                                          entry.getKey() == null ? "null" : entry.getKey()));
-            }
-        }
+        validatePropertyKeys(properties);
         return convertFromValuesAsObjectMap(propertiesToMap(properties));
     }
 
+    /**
+     * It writes Json generated from given Java Properties instance directly to given writer.
+     * It works like {@link #convertToJson(Properties)} but json is not built as one String.
+     * Given writer is flushed but not closed.
+     *
+     * @param properties Java Properties
+     * @param writer     target for json
+     * @throws WriteOutputException     when cannot write json to writer
+     * @throws ParsePropertiesException when structure of properties is not compatible with json structure
+     */
+    public void convertToJson(Properties properties, Writer writer) {
+        validatePropertyKeys(properties);
+        convertFromValuesAsObjectMap(propertiesToMap(properties), writer);
+    }
+
+    /**
+     * It writes Json generated from given Java Properties instance directly to given writer,
+     * it will converts only included keys or parts of property keys provided by last parameter.
+     * It works like {@link #convertToJson(Properties, String...)} but json is not built as one String.
+     * Given writer is flushed but not closed.
+     *
+     * @param properties        Java Properties
+     * @param writer            target for json
+     * @param includeDomainKeys domain head keys which should be parsed to json
+     * @throws WriteOutputException     when cannot write json to writer
+     * @throws ParsePropertiesException when structure of properties is not compatible with json structure
+     */
+    public void convertToJson(Properties properties, Writer writer, String... includeDomainKeys) {
+        convertFromValuesAsObjectMap(propertiesToMap(properties), writer, includeDomainKeys);
+    }
+
+    /**
+     * It writes Json generated from given Java Properties instance directly to given output stream in UTF-8.
+     * It works like {@link #convertToJson(Properties)} but json is not built as one String.
+     * Given output stream is flushed but not closed.
+     *
+     * @param properties   Java Properties
+     * @param outputStream target for json
+     * @throws WriteOutputException     when cannot write json to output stream
+     * @throws ParsePropertiesException when structure of properties is not compatible with json structure
+     */
+    public void convertToJson(Properties properties, OutputStream outputStream) {
+        convertToJson(properties, toWriter(outputStream));
+    }
+
+    /**
+     * It writes Json generated from given Java Properties instance directly to given output stream in UTF-8,
+     * it will converts only included keys or parts of property keys provided by last parameter.
+     * It works like {@link #convertToJson(Properties, String...)} but json is not built as one String.
+     * Given output stream is flushed but not closed.
+     *
+     * @param properties        Java Properties
+     * @param outputStream      target for json
+     * @param includeDomainKeys domain head keys which should be parsed to json
+     * @throws WriteOutputException     when cannot write json to output stream
+     * @throws ParsePropertiesException when structure of properties is not compatible with json structure
+     */
+    public void convertToJson(Properties properties, OutputStream outputStream, String... includeDomainKeys) {
+        convertToJson(properties, toWriter(outputStream), includeDomainKeys);
+    }
+
     /**
      * It generates Json from given Java Properties instance and will converts only included keys or parts of property keys provided by second parameter.
      * If property value will be string then will not try convert it to another type.
@@ -442,6 +734,66 @@ public final class PropertiesToJsonConverter {
         return convertFromValuesAsObjectMap(stringValueMapToObjectValueMap(properties), includeDomainKeys);
     }
 
+    /**
+     * It writes Json generated from given Map&lt;String,String&gt; instance directly to given writer.
+     * It works like {@link #convertToJson(Map)} but json is not built as one String.
+     * Given writer is flushed but not closed.
+     *
+     * @param properties Java Map with properties
+     * @param writer     target for json
+     * @throws WriteOutputException     when cannot write json to writer
+     * @throws ParsePropertiesException when structure of properties is not compatible with json structure
+     */
+    public void convertToJson(Map<String, String> properties, Writer writer) {
+        convertFromValuesAsObjectMap(stringValueMapToObjectValueMap(properties), writer);
+    }
+
+    /**
+     * It writes Json generated from given Map&lt;String,String&gt; instance directly to given writer,
+     * it will converts only included keys or parts of property keys provided by last parameter.
+     * It works like {@link #convertToJson(Map, String...)} but json is not built as one String.
+     * Given writer is flushed but not closed.
+     *
+     * @param properties        Java Map with properties
+     * @param writer            target for json
+     * @param includeDomainKeys domain head keys which should be parsed to json
+     * @throws WriteOutputException     when cannot write json to writer
+     * @throws ParsePropertiesException when structure of properties is not compatible with json structure
+     */
+    public void convertToJson(Map<String, String> properties, Writer writer, String... includeDomainKeys) {
+        convertFromValuesAsObjectMap(stringValueMapToObjectValueMap(properties), writer, includeDomainKeys);
+    }
+
+    /**
+     * It writes Json generated from given Map&lt;String,String&gt; instance directly to given output stream in UTF-8.
+     * It works like {@link #convertToJson(Map)} but json is not built as one String.
+     * Given output stream is flushed but not closed.
+     *
+     * @param properties   Java Map with properties
+     * @param outputStream target for json
+     * @throws WriteOutputException     when cannot write json to output stream
+     * @throws ParsePropertiesException when structure of properties is not compatible with json structure
+     */
+    public void convertToJson(Map<String, String> properties, OutputStream outputStream) {
+        convertToJson(properties, toWriter(outputStream));
+    }
+
+    /**
+     * It writes Json generated from given Map&lt;String,String&gt; instance directly to given output stream in UTF-8,
+     * it will converts only included keys or parts of property keys provided by last parameter.
+     * It works like {@link #convertToJson(Map, String...)} but json is not built as one String.
+     * Given output stream is flushed but not closed.
+     *
+     * @param properties        Java Map with properties
+     * @param outputStream      target for json
+     * @param includeDomainKeys domain head keys which should be parsed to json
+     * @throws WriteOutputException     when cannot write json to output stream
+     * @throws ParsePropertiesException when structure of properties is not compatible with json structure
+     */
+    public void convertToJson(Map<String, String> properties, OutputStream outputStream, String... includeDomainKeys) {
+        convertToJson(properties, toWriter(outputStream), includeDomainKeys);
+    }
+
     /**
      * It generates Json given Map&lt;String,Object&gt; instance.
      * If property value will be string then will not try convert it to another type.
@@ -459,21 +811,40 @@ public final class PropertiesToJsonConverter {
      */
 
     public String convertFromValuesAsObjectMap(Map<String, Object> properties) {
-        ObjectJsonType coreObjectJsonType = new ObjectJsonType();
-        for(String propertyKey : getAllKeysFromProperties(properties)) {
-            addFieldsToJsonObject(properties, coreObjectJsonType, propertyKey);
-        }
-        return prettifyOfJson(coreObjectJsonType.toStringJson());
+        StringWriter writer = new StringWriter();
+        convertFromValuesAsObjectMap(properties, writer);
+        return writer.toString();
     }
 
-    private static String prettifyOfJson(String json) {
-        Gson gson = new GsonBuilder()
-                .setPrettyPrinting()
-                .serializeNulls()
-                .create();
-        JsonParser jp = new JsonParser();
-        JsonElement je = jp.parse(json);
-        return gson.toJson(je);
+    /**
+     * It writes Json generated from given Map&lt;String,Object&gt; instance directly to given writer.
+     * It works like {@link #convertFromValuesAsObjectMap(Map)} but json is not built as one String,
+     * every json element is written to writer during traversing of json objects.
+     * Given writer is flushed but not closed.
+     *
+     * @param properties Java Map with properties
+     * @param writer     target for json
+     * @throws WriteOutputException     when cannot write json to writer
+     * @throws ParsePropertiesException when structure of properties is not compatible with json structure
+     */
+    public void convertFromValuesAsObjectMap(Map<String, Object> properties, Writer writer) {
+        JsonStreamWriter jsonWriter = new JsonStreamWriter(writer, jsonIndentWidth);
+        createJsonObject(properties).writeJson(jsonWriter);
+        jsonWriter.flush();
+    }
+
+    /**
+     * It writes Json generated from given Map&lt;String,Object&gt; instance directly to given output stream in UTF-8.
+     * It works like {@link #convertFromValuesAsObjectMap(Map)} but json is not built as one String.
+     * Given output stream is flushed but not closed.
+     *
+     * @param properties   Java Map with properties
+     * @param outputStream target for json
+     * @throws WriteOutputException     when cannot write json to output stream
+     * @throws ParsePropertiesException when structure of properties is not compatible with json structure
+     */
+    public void convertFromValuesAsObjectMap(Map<String, Object> properties, OutputStream outputStream) {
+        convertFromValuesAsObjectMap(properties, toWriter(outputStream));
     }
 
     /**
@@ -499,13 +870,192 @@ public final class PropertiesToJsonConverter {
      * @throws ParsePropertiesException when structure of properties is not compatible with json structure
      */
     public String convertFromValuesAsObjectMap(Map<String, Object> properties, String... includeDomainKeys) {
-        Map<String, Object> filteredProperties = new HashMap<>();
-        for(String key : properties.keySet()) {
-            for(String requiredKey : includeDomainKeys) {
-                checkKey(properties, filteredProperties, key, requiredKey);
-            }
+        return convertFromValuesAsObjectMap(properties, new DomainKeysFilter(includeDomainKeys));
+    }
+
+    /**
+     * It works like {@link #convertFromValuesAsObjectMap(Map, String...)} with domain keys compiled once to given filter,
+     * so the same filter can be used for many conversions.
+     *
+     * @param properties       Java Map with properties
+     * @param domainKeysFilter filter of domain head keys which should be parsed to json
+     * @return simple String with json
+     * @throws ParsePropertiesException when structure of properties is not compatible with json structure
+     */
+    public String convertFromValuesAsObjectMap(Map<String, Object> properties, DomainKeysFilter domainKeysFilter) {
+        return convertFromValuesAsObjectMap(domainKeysFilter.filter(properties));
+    }
+
+    /**
+     * It writes Json generated from given Map&lt;String,Object&gt; instance directly to given writer,
+     * it will converts only included keys or parts of property keys provided by last parameter.
+     * It works like {@link #convertFromValuesAsObjectMap(Map, String...)} but json is not built as one String.
+     * Given writer is flushed but not closed.
+     *
+     * @param properties        Java Map with properties
+     * @param writer            target for json
+     * @param includeDomainKeys domain head keys which should be parsed to json
+     * @throws WriteOutputException     when cannot write json to writer
+     * @throws ParsePropertiesException when structure of properties is not compatible with json structure
+     */
+    public void convertFromValuesAsObjectMap(Map<String, Object> properties, Writer writer, String... includeDomainKeys) {
+        convertFromValuesAsObjectMap(properties, writer, new DomainKeysFilter(includeDomainKeys));
+    }
+
+    /**
+     * It works like {@link #convertFromValuesAsObjectMap(Map, Writer, String...)} with domain keys compiled once to given filter,
+     * so the same filter can be used for many conversions.
+     *
+     * @param properties       Java Map with properties
+     * @param writer           target for json
+     * @param domainKeysFilter filter of domain head keys which should be parsed to json
+     * @throws WriteOutputException     when cannot write json to writer
+     * @throws ParsePropertiesException when structure of properties is not compatible with json structure
+     */
+    public void convertFromValuesAsObjectMap(Map<String, Object> properties, Writer writer, DomainKeysFilter domainKeysFilter) {
+        convertFromValuesAsObjectMap(domainKeysFilter.filter(properties), writer);
+    }
+
+    /**
+     * It writes Json generated from given Map&lt;String,Object&gt; instance directly to given output stream in UTF-8,
+     * it will converts only included keys or parts of property keys provided by last parameter.
+     * It works like {@link #convertFromValuesAsObjectMap(Map, String...)} but json is not built as one String.
+     * Given output stream is flushed but not closed.
+     *
+     * @param properties        Java Map with properties
+     * @param outputStream      target for json
+     * @param includeDomainKeys domain head keys which should be parsed to json
+     * @throws WriteOutputException     when cannot write json to output stream
+     * @throws ParsePropertiesException when structure of properties is not compatible with json structure
+     */
+    public void convertFromValuesAsObjectMap(Map<String, Object> properties, OutputStream outputStream, String... includeDomainKeys) {
+        convertFromValuesAsObjectMap(properties, toWriter(outputStream), includeDomainKeys);
+    }
+
+    /**
+     * It writes Json generated from given Map&lt;String,String&gt; instance directly to given writer without tree of json objects in memory.
+     * Fields in json objects are in order of property keys given by {@link PropertyKeyPathComparator}. When keys of map are not
+     * iterated in this order, then they are sorted to copy of map first, so map like TreeMap with this comparator is faster.
+     * When some value needs to be merged with value of next property key (for example value with json object
+     * and property key with field of this object), then it works like {@link #convertToJson(Map, Writer)}
+     * and fields in json objects are in the same order like in result of that method, not in order of property keys.
+     * Given writer is flushed but not closed.
+     *
+     * @param properties Java Map with properties
+     * @param writer     target for json
+     * @throws WriteOutputException     when cannot write json to writer
+     * @throws ParsePropertiesException when structure of properties is not compatible with json structure
+     */
+    public void convertSortedToJson(Map<String, String> properties, Writer writer) {
+        if(SortedPropertiesJsonEmitter.canEmitInOrder(properties.keySet(), keySegmentTrie)) {
+            convertSortedToJson(properties.entrySet().iterator(), writer);
+            return;
+        }
+        Map<String, String> sortedProperties = new TreeMap<>(new PropertyKeyPathComparator(keySegmentTrie));
+        sortedProperties.putAll(properties);
+        if(SortedPropertiesJsonEmitter.canEmitInOrder(sortedProperties.keySet(), keySegmentTrie)) {
+            convertSortedToJson(sortedProperties.entrySet().iterator(), writer);
+        } else {
+            convertToJson(properties, writer);
+        }
+    }
+
+    /**
+     * It writes Json generated from given Map&lt;String,String&gt; instance directly to given output stream in UTF-8.
+     * It works like {@link #convertSortedToJson(Map, Writer)}.
+     * Given output stream is flushed but not closed.
+     *
+     * @param properties   Java Map with properties
+     * @param outputStream target for json
+     * @throws WriteOutputException     when cannot write json to output stream
+     * @throws ParsePropertiesException when structure of properties is not compatible with json structure
+     */
+    public void convertSortedToJson(Map<String, String> properties, OutputStream outputStream) {
+        convertSortedToJson(properties, toWriter(outputStream));
+    }
+
+    /**
+     * It writes Json generated from properties which are read one by one, json is written during read of properties
+     * and only json objects from path of current property key are remembered, so properties can be larger than memory.
+     * Property keys need to be in order of {@link PropertyKeyPathComparator}.
+     * Fields in json objects are in order of property keys.
+     * Given writer is flushed but not closed.
+     *
+     * @param sortedProperties properties in order of {@link PropertyKeyPathComparator}
+     * @param writer           target for json
+     * @throws WriteOutputException     when cannot write json to writer
+     * @throws ParsePropertiesException when property keys are not sorted, when some value needs to be merged with value of next property key
+     *                                  or when structure of properties is not compatible with json structure
+     */
+    public void convertSortedToJson(Iterator<Map.Entry<String, String>> sortedProperties, Writer writer) {
+        SortedPropertiesJsonEmitter emitter = new SortedPropertiesJsonEmitter(primitiveResolvers, keySegmentTrie,
+                                                                              new JsonStreamWriter(writer, jsonIndentWidth));
+        while(sortedProperties.hasNext()) {
+            Map.Entry<String, String> property = sortedProperties.next();
+            emitter.emit(property.getKey(), primitiveResolvers.getResolvedObject(property.getValue(), property.getKey()));
         }
-        return convertFromValuesAsObjectMap(filteredProperties);
+        emitter.finish();
+    }
+
+    /**
+     * It writes Json generated from properties which are read one by one directly to given output stream in UTF-8.
+     * It works like {@link #convertSortedToJson(Iterator, Writer)}.
+     * Given output stream is flushed but not closed.
+     *
+     * @param sortedProperties properties in order of {@link PropertyKeyPathComparator}
+     * @param outputStream     target for json
+     * @throws WriteOutputException     when cannot write json to output stream
+     * @throws ParsePropertiesException when property keys are not sorted, when some value needs to be merged with value of next property key
+     *                                  or when structure of properties is not compatible with json structure
+     */
+    public void convertSortedToJson(Iterator<Map.Entry<String, String>> sortedProperties, OutputStream outputStream) {
+        convertSortedToJson(sortedProperties, toWriter(outputStream));
+    }
+
+    /**
+     * It checks that given properties can be converted to json, but json is not generated.
+     * It doesn't stop on first conflict, every property key which cannot be put to json, because other value
+     * exists at the same path, is returned as conflict, in order in which property keys are converted.
+     * Values of properties are resolved like during conversion, because values can contain json objects or arrays.
+     *
+     * @param properties Java Map with properties
+     * @return conflicts of properties, empty list when properties can be converted to json
+     */
+    public List<PropertyConflict> validate(Map<String, String> properties) {
+        return validateValuesAsObjectMap(stringValueMapToObjectValueMap(properties));
+    }
+
+    /**
+     * It works like {@link #validate(Map)} for Java Properties.
+     *
+     * @param properties Java Properties
+     * @return conflicts of properties, empty list when properties can be converted to json
+     * @throws ParsePropertiesException when some property key is not String
+     */
+    public List<PropertyConflict> validate(Properties properties) {
+        validatePropertyKeys(properties);
+        return validateValuesAsObjectMap(propertiesToMap(properties));
+    }
+
+    /**
+     * It works like {@link #validate(Map)} for properties from given file.
+     *
+     * @param file file with properties
+     * @return conflicts of properties, empty list when properties can be converted to json
+     * @throws ReadInputException when cannot read file
+     */
+    public List<PropertyConflict> validate(File file) {
+        return validateValuesAsObjectMap(propertiesFileToMap(file));
+    }
+
+    /**
+     * It works like {@link #validate(Map)} for properties with already resolved values.
+     *
+     * @param properties Java Map with properties
+     * @return conflicts of properties, empty list when properties can be converted to json
+     */
+    public List<PropertyConflict> validateValuesAsObjectMap(Map<String, Object> properties) {
+        return ConflictExceptions.withoutDetails(() -> collectConflicts(properties));
     }
 
     /**
@@ -518,15 +1068,31 @@ public final class PropertiesToJsonConverter {
         this.propertyKeysOrderResolver = propertyKeysOrderResolver;
     }
 
-    private static void checkKey(Map<String, Object> properties, Map<String, Object> filteredProperties, String key, String requiredKey) {
-        if(key.equals(requiredKey) || (key.startsWith(requiredKey) && keyIsCompatibleWithRequiredKey(requiredKey, key))) {
-            filteredProperties.put(key, properties.get(key));
-        }
+    /**
+     * It returns cache of parsed fields of property keys used by this converter, it has counters of cache hits and misses.
+     *
+     * @return trie with parsed fields of property keys
+     */
+    public KeySegmentTrie getKeySegmentTrie() {
+        return keySegmentTrie;
+    }
+
+    /**
+     * It returns interner of resolved leaf values used by this converter, it has counters of shared instances.
+     *
+     * @return interner of booleans, numbers and texts
+     */
+    public PrimitiveJsonTypesInterner getPrimitiveJsonTypesInterner() {
+        return primitiveResolvers.getPrimitiveJsonTypesInterner();
     }
 
-    private static boolean keyIsCompatibleWithRequiredKey(String requiredKey, String key) {
-        String testedChar = key.substring(requiredKey.length(), requiredKey.length() + 1);
-        return testedChar.equals(ARRAY_START_SIGN) || testedChar.equals(".");
+    /**
+     * It returns cache of values resolved from raw texts used by this converter, it has counters of hits, misses and evictions.
+     *
+     * @return cache of resolved values
+     */
+    public ResolvedValuesCache getResolvedValuesCache() {
+        return primitiveResolvers.getResolvedValuesCache();
     }
 
     private Properties inputStreamToProperties(InputStream inputStream) {
@@ -544,9 +1110,65 @@ public final class PropertiesToJsonConverter {
         return propertiesWithConvertedValues;
     }
 
-    private void addFieldsToJsonObject(Map<String, Object> properties, ObjectJsonType coreObjectJsonType, String propertyKey) {
-        PathMetadata rootPathMetaData = PathMetadataBuilder.createRootPathMetaData(propertyKey);
-        new JsonObjectsTraverseResolver(algorithms, properties, propertyKey, rootPathMetaData, coreObjectJsonType)
+    private Map<String, Object> propertiesFileToMap(File file) {
+        Map<String, String> properties = new HashMap<>();
+        try(FileChannel fileChannel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            if(parallelPropertiesParser != null && parallelPropertiesParser.canParse(fileChannel.size(), charsetToUse)) {
+                return parallelPropertiesParser.parse(fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileChannel.size()),
+                                                      charsetToUse, primitiveResolvers);
+            }
+            Iterator<Map.Entry<String, String>> fileProperties = MappedPropertiesTokenizer.readProperties(fileChannel, charsetToUse);
+            while(fileProperties.hasNext()) {
+                Map.Entry<String, String> property = fileProperties.next();
+                properties.put(property.getKey(), property.getValue());
+            }
+        } catch(IOException e) {
+            throw new ReadInputException(e);
+        }
+        return stringValueMapToObjectValueMap(properties);
+    }
+
+    private ObjectJsonType createJsonObject(Map<String, Object> properties) {
+        ObjectJsonType coreObjectJsonType = new ObjectJsonType();
+        JsonObjectsTraverseCursor traverseCursor = new JsonObjectsTraverseCursor(coreObjectJsonType);
+        for(String propertyKey : getAllKeysFromProperties(properties)) {
+            addFieldsToJsonObject(properties, traverseCursor, propertyKey);
+        }
+        return coreObjectJsonType;
+    }
+
+    private List<PropertyConflict> collectConflicts(Map<String, Object> properties) {
+        List<PropertyConflict> conflicts = new ArrayList<>();
+        JsonObjectsTraverseCursor traverseCursor = new JsonObjectsTraverseCursor(new ObjectJsonType());
+        for(String propertyKey : getAllKeysFromProperties(properties)) {
+            try {
+                addFieldsToJsonObject(properties, traverseCursor, propertyKey);
+            } catch(CannotOverrideFieldException e) {
+                conflicts.add(new PropertyConflict(e.getCurrentPath(), e.getCurrentValueKind(), e.getPropertyKey()));
+            } catch(MergeObjectException e) {
+                conflicts.add(new PropertyConflict(e.getCurrentPath(), e.getOldValueKind(), e.getPropertyKey()));
+            }
+        }
+        return conflicts;
+    }
+
+    private static Writer toWriter(OutputStream outputStream) {
+        return new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    }
+
+    private static void validatePropertyKeys(Properties properties) {
+        for(Map.Entry<Object, Object> entry : properties.entrySet()) {
+            if(!(entry.getKey() instanceof String)) {
+                throw new ParsePropertiesException(format(PROPERTY_KEY_NEEDS_TO_BE_STRING_TYPE,
+                                                          entry.getKey().getClass(),
+                                                          entry.getKey() == null ? "null" : entry.getKey()));
+            }
+        }
+    }
+
+    private void addFieldsToJsonObject(Map<String, Object> properties, JsonObjectsTraverseCursor traverseCursor, String propertyKey) {
+        PathMetadata rootPathMetaData = PathMetadataBuilder.createRootPathMetaData(propertyKey, keySegmentTrie);
+        new JsonObjectsTraverseResolver(algorithms, properties, propertyKey, rootPathMetaData, traverseCursor)
                 .initializeFieldsInJson();
     }
 
@@ -1,18 +1,29 @@
 package pl.jalokim.propertiestojson.util;
 
 import pl.jalokim.propertiestojson.object.AbstractJsonType;
+import pl.jalokim.propertiestojson.path.KeySegmentTrie;
+import pl.jalokim.propertiestojson.helper.SortedPropertyKeysOrderResolver;
+import pl.jalokim.propertiestojson.resolvers.ResolvedValuesCache;
+import pl.jalokim.propertiestojson.stream.ExternalPropertiesSorter;
+import pl.jalokim.propertiestojson.stream.ParallelPropertiesParser;
 import pl.jalokim.propertiestojson.resolvers.primitives.object.*;
 import pl.jalokim.propertiestojson.resolvers.primitives.string.*;
 
+import java.io.File;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
+import static pl.jalokim.propertiestojson.path.KeySegmentTrie.DEFAULT_MAX_SEGMENTS;
+import static pl.jalokim.propertiestojson.stream.ExternalPropertiesSorter.DEFAULT_MEMORY_LIMIT;
 import static pl.jalokim.propertiestojson.resolvers.primitives.object.NullToJsonTypeConverter.NULL_TO_JSON_RESOLVER;
 import static pl.jalokim.propertiestojson.resolvers.primitives.string.TextToEmptyStringResolver.EMPTY_TEXT_RESOLVER;
 import static pl.jalokim.propertiestojson.resolvers.primitives.string.TextToJsonNullReferenceResolver.TEXT_TO_NULL_JSON_RESOLVER;
+import static pl.jalokim.propertiestojson.writer.JsonStreamWriter.COMPACT_INDENT_WIDTH;
+import static pl.jalokim.propertiestojson.writer.JsonStreamWriter.DEFAULT_INDENT_WIDTH;
 
 /**
  * Builder class for PropertiesToJsonConverter
@@ -63,6 +74,13 @@ public class PropertiesToJsonConverterBuilder {
     private boolean skipNul = false;
     private boolean onlyCustomConverters = false;
     private boolean onlyCustomResolvers = false;
+    private int jsonIndentWidth = DEFAULT_INDENT_WIDTH;
+    private int maxCachedKeySegments = DEFAULT_MAX_SEGMENTS;
+    private long externalSortMemoryLimit = DEFAULT_MEMORY_LIMIT;
+    private File externalSortDirectory;
+    private ParallelPropertiesParser parallelPropertiesParser;
+    private int maxCachedResolvedValues = ResolvedValuesCache.DISABLED;
+    private boolean sortPropertyKeys = false;
 
     /**
      * Returns new instance of builder.
@@ -177,6 +195,127 @@ public class PropertiesToJsonConverterBuilder {
         return this;
     }
 
+    /**
+     * It will generate json in one line without any white signs between json elements.
+     *
+     * @return PropertiesToJsonConverterBuilder instance
+     */
+    public PropertiesToJsonConverterBuilder compactJson() {
+        jsonIndentWidth = COMPACT_INDENT_WIDTH;
+        return this;
+    }
+
+    /**
+     * It will generate pretty printed json with given count of spaces for every nesting level, by default it is 2.
+     *
+     * @param indentWidth count of spaces, zero means compact json
+     * @return PropertiesToJsonConverterBuilder instance
+     */
+    public PropertiesToJsonConverterBuilder prettyJson(int indentWidth) {
+        if(indentWidth < 0) {
+            throw new IllegalArgumentException("Indent width cannot be negative, given: " + indentWidth);
+        }
+        jsonIndentWidth = indentWidth;
+        return this;
+    }
+
+    /**
+     * It will set max count of parsed fields of property keys which are cached by converter, by default it is {@link KeySegmentTrie#DEFAULT_MAX_SEGMENTS}.
+     *
+     * @param maxCachedKeySegments max count of cached fields, zero disables the cache
+     * @return PropertiesToJsonConverterBuilder instance
+     */
+    public PropertiesToJsonConverterBuilder keySegmentsCacheSize(int maxCachedKeySegments) {
+        if(maxCachedKeySegments < 0) {
+            throw new IllegalArgumentException("Max count of cached key segments cannot be negative, given: " + maxCachedKeySegments);
+        }
+        this.maxCachedKeySegments = maxCachedKeySegments;
+        return this;
+    }
+
+    /**
+     * It will set max estimated count of bytes of heap used for properties during conversion of large properties,
+     * by default it is {@link ExternalPropertiesSorter#DEFAULT_MEMORY_LIMIT}.
+     * Properties above this limit are stored in sorted temporary files.
+     *
+     * @param memoryLimit max estimated count of bytes
+     * @return PropertiesToJsonConverterBuilder instance
+     * @see PropertiesToJsonConverter#convertLargePropertiesToJson(java.io.InputStream, java.io.Writer)
+     */
+    public PropertiesToJsonConverterBuilder externalSortMemoryLimit(long memoryLimit) {
+        if(memoryLimit <= 0) {
+            throw new IllegalArgumentException("Memory limit for sort of properties should be positive, given: " + memoryLimit);
+        }
+        this.externalSortMemoryLimit = memoryLimit;
+        return this;
+    }
+
+    /**
+     * It will set directory for temporary files used during conversion of large properties,
+     * by default it is default directory for temporary files.
+     *
+     * @param directory directory for temporary files
+     * @return PropertiesToJsonConverterBuilder instance
+     */
+    public PropertiesToJsonConverterBuilder externalSortDirectory(File directory) {
+        this.externalSortDirectory = directory;
+        return this;
+    }
+
+    /**
+     * It will parse properties files in many threads of common fork/join pool, when file is large enough,
+     * by default properties files are parsed in current thread.
+     * All resolvers from text to java object need to be thread safe.
+     *
+     * @return PropertiesToJsonConverterBuilder instance
+     * @see ParallelPropertiesParser
+     */
+    public PropertiesToJsonConverterBuilder parallelFileParsing() {
+        return parallelFileParsing(ForkJoinPool.commonPool(), ParallelPropertiesParser.DEFAULT_MIN_CHUNK_SIZE);
+    }
+
+    /**
+     * It will parse properties files in many threads of given fork/join pool.
+     * All resolvers from text to java object need to be thread safe.
+     *
+     * @param forkJoinPool pool for parse of properties files
+     * @param minChunkSize min count of bytes parsed by one task, smaller files are parsed in current thread
+     * @return PropertiesToJsonConverterBuilder instance
+     */
+    public PropertiesToJsonConverterBuilder parallelFileParsing(ForkJoinPool forkJoinPool, int minChunkSize) {
+        this.parallelPropertiesParser = new ParallelPropertiesParser(forkJoinPool, minChunkSize);
+        return this;
+    }
+
+    /**
+     * It will cache values resolved from raw texts of properties, least recently used values are removed from full cache,
+     * by default values are not cached. Values resolved by resolvers which depend on property key are not cached,
+     * see {@link TextToConcreteObjectResolver#isPropertyKeySensitive()}.
+     *
+     * @param maxCachedResolvedValues max count of cached values, zero disables the cache
+     * @return PropertiesToJsonConverterBuilder instance
+     * @see ResolvedValuesCache
+     */
+    public PropertiesToJsonConverterBuilder resolvedValuesCacheSize(int maxCachedResolvedValues) {
+        if(maxCachedResolvedValues < 0) {
+            throw new IllegalArgumentException("Max count of cached resolved values cannot be negative, given: " + maxCachedResolvedValues);
+        }
+        this.maxCachedResolvedValues = maxCachedResolvedValues;
+        return this;
+    }
+
+    /**
+     * It will convert property keys in sorted order, so keys with the same prefix are next to each other
+     * and json objects for common prefix are traversed only once. By default keys are converted in order of given properties.
+     *
+     * @return PropertiesToJsonConverterBuilder instance
+     * @see SortedPropertyKeysOrderResolver
+     */
+    public PropertiesToJsonConverterBuilder sortPropertyKeys() {
+        sortPropertyKeys = true;
+        return this;
+    }
+
     /**
      * It creates new converter instance.
      *
@@ -199,12 +338,20 @@ public class PropertiesToJsonConverterBuilder {
             resultResolvers.addAll(TO_OBJECT_RESOLVERS);
         }
 
+        PropertiesToJsonConverterSettings settings = new PropertiesToJsonConverterSettings(jsonIndentWidth,
+                maxCachedKeySegments,
+                new ExternalPropertiesSorter(externalSortMemoryLimit, externalSortDirectory),
+                parallelPropertiesParser,
+                maxCachedResolvedValues,
+                sortPropertyKeys ? new SortedPropertyKeysOrderResolver() : null);
+
         return new PropertiesToJsonConverter(resultResolvers,
                 resultConverters,
                 nullToJsonConverter,
                 textToJsonNullResolver,
                 textToEmptyStringResolver,
                 skipNul,
-                charset);
+                charset,
+                settings);
     }
 }
@@ -0,0 +1,60 @@
+package pl.jalokim.propertiestojson.util;
+
+import lombok.Getter;
+import pl.jalokim.propertiestojson.helper.PropertyKeysOrderResolver;
+import pl.jalokim.propertiestojson.path.KeySegmentTrie;
+import pl.jalokim.propertiestojson.resolvers.ResolvedValuesCache;
+import pl.jalokim.propertiestojson.stream.ExternalPropertiesSorter;
+import pl.jalokim.propertiestojson.stream.ParallelPropertiesParser;
+
+import static pl.jalokim.propertiestojson.writer.JsonStreamWriter.DEFAULT_INDENT_WIDTH;
+
+/**
+ * Settings of {@link PropertiesToJsonConverter} which are not related to resolvers. They are set only by
+ * {@link PropertiesToJsonConverterBuilder}, public constructors of converter use {@link #DEFAULT_SETTINGS}.
+ */
+@Getter
+final class PropertiesToJsonConverterSettings {
+
+    static final PropertiesToJsonConverterSettings DEFAULT_SETTINGS = new PropertiesToJsonConverterSettings(DEFAULT_INDENT_WIDTH,
+            KeySegmentTrie.DEFAULT_MAX_SEGMENTS, null, null, ResolvedValuesCache.DISABLED, null);
+
+    /**
+     * count of spaces for indentation of generated json, zero means compact json
+     */
+    private final int jsonIndentWidth;
+    /**
+     * max count of parsed fields of property keys cached by converter, zero means without cache
+     */
+    private final int maxCachedKeySegments;
+    /**
+     * sorter of large properties, null means sorter with default memory limit
+     */
+    private final ExternalPropertiesSorter externalPropertiesSorter;
+    /**
+     * parser of properties files in many threads, null means that files are parsed in current thread
+     */
+    private final ParallelPropertiesParser parallelPropertiesParser;
+    /**
+     * max count of values resolved from raw texts cached by converter, zero means without cache
+     */
+    private final int maxCachedResolvedValues;
+    /**
+     * order of converted property keys, null means order of given properties
+     */
+    private final PropertyKeysOrderResolver propertyKeysOrderResolver;
+
+    PropertiesToJsonConverterSettings(int jsonIndentWidth,
+                                      int maxCachedKeySegments,
+                                      ExternalPropertiesSorter externalPropertiesSorter,
+                                      ParallelPropertiesParser parallelPropertiesParser,
+                                      int maxCachedResolvedValues,
+                                      PropertyKeysOrderResolver propertyKeysOrderResolver) {
+        this.jsonIndentWidth = jsonIndentWidth;
+        this.maxCachedKeySegments = maxCachedKeySegments;
+        this.externalPropertiesSorter = externalPropertiesSorter;
+        this.parallelPropertiesParser = parallelPropertiesParser;
+        this.maxCachedResolvedValues = maxCachedResolvedValues;
+        this.propertyKeysOrderResolver = propertyKeysOrderResolver;
+    }
+}
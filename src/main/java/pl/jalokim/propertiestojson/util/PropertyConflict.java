@@ -0,0 +1,56 @@
+package pl.jalokim.propertiestojson.util;
+
+import lombok.Data;
+import pl.jalokim.propertiestojson.object.AbstractJsonType;
+import pl.jalokim.propertiestojson.object.ArrayJsonType;
+import pl.jalokim.propertiestojson.object.JsonNullReferenceType;
+import pl.jalokim.propertiestojson.object.ObjectJsonType;
+
+/**
+ * Property key which cannot be put to json because other value exists at the same path,
+ * it is returned by {@link PropertiesToJsonConverter#validate(java.util.Map)}.
+ */
+@Data
+public class PropertyConflict {
+
+    /**
+     * Path of value which exists in json.
+     */
+    private final String path;
+
+    /**
+     * Kind of value which exists in json.
+     */
+    private final JsonNodeKind existingNodeKind;
+
+    /**
+     * Property key which cannot be put to json.
+     */
+    private final String propertyKey;
+
+    public enum JsonNodeKind {
+        OBJECT,
+        ARRAY,
+        PRIMITIVE,
+        NULL;
+
+        /**
+         * It returns kind of given json value.
+         *
+         * @param jsonValue json value
+         * @return kind of json value
+         */
+        public static JsonNodeKind of(AbstractJsonType jsonValue) {
+            if(jsonValue instanceof ObjectJsonType) {
+                return OBJECT;
+            }
+            if(jsonValue instanceof ArrayJsonType) {
+                return ARRAY;
+            }
+            if(jsonValue == null || jsonValue instanceof JsonNullReferenceType) {
+                return NULL;
+            }
+            return PRIMITIVE;
+        }
+    }
+}
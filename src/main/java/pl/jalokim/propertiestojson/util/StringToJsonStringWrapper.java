@@ -5,10 +5,50 @@ public class StringToJsonStringWrapper {
     private StringToJsonStringWrapper() {
     }
 
-    private static final String JSON_STRING_SCHEMA = "\"%s\"";
+    private static final char QUOTE = '"';
+    private static final String UNICODE_ESCAPE_SCHEMA = "\\u%04x";
 
     public static String wrap(String textToWrap) {
-        return String.format(JSON_STRING_SCHEMA, textToWrap.replace("\"","\\\""));
+        StringBuilder result = new StringBuilder(textToWrap.length() + 2).append(QUOTE);
+        for(int index = 0; index < textToWrap.length(); index++) {
+            char sign = textToWrap.charAt(index);
+            String escaped = escapeSign(sign);
+            if(escaped == null) {
+                result.append(sign);
+            } else {
+                result.append(escaped);
+            }
+        }
+        return result.append(QUOTE).toString();
     }
 
+    /**
+     * It returns escaped form of given char which should be used inside of json string.
+     *
+     * @param sign char to check
+     * @return escaped sequence or null when given char can be written as is.
+     */
+    public static String escapeSign(char sign) {
+        switch(sign) {
+            case '"':
+                return "\\\"";
+            case '\\':
+                return "\\\\";
+            case '\n':
+                return "\\n";
+            case '\r':
+                return "\\r";
+            case '\t':
+                return "\\t";
+            case '\b':
+                return "\\b";
+            case '\f':
+                return "\\f";
+            case '\u2028':
+            case '\u2029':
+                return String.format(UNICODE_ESCAPE_SCHEMA, (int) sign);
+            default:
+                return sign < ' ' ? String.format(UNICODE_ESCAPE_SCHEMA, (int) sign) : null;
+        }
+    }
 }
@@ -2,17 +2,97 @@ package pl.jalokim.propertiestojson.util.exception;
 
 import com.google.common.annotations.VisibleForTesting;
 import pl.jalokim.propertiestojson.object.AbstractJsonType;
+import pl.jalokim.propertiestojson.util.PropertyConflict.JsonNodeKind;
 
+import static pl.jalokim.propertiestojson.util.exception.ConflictExceptions.isWithoutDetails;
+import static pl.jalokim.propertiestojson.util.exception.ConflictExceptions.kindOfJsonText;
+import static pl.jalokim.propertiestojson.util.exception.ConflictExceptions.textOf;
+import static pl.jalokim.propertiestojson.util.exception.ConflictExceptions.textOfKind;
+
+/**
+ * It is thrown when value of some property cannot be put to json because other value exists at the same path.
+ * Path, kind of current value and current value cut to {@link #MAX_CURRENT_VALUE_LENGTH} signs are copied when exception is created,
+ * so exception doesn't keep json objects which are changed later and exception for conflict under large json object is cheap.
+ * Exceptions created inside of {@link ConflictExceptions#withoutDetails(java.util.function.Supplier)} don't have stack trace and text of current value.
+ */
 public class CannotOverrideFieldException extends RuntimeException {
 
+    public static final int MAX_CURRENT_VALUE_LENGTH = 1000;
+
+    private static final long serialVersionUID = 1L;
     private static final String CANNOT_OVERRIDE_VALUE = "Cannot override value at path: '%s', current value is: '%s', problematic property key: '%s'";
 
+    private final String currentPath;
+    private final JsonNodeKind currentValueKind;
+    private final String currentValueText;
+    private final String propertyKey;
+    private String message;
+
     public CannotOverrideFieldException(String currentPath, AbstractJsonType currentValue, String propertyKey) {
-        this(currentPath, currentValue.toString(), propertyKey);
+        this(currentPath, JsonNodeKind.of(currentValue), currentValue, propertyKey);
     }
 
     @VisibleForTesting
     public CannotOverrideFieldException(String currentPath, String currentValue, String propertyKey) {
-        super(String.format(CANNOT_OVERRIDE_VALUE, currentPath, currentValue, propertyKey));
+        this(currentPath, kindOfJsonText(currentValue), currentValue, propertyKey);
+    }
+
+    private CannotOverrideFieldException(String currentPath, JsonNodeKind currentValueKind, AbstractJsonType currentValue, String propertyKey) {
+        this(currentPath, currentValueKind, textOf(currentValueKind, currentValue), propertyKey);
+    }
+
+    private CannotOverrideFieldException(String currentPath, JsonNodeKind currentValueKind, String currentValueText, String propertyKey) {
+        super(null, null, true, !isWithoutDetails());
+        this.currentPath = currentPath;
+        this.currentValueKind = currentValueKind;
+        this.currentValueText = currentValueText;
+        this.propertyKey = propertyKey;
+    }
+
+    /**
+     * It creates exception for json object or json array which is not available as json value, like json object which was
+     * already written during conversion of sorted properties. Current value in message is "{...}" or "[...]".
+     *
+     * @param currentPath      path of current value
+     * @param currentValueKind kind of current value, {@link JsonNodeKind#OBJECT} or {@link JsonNodeKind#ARRAY}
+     * @param propertyKey      property key with problematic value
+     * @return exception without fields of current value
+     */
+    public static CannotOverrideFieldException withValueKind(String currentPath, JsonNodeKind currentValueKind, String propertyKey) {
+        return new CannotOverrideFieldException(currentPath, currentValueKind, textOfKind(currentValueKind), propertyKey);
+    }
+
+    public String getCurrentPath() {
+        return currentPath;
+    }
+
+    /**
+     * It returns kind of value which exists at path, it is found by first sign when exception was created with text of value.
+     *
+     * @return kind of current value
+     */
+    public JsonNodeKind getCurrentValueKind() {
+        return currentValueKind;
+    }
+
+    /**
+     * It returns current value as json, cut to {@link #MAX_CURRENT_VALUE_LENGTH} signs.
+     *
+     * @return text of current value
+     */
+    public String getCurrentValueText() {
+        return currentValueText;
+    }
+
+    public String getPropertyKey() {
+        return propertyKey;
+    }
+
+    @Override
+    public String getMessage() {
+        if(message == null) {
+            message = String.format(CANNOT_OVERRIDE_VALUE, currentPath, currentValueText, propertyKey);
+        }
+        return message;
     }
 }
@@ -0,0 +1,181 @@
+package pl.jalokim.propertiestojson.util.exception;
+
+import com.google.gson.JsonSyntaxException;
+import pl.jalokim.propertiestojson.object.AbstractJsonType;
+import pl.jalokim.propertiestojson.util.PropertyConflict.JsonNodeKind;
+import pl.jalokim.propertiestojson.writer.JsonStreamWriter;
+
+import java.io.Writer;
+import java.util.function.Supplier;
+
+import static pl.jalokim.propertiestojson.util.exception.CannotOverrideFieldException.MAX_CURRENT_VALUE_LENGTH;
+import static pl.jalokim.propertiestojson.writer.JsonStreamWriter.COMPACT_INDENT_WIDTH;
+
+/**
+ * Common parts of exceptions about values in conflict at the same path: {@link CannotOverrideFieldException}
+ * and {@link MergeObjectException}. Values in conflict are copied to texts cut to {@link CannotOverrideFieldException#MAX_CURRENT_VALUE_LENGTH}
+ * signs when exception is created, so exceptions don't keep json objects which are changed later.
+ * Exceptions created inside of {@link #withoutDetails(Supplier)} have only paths, kinds of values and property keys,
+ * without stack trace and without texts of values.
+ */
+public final class ConflictExceptions {
+
+    static final String CUT_VALUE_END = "...";
+
+    private static final String NULL_VALUE = "null";
+    private static final ThreadLocal<Boolean> WITHOUT_DETAILS = ThreadLocal.withInitial(() -> false);
+
+    private ConflictExceptions() {
+    }
+
+    /**
+     * It calls given action in current thread, all exceptions about values in conflict created during this action
+     * don't have stack trace and their values in message are only "{...}", "[...]", "null" or "...".
+     * It is for validation of many properties when only path, kind of value and property key of conflict are needed.
+     *
+     * @param action action which can throw exceptions about values in conflict
+     * @param <T>    type of result
+     * @return result of action
+     */
+    public static <T> T withoutDetails(Supplier<T> action) {
+        Boolean previousSetting = WITHOUT_DETAILS.get();
+        WITHOUT_DETAILS.set(true);
+        try {
+            return action.get();
+        } finally {
+            WITHOUT_DETAILS.set(previousSetting);
+        }
+    }
+
+    static boolean isWithoutDetails() {
+        return WITHOUT_DETAILS.get();
+    }
+
+    /**
+     * It returns text of value for message, only text of its kind when exception is created without details.
+     *
+     * @param kind  kind of value
+     * @param value json value
+     * @return json text cut to max length or text of kind
+     */
+    static String textOf(JsonNodeKind kind, AbstractJsonType value) {
+        return isWithoutDetails() ? textOfKind(kind) : toBoundedText(value);
+    }
+
+    /**
+     * It returns compact json of given value cut to max length.
+     *
+     * @param value json value
+     * @return json text, it ends with "..." when it was cut
+     */
+    static String toBoundedText(AbstractJsonType value) {
+        BoundedWriter boundedWriter = new BoundedWriter(MAX_CURRENT_VALUE_LENGTH);
+        try {
+            value.writeJson(new JsonStreamWriter(boundedWriter, COMPACT_INDENT_WIDTH));
+        } catch(LengthExceededException | JsonSyntaxException e) {
+            return boundedWriter.toString() + CUT_VALUE_END;
+        }
+        return boundedWriter.toString();
+    }
+
+    /**
+     * It returns given text cut to max length.
+     *
+     * @param text any text
+     * @return given text or its beginning which ends with "..."
+     */
+    static String toBoundedText(String text) {
+        return text.length() > MAX_CURRENT_VALUE_LENGTH ? text.substring(0, MAX_CURRENT_VALUE_LENGTH) + CUT_VALUE_END : text;
+    }
+
+    /**
+     * It returns kind of value by first sign of its json text.
+     *
+     * @param jsonText json of value
+     * @return kind of value
+     */
+    static JsonNodeKind kindOfJsonText(String jsonText) {
+        String trimmedText = jsonText.trim();
+        if(trimmedText.startsWith("{")) {
+            return JsonNodeKind.OBJECT;
+        }
+        if(trimmedText.startsWith("[")) {
+            return JsonNodeKind.ARRAY;
+        }
+        return NULL_VALUE.equals(trimmedText) ? JsonNodeKind.NULL : JsonNodeKind.PRIMITIVE;
+    }
+
+    /**
+     * It returns text of value when only kind of value is known: "{...}", "[...]", "null" or "...".
+     *
+     * @param kind kind of value
+     * @return text for message
+     */
+    static String textOfKind(JsonNodeKind kind) {
+        switch(kind) {
+            case OBJECT:
+                return "{" + CUT_VALUE_END + "}";
+            case ARRAY:
+                return "[" + CUT_VALUE_END + "]";
+            case NULL:
+                return NULL_VALUE;
+            default:
+                return CUT_VALUE_END;
+        }
+    }
+
+    /**
+     * It collects written signs until max length, then it stops writing of json.
+     */
+    private static final class BoundedWriter extends Writer {
+
+        private final StringBuilder text = new StringBuilder();
+        private final int maxLength;
+
+        private BoundedWriter(int maxLength) {
+            this.maxLength = maxLength;
+        }
+
+        @Override
+        public void write(char[] buffer, int offset, int length) {
+            int freeSpace = maxLength - text.length();
+            text.append(buffer, offset, Math.min(length, freeSpace));
+            if(length > freeSpace) {
+                throw new LengthExceededException();
+            }
+        }
+
+        @Override
+        public void write(String part, int offset, int length) {
+            int freeSpace = maxLength - text.length();
+            text.append(part, offset, offset + Math.min(length, freeSpace));
+            if(length > freeSpace) {
+                throw new LengthExceededException();
+            }
+        }
+
+        @Override
+        public void flush() {
+            // nothing to flush
+        }
+
+        @Override
+        public void close() {
+            // nothing to close
+        }
+
+        @Override
+        public String toString() {
+            return text.toString();
+        }
+    }
+
+    private static final class LengthExceededException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private LengthExceededException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -3,17 +3,99 @@ package pl.jalokim.propertiestojson.util.exception;
 import com.google.common.annotations.VisibleForTesting;
 import pl.jalokim.propertiestojson.object.AbstractJsonType;
 import pl.jalokim.propertiestojson.path.PathMetadata;
+import pl.jalokim.propertiestojson.util.PropertyConflict.JsonNodeKind;
 
 import static java.lang.String.format;
+import static pl.jalokim.propertiestojson.util.exception.ConflictExceptions.CUT_VALUE_END;
+import static pl.jalokim.propertiestojson.util.exception.ConflictExceptions.isWithoutDetails;
+import static pl.jalokim.propertiestojson.util.exception.ConflictExceptions.kindOfJsonText;
+import static pl.jalokim.propertiestojson.util.exception.ConflictExceptions.textOf;
+import static pl.jalokim.propertiestojson.util.exception.ConflictExceptions.toBoundedText;
 
+/**
+ * It is thrown when json object and json array should be merged at the same path.
+ * Path, kind of old value and both values cut to {@link CannotOverrideFieldException#MAX_CURRENT_VALUE_LENGTH} signs
+ * are copied when exception is created, so exception doesn't keep json objects which are changed later.
+ * Exceptions created inside of {@link ConflictExceptions#withoutDetails(java.util.function.Supplier)} don't have stack trace and texts of values.
+ */
 public class MergeObjectException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+    private static final String CANNOT_MERGE = "Cannot merge objects with different types:%n Old object: %s%n New object: %s%n problematic key: '%s'%n with value: %s";
+
+    private final String currentPath;
+    private final JsonNodeKind oldValueKind;
+    private final String oldValueText;
+    private final String newValueText;
+    private final String propertyKey;
+    private final String rawValueText;
+    private String message;
+
     public MergeObjectException(AbstractJsonType oldJsonElement, AbstractJsonType elementToAdd, PathMetadata currentPathMetadata) {
-        this(oldJsonElement.toStringJson(), elementToAdd.toStringJson(), currentPathMetadata);
+        this(currentPathMetadata, JsonNodeKind.of(oldJsonElement), oldJsonElement, elementToAdd);
+    }
+
+    private MergeObjectException(PathMetadata currentPathMetadata, JsonNodeKind oldValueKind,
+                                 AbstractJsonType oldJsonElement, AbstractJsonType elementToAdd) {
+        this(currentPathMetadata, oldValueKind, textOf(oldValueKind, oldJsonElement),
+             textOf(JsonNodeKind.of(elementToAdd), elementToAdd));
     }
 
     @VisibleForTesting
     public MergeObjectException(String oldJsonElementValue, String elementToAddValue, PathMetadata currentPathMetadata) {
-        super(format("Cannot merge objects with different types:%n Old object: %s%n New object: %s%n problematic key: '%s'%n with value: %s",
-                     oldJsonElementValue, elementToAddValue, currentPathMetadata.getOriginalPropertyKey(), currentPathMetadata.getRawValue()));
+        this(currentPathMetadata, kindOfJsonText(oldJsonElementValue), oldJsonElementValue, elementToAddValue);
+    }
+
+    private MergeObjectException(PathMetadata currentPathMetadata, JsonNodeKind oldValueKind, String oldValueText, String newValueText) {
+        super(null, null, true, !isWithoutDetails());
+        this.currentPath = currentPathMetadata.getCurrentFullPath();
+        this.oldValueKind = oldValueKind;
+        this.oldValueText = oldValueText;
+        this.newValueText = newValueText;
+        this.propertyKey = currentPathMetadata.getOriginalPropertyKey();
+        this.rawValueText = isWithoutDetails() ? CUT_VALUE_END : toBoundedText(String.valueOf(currentPathMetadata.getRawValue()));
+    }
+
+    public String getCurrentPath() {
+        return currentPath;
+    }
+
+    /**
+     * It returns kind of value which exists at path, it is found by first sign when exception was created with text of value.
+     *
+     * @return kind of old value
+     */
+    public JsonNodeKind getOldValueKind() {
+        return oldValueKind;
+    }
+
+    /**
+     * It returns old value as json, cut to {@link CannotOverrideFieldException#MAX_CURRENT_VALUE_LENGTH} signs.
+     *
+     * @return text of old value
+     */
+    public String getOldValueText() {
+        return oldValueText;
+    }
+
+    /**
+     * It returns value which cannot be merged as json, cut to {@link CannotOverrideFieldException#MAX_CURRENT_VALUE_LENGTH} signs.
+     *
+     * @return text of new value
+     */
+    public String getNewValueText() {
+        return newValueText;
+    }
+
+    public String getPropertyKey() {
+        return propertyKey;
+    }
+
+    @Override
+    public String getMessage() {
+        if(message == null) {
+            message = format(CANNOT_MERGE, oldValueText, newValueText, propertyKey, rawValueText);
+        }
+        return message;
     }
 }
@@ -19,6 +19,10 @@ public class ParsePropertiesException extends RuntimeException {
     public static final String CANNOT_FIND_JSON_TYPE_OBJ = "Cannot find valid JSON type resolver for class: '%s'. \n" +
                                                                " for property: %s, and object value: %s \n" +
                                                                "Please consider add sufficient resolver to your resolvers.";
+
+    public static final String PROPERTY_KEYS_NOT_SORTED = "Property keys are not sorted, property key: '%s' is before property key: '%s'";
+    public static final String CANNOT_MERGE_IN_SORTED_MODE = "Value of property key: '%s' cannot be merged with property key: '%s' during conversion of sorted properties";
+
     public ParsePropertiesException(String message) {
         super(message);
     }
@@ -0,0 +1,7 @@
+package pl.jalokim.propertiestojson.util.exception;
+
+public class WriteOutputException extends RuntimeException {
+    public WriteOutputException(Exception ex) {
+        super(ex);
+    }
+}
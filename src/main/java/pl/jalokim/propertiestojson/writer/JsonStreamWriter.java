@@ -0,0 +1,291 @@
+package pl.jalokim.propertiestojson.writer;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+import pl.jalokim.propertiestojson.object.AbstractJsonType;
+import pl.jalokim.propertiestojson.util.exception.WriteOutputException;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static pl.jalokim.propertiestojson.util.StringToJsonStringWrapper.escapeSign;
+
+/**
+ * It writes json elements directly to given {@link Writer}, element after element, without building whole json text in memory.
+ * Instances of {@link AbstractJsonType} write themselves through method {@link AbstractJsonType#writeJson(JsonStreamWriter)}
+ * With indent width greater than zero output is formatted in the same way like gson pretty printing does,
+ * with indent width equal to zero json is written without any white signs.
+ */
+public class JsonStreamWriter {
+
+    public static final int DEFAULT_INDENT_WIDTH = 2;
+    public static final int COMPACT_INDENT_WIDTH = 0;
+
+    private static final String NEW_LINE = "\n";
+    private static final String PRETTY_NAME_SEPARATOR = ": ";
+    private static final String COMPACT_NAME_SEPARATOR = ":";
+
+    private static final int EMPTY_OBJECT = 1;
+    private static final int NONEMPTY_OBJECT = 2;
+    private static final int EMPTY_ARRAY = 3;
+    private static final int NONEMPTY_ARRAY = 4;
+    private static final int DANGLING_NAME = 5;
+    private static final int MAX_LONG_LENGTH = 20;
+    private static final String INVALID_JSON_VALUE = "Invalid json value: '%s', cause: %s";
+
+    private final Writer writer;
+    private final String indent;
+    private final String nameSeparator;
+    private final boolean prettyPrinting;
+    private int[] stack = new int[32];
+    private int stackSize = 0;
+    private final char[] digits = new char[MAX_LONG_LENGTH];
+
+    public JsonStreamWriter(Writer writer) {
+        this(writer, DEFAULT_INDENT_WIDTH);
+    }
+
+    /**
+     * It creates json writer with given width of indentation.
+     *
+     * @param writer      target of json
+     * @param indentWidth count of spaces for every nesting level, {@link #COMPACT_INDENT_WIDTH} means compact json in one line
+     */
+    public JsonStreamWriter(Writer writer, int indentWidth) {
+        if(indentWidth < 0) {
+            throw new IllegalArgumentException("Indent width cannot be negative, given: " + indentWidth);
+        }
+        this.writer = writer;
+        this.prettyPrinting = indentWidth > COMPACT_INDENT_WIDTH;
+        this.indent = String.join("", Collections.nCopies(indentWidth, " "));
+        this.nameSeparator = prettyPrinting ? PRETTY_NAME_SEPARATOR : COMPACT_NAME_SEPARATOR;
+    }
+
+    public JsonStreamWriter beginObject() {
+        beforeValue();
+        write('{');
+        push(EMPTY_OBJECT);
+        return this;
+    }
+
+    public JsonStreamWriter endObject() {
+        return close(EMPTY_OBJECT, NONEMPTY_OBJECT, '}');
+    }
+
+    public JsonStreamWriter beginArray() {
+        beforeValue();
+        write('[');
+        push(EMPTY_ARRAY);
+        return this;
+    }
+
+    public JsonStreamWriter endArray() {
+        return close(EMPTY_ARRAY, NONEMPTY_ARRAY, ']');
+    }
+
+    /**
+     * It writes name of next field in current json object.
+     *
+     * @param name name of field
+     * @return this writer
+     */
+    public JsonStreamWriter name(String name) {
+        int context = peek();
+        if(context == NONEMPTY_OBJECT) {
+            write(',');
+        } else if(context != EMPTY_OBJECT) {
+            throw new IllegalStateException("Field name can be written only inside of json object");
+        }
+        newLine();
+        stack[stackSize - 1] = DANGLING_NAME;
+        writeString(name);
+        write(nameSeparator);
+        return this;
+    }
+
+    public JsonStreamWriter stringValue(String value) {
+        beforeValue();
+        writeString(value);
+        return this;
+    }
+
+    /**
+     * It writes digits of given number directly to output, without creating text of number.
+     *
+     * @param value number
+     * @return this writer
+     */
+    public JsonStreamWriter longValue(long value) {
+        beforeValue();
+        int position = digits.length;
+        long remaining = value > 0 ? -value : value;
+        do {
+            digits[--position] = (char) ('0' - remaining % 10);
+            remaining /= 10;
+        } while(remaining != 0);
+        if(value < 0) {
+            digits[--position] = '-';
+        }
+        try {
+            writer.write(digits, position, digits.length - position);
+        } catch(IOException e) {
+            throw new WriteOutputException(e);
+        }
+        return this;
+    }
+
+    /**
+     * It writes number in the same way like {@link Double#toString(double)}.
+     *
+     * @param value number
+     * @return this writer
+     */
+    public JsonStreamWriter doubleValue(double value) {
+        if(value == (long) value && Math.abs(value) < 1e7 && !(value == 0 && 1 / value < 0)) {
+            longValue((long) value);
+            write(".0");
+            return this;
+        }
+        return rawValue(Double.toString(value));
+    }
+
+    /**
+     * It writes given text as it is, text should be valid json value.
+     *
+     * @param jsonValue json value as text
+     * @return this writer
+     */
+    public JsonStreamWriter rawValue(String jsonValue) {
+        beforeValue();
+        write(jsonValue);
+        return this;
+    }
+
+    /**
+     * It writes given text as it is when text is one valid json value.
+     * It is for json values from outside of this library which cannot be trusted.
+     *
+     * @param jsonValue json value as text
+     * @return this writer
+     * @throws JsonSyntaxException when given text is not valid json value
+     */
+    public JsonStreamWriter validatedRawValue(String jsonValue) {
+        validateJsonValue(jsonValue);
+        return rawValue(jsonValue);
+    }
+
+    public void flush() {
+        try {
+            writer.flush();
+        } catch(IOException e) {
+            throw new WriteOutputException(e);
+        }
+    }
+
+    private JsonStreamWriter close(int emptyContext, int nonEmptyContext, char closeSign) {
+        int context = peek();
+        if(context != emptyContext && context != nonEmptyContext) {
+            throw new IllegalStateException("Nesting problem, cannot close json element with: " + closeSign);
+        }
+        stackSize--;
+        if(context == nonEmptyContext) {
+            newLine();
+        }
+        write(closeSign);
+        return this;
+    }
+
+    private void beforeValue() {
+        if(stackSize == 0) {
+            return;
+        }
+        int context = peek();
+        if(context == DANGLING_NAME) {
+            stack[stackSize - 1] = NONEMPTY_OBJECT;
+        } else if(context == EMPTY_ARRAY) {
+            stack[stackSize - 1] = NONEMPTY_ARRAY;
+            newLine();
+        } else if(context == NONEMPTY_ARRAY) {
+            write(',');
+            newLine();
+        } else {
+            throw new IllegalStateException("Expected field name before value in json object");
+        }
+    }
+
+    private void push(int context) {
+        if(stackSize == stack.length) {
+            stack = Arrays.copyOf(stack, stackSize * 2);
+        }
+        stack[stackSize++] = context;
+    }
+
+    private int peek() {
+        if(stackSize == 0) {
+            throw new IllegalStateException("Json writer is not inside of json object or json array");
+        }
+        return stack[stackSize - 1];
+    }
+
+    private void newLine() {
+        if(!prettyPrinting) {
+            return;
+        }
+        write(NEW_LINE);
+        for(int level = 0; level < stackSize; level++) {
+            write(indent);
+        }
+    }
+
+    private void writeString(String text) {
+        try {
+            writer.write('"');
+            int notEscapedFrom = 0;
+            int length = text.length();
+            for(int index = 0; index < length; index++) {
+                String escaped = escapeSign(text.charAt(index));
+                if(escaped != null) {
+                    writer.write(text, notEscapedFrom, index - notEscapedFrom);
+                    writer.write(escaped);
+                    notEscapedFrom = index + 1;
+                }
+            }
+            writer.write(text, notEscapedFrom, length - notEscapedFrom);
+            writer.write('"');
+        } catch(IOException e) {
+            throw new WriteOutputException(e);
+        }
+    }
+
+    private void write(String text) {
+        try {
+            writer.write(text);
+        } catch(IOException e) {
+            throw new WriteOutputException(e);
+        }
+    }
+
+    private void write(char sign) {
+        try {
+            writer.write(sign);
+        } catch(IOException e) {
+            throw new WriteOutputException(e);
+        }
+    }
+
+    private static void validateJsonValue(String jsonValue) {
+        try(JsonReader reader = new JsonReader(new StringReader(jsonValue))) {
+            reader.skipValue();
+            if(reader.peek() != JsonToken.END_DOCUMENT) {
+                throw new MalformedJsonException("Expected only one json value");
+            }
+        } catch(IOException e) {
+            throw new JsonSyntaxException(String.format(INVALID_JSON_VALUE, jsonValue, e.getMessage()), e);
+        }
+    }
+}
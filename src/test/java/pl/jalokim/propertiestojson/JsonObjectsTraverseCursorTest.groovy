@@ -0,0 +1,112 @@
+package pl.jalokim.propertiestojson
+
+import pl.jalokim.propertiestojson.helper.PropertyKeysOrderResolverForTest
+import pl.jalokim.propertiestojson.object.ObjectJsonType
+import pl.jalokim.propertiestojson.path.PathMetadataBuilder
+import pl.jalokim.propertiestojson.util.PropertiesToJsonConverter
+import pl.jalokim.propertiestojson.util.PropertiesToJsonConverterBuilder
+import pl.jalokim.propertiestojson.util.exception.CannotOverrideFieldException
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class JsonObjectsTraverseCursorTest extends Specification {
+
+    def "resume traverse from longest common prefix with previous property key"() {
+        given:
+        ObjectJsonType root = new ObjectJsonType()
+        ObjectJsonType app = new ObjectJsonType()
+        ObjectJsonType datasource = new ObjectJsonType()
+        JsonObjectsTraverseCursor cursor = new JsonObjectsTraverseCursor(root)
+        def previousKey = PathMetadataBuilder.createRootPathMetaData("app.datasource.url")
+        cursor.open(0, previousKey, app)
+        cursor.open(1, previousKey.getChild(), datasource)
+        when:
+        int sameParentDepth = cursor.findResumeDepth(PathMetadataBuilder.createRootPathMetaData("app.datasource.user"))
+        int sameLeafParentDepth = cursor.findResumeDepth(PathMetadataBuilder.createRootPathMetaData("app.datasource"))
+        int otherRootDepth = cursor.findResumeDepth(PathMetadataBuilder.createRootPathMetaData("other.datasource.user"))
+        int longerKeyDepth = cursor.findResumeDepth(PathMetadataBuilder.createRootPathMetaData("app.datasource.pool.size"))
+        then:
+        sameParentDepth == 2
+        sameLeafParentDepth == 1
+        otherRootDepth == 0
+        longerKeyDepth == 2
+        cursor.getObjectForDepth(0).is(root)
+        cursor.getObjectForDepth(1).is(app)
+        cursor.getObjectForDepth(2).is(datasource)
+    }
+
+    def "opening of field forgets deeper fields of previous key"() {
+        given:
+        JsonObjectsTraverseCursor cursor = new JsonObjectsTraverseCursor(new ObjectJsonType())
+        def previousKey = PathMetadataBuilder.createRootPathMetaData("app.datasource.url")
+        cursor.open(0, previousKey, new ObjectJsonType())
+        cursor.open(1, previousKey.getChild(), new ObjectJsonType())
+        when:
+        cursor.open(0, PathMetadataBuilder.createRootPathMetaData("other.datasource.url"), new ObjectJsonType())
+        then:
+        cursor.findResumeDepth(PathMetadataBuilder.createRootPathMetaData("other.datasource.user")) == 1
+    }
+
+    def "deep keys with common prefixes give the same json for every order of keys"() {
+        given:
+        Map<String, String> properties = [
+                "app.datasource.primary.pool.size"   : "10",
+                "app.datasource.primary.pool.timeout": "30",
+                "app.datasource.primary.url"         : "jdbc",
+                "app.datasource.secondary[0].url"    : "jdbc0",
+                "app.datasource.secondary[0].user"   : "user0",
+                "app.datasource.secondary[1].url"    : "jdbc1",
+                "app.name"                           : "name",
+                "app.tags[0][1].value"               : "tag"
+        ]
+        List<String> sortedKeys = new ArrayList<>(properties.keySet()).sort()
+        PropertiesToJsonConverter converter = PropertiesToJsonConverterBuilder.builder().compactJson().sortPropertyKeys().build()
+        String sortedJson = converter.convertToJson(properties)
+        when:
+        PropertyKeysOrderResolverForTest keysOrderResolver = new PropertyKeysOrderResolverForTest()
+        keysOrderResolver.setUpMockKeys(sortedKeys.reverse() as String[])
+        converter.setPropertyKeysOrderResolver(keysOrderResolver)
+        String reversedJson = converter.convertToJson(properties)
+        then:
+        reversedJson == sortedJson
+    }
+
+    def "keys are converted in order of given properties by default"() {
+        given:
+        Map<String, Object> properties = new LinkedHashMap<>()
+        properties.put("app.name", "name")
+        properties.put("app.name.first", "first")
+        PropertiesToJsonConverter converter = new PropertiesToJsonConverter()
+        when:
+        converter.convertFromValuesAsObjectMap(properties)
+        then:
+        CannotOverrideFieldException exception = thrown()
+        exception.getPropertyKey() == "app.name.first"
+        when:
+        Map<String, Object> reversedProperties = new LinkedHashMap<>()
+        reversedProperties.put("app.name.first", "first")
+        reversedProperties.put("app.name", "name")
+        converter.convertFromValuesAsObjectMap(reversedProperties)
+        then:
+        CannotOverrideFieldException reversedException = thrown()
+        reversedException.getPropertyKey() == "app.name"
+    }
+
+    @Unroll
+    def "cannot override primitive field by json object for keys in order: #keys"() {
+        given:
+        PropertiesToJsonConverter converter = new PropertiesToJsonConverter()
+        PropertyKeysOrderResolverForTest keysOrderResolver = new PropertyKeysOrderResolverForTest()
+        keysOrderResolver.setUpMockKeys(keys as String[])
+        converter.setPropertyKeysOrderResolver(keysOrderResolver)
+        when:
+        converter.convertToJson(["app.datasource.url": "jdbc", "app.datasource": "text", "app.datasource.url.value": "other"])
+        then:
+        thrown(CannotOverrideFieldException)
+        where:
+        keys << [["app.datasource.url", "app.datasource"],
+                 ["app.datasource", "app.datasource.url"],
+                 ["app.datasource.url", "app.datasource.url.value"],
+                 ["app.datasource.url.value", "app.datasource.url"]]
+    }
+}
@@ -29,4 +29,21 @@ class PropertyArrayHelperTest extends Specification {
         "arrayField[_] [11]"            | [11]
         "arrayField [12] [ 13] [ 11 ] " | [12, 13, 11]
     }
+
+    @Unroll
+    def "get the same indexes as array and as list from array field: #arrayFieldName"() {
+        when:
+        def helper = new PropertyArrayHelper(arrayFieldName)
+
+        then:
+        PropertyArrayHelper.getIndexesArrayFromArrayField(arrayFieldName) == expectedIndexes as int[]
+        helper.getDimensionalIndexArray() == expectedIndexes as int[]
+        helper.getDimensionalIndexes() == expectedIndexes
+        helper.getArrayFieldName() == expectedArrayName
+
+        where:
+        arrayFieldName          | expectedArrayName || expectedIndexes
+        "arrayField [12] [ 13]" | "arrayField"      || [12, 13]
+        "array[0]"              | "array"           || [0]
+    }
 }
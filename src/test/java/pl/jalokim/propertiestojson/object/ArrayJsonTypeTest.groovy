@@ -12,4 +12,64 @@ class ArrayJsonTypeTest extends Specification {
         then:
         arrayJsonType.getElement(200).toStringJson() == "\"test\""
     }
+
+    def "get element at not existing index returns null"() {
+        given:
+        ArrayJsonType arrayJsonType = new ArrayJsonType()
+        arrayJsonType.addElement(1, new StringJsonType("test"), null)
+        expect:
+        arrayJsonType.getElement(0) == null
+        arrayJsonType.getElement(1000000) == null
+        !arrayJsonType.existElementByGivenIndex(1000000)
+        arrayJsonType.toStringJson() == "[null,\"test\"]"
+    }
+
+    def "many elements in order are stored in dense array"() {
+        given:
+        ArrayJsonType arrayJsonType = new ArrayJsonType()
+        when:
+        for(int index = 0; index < 100000; index++) {
+            arrayJsonType.addElement(index, new NumberJsonType(index), null)
+        }
+        then:
+        !arrayJsonType.isSparse()
+        arrayJsonType.getElement(0).toStringJson() == "0"
+        arrayJsonType.getElement(99999).toStringJson() == "99999"
+        arrayJsonType.convertToListWithoutRealNull().size() == 100000
+    }
+
+    def "elements with far indexes are stored in sparse map"() {
+        given:
+        ArrayJsonType arrayJsonType = new ArrayJsonType()
+        when:
+        arrayJsonType.addElement(0, new StringJsonType("first"), null)
+        arrayJsonType.addElement(5000000, new StringJsonType("last"), null)
+        arrayJsonType.addElement(3, new StringJsonType("middle"), null)
+        then:
+        arrayJsonType.isSparse()
+        arrayJsonType.getElement(0).toStringJson() == "\"first\""
+        arrayJsonType.getElement(3).toStringJson() == "\"middle\""
+        arrayJsonType.getElement(5000000).toStringJson() == "\"last\""
+        arrayJsonType.getElement(4) == null
+        List<AbstractJsonType> elements = arrayJsonType.convertToListWithoutRealNull()
+        elements.size() == 5000001
+        elements[1] == JsonNullReferenceType.NULL_OBJECT
+        elements[3].toStringJson() == "\"middle\""
+        elements[5000000].toStringJson() == "\"last\""
+    }
+
+    def "merge of sparse array adds elements at the same indexes"() {
+        given:
+        ArrayJsonType arrayJsonType = new ArrayJsonType()
+        arrayJsonType.addElement(3000, new StringJsonType("existing"), null)
+        ArrayJsonType sparseArray = new ArrayJsonType()
+        sparseArray.addElement(2000, new StringJsonType("far"), null)
+        when:
+        arrayJsonType.merge(sparseArray, null)
+        then:
+        arrayJsonType.getElement(3000).toStringJson() == "\"existing\""
+        arrayJsonType.getElement(2000).toStringJson() == "\"far\""
+        arrayJsonType.getElement(1999) == null
+        arrayJsonType.convertToListWithoutRealNull().size() == 3001
+    }
 }
@@ -0,0 +1,75 @@
+package pl.jalokim.propertiestojson.object
+
+import pl.jalokim.propertiestojson.resolvers.primitives.object.NumberToJsonTypeConverter
+import pl.jalokim.propertiestojson.writer.JsonStreamWriter
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import static pl.jalokim.propertiestojson.writer.JsonStreamWriter.COMPACT_INDENT_WIDTH
+
+class NumericJsonTypesTest extends Specification {
+
+    @Unroll
+    def "number #number of type #number.class.simpleName is converted to #expectedType.simpleName with the same text"() {
+        when:
+        AbstractJsonType jsonNumber = NumberToJsonTypeConverter.toNarrowestJsonType(number)
+
+        then:
+        jsonNumber.getClass() == expectedType
+        jsonNumber.toStringJson() == number.toString()
+        writeJson(jsonNumber) == "[" + number.toString() + "]"
+
+        where:
+        number                                  | expectedType
+        0                                       | LongJsonType
+        (byte) -7                               | LongJsonType
+        (short) 8080                            | LongJsonType
+        Integer.MIN_VALUE                       | LongJsonType
+        Long.MAX_VALUE                          | LongJsonType
+        Long.MIN_VALUE                          | LongJsonType
+        new BigInteger("-9223372036854775808")  | LongJsonType
+        new BigInteger("9223372036854775808")   | NumberJsonType
+        1.5d                                    | DoubleJsonType
+        0.0d                                    | DoubleJsonType
+        -0.0d                                   | DoubleJsonType
+        -42.0d                                  | DoubleJsonType
+        9999999.0d                              | DoubleJsonType
+        1.0E7d                                  | DoubleJsonType
+        1.0E-5d                                 | DoubleJsonType
+        Double.MAX_VALUE                        | DoubleJsonType
+        new BigDecimal("1.50")                  | NumberJsonType
+        1.1f                                    | NumberJsonType
+    }
+
+    def "long json type keeps primitive value"() {
+        expect:
+        new LongJsonType(-15L).getValue() == -15L
+        new DoubleJsonType(2.5d).getValue() == 2.5d
+    }
+
+    @Unroll
+    def "#jsonNumber.class.simpleName is json number and primitive json type with boxed value #expectedNumber"() {
+        expect:
+        jsonNumber instanceof NumberJsonType
+        jsonNumber instanceof PrimitiveJsonType
+        jsonNumber.getNumber() == expectedNumber
+        jsonNumber.getNumber().getClass() == expectedNumber.getClass()
+        jsonNumber.getNumber().is(jsonNumber.getNumber())
+
+        where:
+        jsonNumber                                  | expectedNumber
+        new LongJsonType(123456L)                   | 123456L
+        new DoubleJsonType(2.5d)                    | 2.5d
+        new NumberJsonType(new BigDecimal("1.50"))  | new BigDecimal("1.50")
+    }
+
+    private static String writeJson(AbstractJsonType jsonType) {
+        StringWriter writer = new StringWriter()
+        JsonStreamWriter jsonWriter = new JsonStreamWriter(writer, COMPACT_INDENT_WIDTH)
+        jsonWriter.beginArray()
+        jsonType.writeJson(jsonWriter)
+        jsonWriter.endArray()
+        jsonWriter.flush()
+        writer.toString()
+    }
+}
@@ -0,0 +1,150 @@
+package pl.jalokim.propertiestojson.object
+
+import pl.jalokim.propertiestojson.writer.JsonStreamWriter
+import spock.lang.Specification
+
+import static pl.jalokim.propertiestojson.writer.JsonStreamWriter.COMPACT_INDENT_WIDTH
+
+class ObjectJsonTypeTest extends Specification {
+
+    def "objects with the same fields share one shape and keep only values"() {
+        given:
+        ObjectJsonType root = new ObjectJsonType()
+        List<ObjectJsonType> servers = (0..<1000).collect { int index ->
+            ObjectJsonType server = new ObjectJsonType(root)
+            server.addField("host", new StringJsonType("host" + index), null)
+            server.addField("port", new NumberJsonType(8080 + index), null)
+            server.addField("weight", new NumberJsonType(index % 10), null)
+            server
+        }
+
+        expect:
+        servers.every { it.hasSharedShape() && it.getFieldsCount() == 3 }
+        servers.collect { it.getShape() }.unique { System.identityHashCode(it) }.size() == 1
+        servers[0].getShape().size() == 3
+        servers[7].getField("host").toStringJson() == '"host7"'
+        servers[7].getField("port").toStringJson() == "8087"
+        servers[7].getField("unknown") == null
+        !servers[7].containsField("unknown")
+    }
+
+    def "objects of different jsons don't share shapes"() {
+        given:
+        ObjectJsonType firstRoot = new ObjectJsonType()
+        ObjectJsonType secondRoot = new ObjectJsonType()
+        ObjectJsonType firstObject = new ObjectJsonType(firstRoot)
+        ObjectJsonType secondObject = new ObjectJsonType(secondRoot)
+
+        when:
+        firstObject.addField("host", new StringJsonType("first"), null)
+        secondObject.addField("host", new StringJsonType("second"), null)
+
+        then:
+        !firstObject.getShape().is(secondObject.getShape())
+        firstObject.getShape().getShapesCount() == 1
+        secondObject.getShape().getShapesCount() == 1
+    }
+
+    def "objects use own maps of fields when count of shapes in one json reaches limit, other jsons still use shapes"() {
+        given:
+        ObjectJsonType root = new ObjectJsonType()
+        List<ObjectJsonType> objects = (0..<ObjectShape.MAX_SHAPES).collect { int index ->
+            ObjectJsonType objectJsonType = new ObjectJsonType(root)
+            objectJsonType.addField("field" + index, new StringJsonType("value"), null)
+            objectJsonType
+        }
+        ObjectJsonType objectAfterLimit = new ObjectJsonType(root)
+        ObjectJsonType objectOfOtherJson = new ObjectJsonType()
+
+        when:
+        objectAfterLimit.addField("lastField", new StringJsonType("value"), null)
+        objectOfOtherJson.addField("lastField", new StringJsonType("value"), null)
+
+        then:
+        objects.every { it.hasSharedShape() }
+        root.getShape().getShapesCount() == ObjectShape.MAX_SHAPES
+        !objectAfterLimit.hasSharedShape()
+        objectAfterLimit.getField("lastField").toStringJson() == '"value"'
+        objectOfOtherJson.hasSharedShape()
+    }
+
+    def "object which moved to own map of fields creates objects with shapes of the same json"() {
+        given:
+        ObjectJsonType root = new ObjectJsonType()
+        ObjectJsonType sibling = new ObjectJsonType(root)
+        sibling.addField("first", new StringJsonType("1"), null)
+        for(int index = 0; index < ObjectShape.MAX_FIELDS + 1; index++) {
+            root.addField("field" + index, new NumberJsonType(index), null)
+        }
+
+        when:
+        ObjectJsonType next = new ObjectJsonType(root)
+        next.addField("first", new StringJsonType("2"), null)
+
+        then:
+        !root.hasSharedShape()
+        next.getShape().is(sibling.getShape())
+    }
+
+    def "json of object has fields in the same order like json of fields in hash map"() {
+        given:
+        ObjectJsonType objectJsonType = new ObjectJsonType()
+        Map<String, AbstractJsonType> expectedFields = new HashMap<>()
+        fieldNames.each { String fieldName ->
+            objectJsonType.addField(fieldName, new StringJsonType(fieldName), null)
+            expectedFields.put(fieldName, new StringJsonType(fieldName))
+        }
+
+        expect:
+        objectJsonType.hasSharedShape() == sharedShape
+        writeJson(objectJsonType) == "{" + expectedFields.collect { key, value -> "\"$key\":${value.toStringJson()}" }.join(",") + "}"
+        objectJsonType.toStringJson() == "{" + expectedFields.collect { key, value -> "\"$key\":${value.toStringJson()}" }.join(",") + "}"
+
+        where:
+        fieldNames                                                       | sharedShape
+        ["zeta", "alpha", "Aa", "BB", "middle", "b", "a"]                | true
+        (0..<ObjectShape.MAX_FIELDS).collect { "field" + (100 - it) }    | true
+        (0..<ObjectShape.MAX_FIELDS + 5).collect { "field" + (100 - it) } | false
+    }
+
+    def "fields are the same after move from shape to own map"() {
+        given:
+        ObjectJsonType objectJsonType = new ObjectJsonType()
+        int fieldsCount = ObjectShape.MAX_FIELDS + 3
+
+        when:
+        for(int index = 0; index < fieldsCount; index++) {
+            objectJsonType.addField("field" + index, new NumberJsonType(index), null)
+        }
+
+        then:
+        !objectJsonType.hasSharedShape()
+        objectJsonType.getFieldsCount() == fieldsCount
+        (0..<fieldsCount).every { objectJsonType.getField("field" + it).toStringJson() == it.toString() }
+    }
+
+    def "merge adds fields of other object"() {
+        given:
+        ObjectJsonType objectJsonType = new ObjectJsonType()
+        objectJsonType.addField("first", new StringJsonType("1"), null)
+        ObjectJsonType mergeWith = new ObjectJsonType()
+        mergeWith.addField("second", new StringJsonType("2"), null)
+        mergeWith.addField("third", new StringJsonType("3"), null)
+
+        when:
+        objectJsonType.merge(mergeWith, null)
+
+        then:
+        objectJsonType.getFieldsCount() == 3
+        objectJsonType.getField("second").toStringJson() == '"2"'
+        objectJsonType.getField("third").toStringJson() == '"3"'
+    }
+
+    private static String writeJson(AbstractJsonType jsonType) {
+        StringWriter writer = new StringWriter()
+        JsonStreamWriter jsonWriter = new JsonStreamWriter(writer, COMPACT_INDENT_WIDTH)
+        jsonType.writeJson(jsonWriter)
+        jsonWriter.flush()
+        writer.toString()
+    }
+}
@@ -0,0 +1,114 @@
+package pl.jalokim.propertiestojson.object
+
+import pl.jalokim.propertiestojson.util.PropertiesToJsonConverter
+import pl.jalokim.propertiestojson.util.PropertiesToJsonConverterBuilder
+import spock.lang.Specification
+
+class PrimitiveJsonTypesInternerTest extends Specification {
+
+    def "booleans are always shared"() {
+        given:
+        PrimitiveJsonTypesInterner interner = new PrimitiveJsonTypesInterner(PrimitiveJsonTypesInterner.DISABLED)
+
+        expect:
+        interner.intern(new BooleanJsonType(true)).is(BooleanJsonType.TRUE)
+        interner.intern(new BooleanJsonType(false)).is(BooleanJsonType.FALSE)
+        interner.getHitsCount() == 2
+        interner.getMissesCount() == 0
+    }
+
+    def "small integer numbers are shared and other numbers not"() {
+        given:
+        PrimitiveJsonTypesInterner interner = new PrimitiveJsonTypesInterner()
+        NumberJsonType jsonNumber = new NumberJsonType(number)
+
+        when:
+        AbstractJsonType interned = interner.intern(jsonNumber)
+
+        then:
+        interned.is(jsonNumber) == !shared
+        interned.toStringJson() == jsonNumber.toStringJson()
+        interner.intern(new NumberJsonType(number)).is(interned) == shared
+        interner.getHitsCount() == (shared ? 2 : 0)
+
+        where:
+        number                    | shared
+        0                         | true
+        1L                        | true
+        -128                      | true
+        1023                      | true
+        new BigInteger("42")      | true
+        1024                      | false
+        -129                      | false
+        new BigDecimal("1.0")     | false
+        1.5d                      | false
+        new BigInteger("9" * 30)  | false
+    }
+
+    def "texts are shared until limit of cached texts"() {
+        given:
+        PrimitiveJsonTypesInterner interner = new PrimitiveJsonTypesInterner(2)
+        StringJsonType localhost = new StringJsonType("localhost")
+
+        when:
+        interner.intern(localhost)
+        interner.intern(new StringJsonType("http://some.url"))
+        AbstractJsonType notCached = new StringJsonType("third")
+
+        then:
+        interner.intern(new StringJsonType("localhost")).is(localhost)
+        interner.intern(notCached).is(notCached)
+        interner.intern(new StringJsonType("third")) != notCached
+        interner.getTextsCount() == 2
+        interner.getHitsCount() == 1
+        interner.getMissesCount() == 4
+    }
+
+    def "long texts and subclasses are not shared"() {
+        given:
+        PrimitiveJsonTypesInterner interner = new PrimitiveJsonTypesInterner()
+        StringJsonType longText = new StringJsonType("a" * (PrimitiveJsonTypesInterner.MAX_CACHED_TEXT_LENGTH + 1))
+        StringJsonType subclassText = new StringJsonType("text") {}
+
+        expect:
+        interner.intern(longText).is(longText)
+        interner.intern(new StringJsonType(longText.value)) != longText
+        interner.intern(subclassText).is(subclassText)
+        interner.getTextsCount() == 0
+    }
+
+    def "clear removes texts and counters"() {
+        given:
+        PrimitiveJsonTypesInterner interner = new PrimitiveJsonTypesInterner()
+        interner.intern(new StringJsonType("text"))
+        interner.intern(new StringJsonType("text"))
+
+        when:
+        interner.clear()
+
+        then:
+        interner.getTextsCount() == 0
+        interner.getHitsCount() == 0
+        interner.getMissesCount() == 0
+    }
+
+    def "converter shares repeated leaf values and gives the same json"() {
+        given:
+        PropertiesToJsonConverter converter = PropertiesToJsonConverterBuilder.builder().build()
+        Map<String, String> properties = [:]
+        for(int index = 0; index < 100; index++) {
+            properties.put("servers[${index}].host".toString(), "localhost")
+            properties.put("servers[${index}].port".toString(), "1")
+            properties.put("servers[${index}].enabled".toString(), "true")
+        }
+
+        when:
+        String json = converter.convertToJson(properties)
+
+        then:
+        json.count("\"localhost\"") == 100
+        json.count("\"enabled\": true") == 100
+        converter.getPrimitiveJsonTypesInterner().getHitsCount() >= 299
+        converter.getPrimitiveJsonTypesInterner().getTextsCount() == 1
+    }
+}
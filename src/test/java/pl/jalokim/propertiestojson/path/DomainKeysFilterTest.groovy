@@ -0,0 +1,66 @@
+package pl.jalokim.propertiestojson.path
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class DomainKeysFilterTest extends Specification {
+
+    @Unroll
+    def "property key #propertyKey matches domain keys #domainKeys: #expectedResult"() {
+        when:
+        def filter = new DomainKeysFilter(domainKeys as String[])
+
+        then:
+        filter.matches(propertyKey) == expectedResult
+        matchesLikeSubstringCheck(propertyKey, domainKeys) == expectedResult
+
+        where:
+        propertyKey            | domainKeys                           | expectedResult
+        "object1"              | ["object1"]                          | true
+        "object1.field1"       | ["object1"]                          | true
+        "object1[0]"           | ["object1"]                          | true
+        "object1[0].field"     | ["object1"]                          | true
+        "object10.field"       | ["object1"]                          | false
+        "object"               | ["object1"]                          | false
+        "object1field"         | ["object1"]                          | false
+        "object1.field1"       | ["object1.field1"]                   | true
+        "object1.field10"      | ["object1.field1"]                   | false
+        "object1.field1.next"  | ["object1.field1"]                   | true
+        "array[0][1]"          | ["array[0]"]                         | true
+        "array[1]"             | ["array[0]"]                         | false
+        "tenant2.name"         | ["tenant1", "tenant2", "tenant3"]    | true
+        "tenant4.name"         | ["tenant1", "tenant2", "tenant3"]    | false
+        "a.b.c"                | ["a.b.c.d", "a"]                     | true
+        "a.b.c"                | ["a.b.c.d", "a.b.cd"]                | false
+        "someObject2.field2"   | []                                   | false
+        ".field"               | [""]                                 | true
+        ""                     | [""]                                 | true
+        "field"                | [""]                                 | false
+    }
+
+    def "filters properties by many domain keys"() {
+        given:
+        def domainKeys = (0..<2000).collect { "tenant" + it } as String[]
+        def filter = new DomainKeysFilter(domainKeys)
+        Map<String, Object> properties = [:]
+        (0..<3000).each {
+            properties.put("tenant" + it + ".name", "name" + it)
+            properties.put("tenant" + it + "x.name", "other" + it)
+        }
+
+        when:
+        Map<String, Object> filteredProperties = filter.filter(properties)
+
+        then:
+        filteredProperties.size() == 2000
+        filteredProperties.every { key, value -> matchesLikeSubstringCheck(key, domainKeys as List) }
+        filteredProperties.get("tenant1999.name") == "name1999"
+        !filteredProperties.containsKey("tenant2000.name")
+    }
+
+    private static boolean matchesLikeSubstringCheck(String key, List<String> domainKeys) {
+        domainKeys.any { requiredKey ->
+            key == requiredKey || (key.startsWith(requiredKey) && ["[", "."].contains(key.substring(requiredKey.length(), requiredKey.length() + 1)))
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package pl.jalokim.propertiestojson.path
+
+import spock.lang.Specification
+
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+
+class KeySegmentTrieTest extends Specification {
+
+    def "parse every field of shared prefixes only once"() {
+        given:
+        KeySegmentTrie trie = new KeySegmentTrie()
+        when:
+        KeySegment[] firstSegments = trie.getSegments("app.datasource.primary.pool.size")
+        KeySegment[] secondSegments = trie.getSegments(new String("app.datasource.primary.pool.timeout"))
+        then:
+        trie.getMissesCount() == 6
+        trie.getHitsCount() == 4
+        trie.getSegmentsCount() == 6
+        (0..3).every { firstSegments[it].is(secondSegments[it]) }
+        secondSegments[4].getFieldName() == "timeout"
+    }
+
+    def "return the same field name instance for the same field under different parents"() {
+        given:
+        KeySegmentTrie trie = new KeySegmentTrie()
+        when:
+        KeySegment[] firstSegments = trie.getSegments("first.name")
+        KeySegment[] secondSegments = trie.getSegments(new String("second.name"))
+        then:
+        !firstSegments[1].is(secondSegments[1])
+        firstSegments[1].getFieldName().is(secondSegments[1].getFieldName())
+    }
+
+    def "parse array field once and keep its indexes"() {
+        given:
+        KeySegmentTrie trie = new KeySegmentTrie()
+        when:
+        trie.getSegments("object.array [1][ 2 ].field")
+        KeySegment[] segments = trie.getSegments("object.array [1][ 2 ].other")
+        then:
+        segments[1].isArrayField()
+        segments[1].getFieldName() == "array"
+        segments[1].getOriginalFieldName() == "array [1][ 2 ]"
+        segments[1].getPropertyArrayHelper().getDimensionalIndexArray() == [1, 2] as int[]
+        !segments[2].isArrayField()
+        trie.getHitsCount() == 2
+    }
+
+    def "do not cache more segments than limit"() {
+        given:
+        KeySegmentTrie trie = new KeySegmentTrie(2)
+        when:
+        trie.getSegments("first.second.third")
+        KeySegment[] segments = trie.getSegments("first.second.third")
+        then:
+        trie.getSegmentsCount() == 2
+        trie.getHitsCount() == 2
+        trie.getMissesCount() == 4
+        segments[2].getFieldName() == "third"
+    }
+
+    def "disabled trie does not cache anything"() {
+        given:
+        KeySegmentTrie trie = new KeySegmentTrie(KeySegmentTrie.DISABLED)
+        when:
+        trie.getSegments("first.second")
+        trie.getSegments("first.second")
+        then:
+        trie.getSegmentsCount() == 0
+        trie.getHitsCount() == 0
+        trie.getMissesCount() == 4
+    }
+
+    def "path metadata from trie is the same like from property key"() {
+        given:
+        String propertyKey = "field.nextfield.array[12][12].fieldLeaf"
+        KeySegmentTrie trie = new KeySegmentTrie()
+        trie.getSegments(propertyKey)
+        when:
+        PathMetadata fromTrie = PathMetadataBuilder.createRootPathMetaData(propertyKey, trie)
+        PathMetadata expected = PathMetadataBuilder.createRootPathMetaData(propertyKey)
+        then:
+        while(expected != null) {
+            assert fromTrie.getFieldName() == expected.getFieldName()
+            assert fromTrie.getOriginalFieldName() == expected.getOriginalFieldName()
+            assert fromTrie.getCurrentFullPath() == expected.getCurrentFullPath()
+            assert fromTrie.isArrayField() == expected.isArrayField()
+            assert fromTrie.isLeaf() == expected.isLeaf()
+            expected = expected.getChild()
+            fromTrie = fromTrie.getChild()
+        }
+        fromTrie == null
+    }
+
+    def "find cached segments among many children of the same parent"() {
+        given:
+        KeySegmentTrie trie = new KeySegmentTrie()
+        (0..<1000).each { trie.getSegments("parent.child" + it + ".leaf") }
+        long missesBefore = trie.getMissesCount()
+        when:
+        List<KeySegment[]> segments = (0..<1000).collect { trie.getSegments(("parent.child" + it + ".leaf").toString()) }
+        then:
+        trie.getMissesCount() == missesBefore
+        trie.getSegmentsCount() == 2001
+        (0..<1000).every { segments[it][1].getOriginalFieldName() == ("child" + it).toString() }
+    }
+
+    def "segments of keys with empty fields are the same like fields of property key"() {
+        given:
+        KeySegmentTrie trie = new KeySegmentTrie()
+        when:
+        KeySegment[] segments = trie.getSegments(propertyKey)
+        then:
+        segments*.getOriginalFieldName() == PropertyKeyLexer.splitToFields(propertyKey) as List
+        where:
+        propertyKey << ["", ".", "..", "a..b", ".a", "a.b..", "a"]
+    }
+
+    def "do not cache more segments than limit when many threads add segments"() {
+        given:
+        int maxSegments = 100
+        KeySegmentTrie trie = new KeySegmentTrie(maxSegments)
+        ExecutorService executor = Executors.newFixedThreadPool(8)
+        when:
+        List<Callable<Object>> tasks = (0..<8).collect { thread ->
+            { -> (0..<1000).each { trie.getSegments("root.field" + (it % 300) + ".leaf" + thread) } } as Callable<Object>
+        }
+        executor.invokeAll(tasks)*.get()
+        then:
+        trie.getSegmentsCount() == maxSegments
+        cleanup:
+        executor.shutdown()
+    }
+}
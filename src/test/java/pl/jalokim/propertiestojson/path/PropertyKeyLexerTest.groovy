@@ -0,0 +1,62 @@
+package pl.jalokim.propertiestojson.path
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import static pl.jalokim.propertiestojson.path.PropertyKeyLexer.NOT_ARRAY_FIELD
+
+class PropertyKeyLexerTest extends Specification {
+
+    @Unroll
+    def "split property key '#propertyKey' to fields like String.split does"() {
+        when:
+        String[] fields = PropertyKeyLexer.splitToFields(propertyKey)
+        then:
+        fields == propertyKey.split("\\.")
+        where:
+        propertyKey << ["field", "field.next.last", "field..next", ".field", "field.next..", "", "...", "array[1].field [2][ 3 ]"]
+    }
+
+    @Unroll
+    def "field '#field' has array part like old indexes pattern"() {
+        given:
+        String indexesPattern = "\\s*(\\[\\s*((([1-9]\\d*)|0)|\\*)\\s*]\\s*)+"
+        boolean expectedArrayField = field.matches("(.)*" + indexesPattern)
+        when:
+        int indexesStart = PropertyKeyLexer.findIndexesStart(field)
+        then:
+        (indexesStart != NOT_ARRAY_FIELD) == expectedArrayField
+        !expectedArrayField || field.substring(0, indexesStart) == field.replaceFirst(indexesPattern + "\$", "")
+        where:
+        field << ["array[0]", "array [12] [ 13]", "array[12] ", "[1]", "array[01]", "array[]", "array[1 2]", "array[1]x",
+                  "array[x][2]", "arr]1[2]", "array[ * ]", "array\n[1]", "arr\nay[1]", "arr ay[1]", "array", "", "1[1]"]
+    }
+
+    @Unroll
+    def "read indexes #expectedIndexes from field '#field'"() {
+        when:
+        int[] indexes = PropertyKeyLexer.readIndexes(field, PropertyKeyLexer.findIndexesStart(field))
+        then:
+        indexes == expectedIndexes as int[]
+        where:
+        field                   | expectedIndexes
+        "array[0]"              | [0]
+        "array [12] [ 13]"      | [12, 13]
+        "arr [ 1 ]\t[2]\n[3]  " | [1, 2, 3]
+        "1[1]"                  | [1]
+        "array[2147483647]"     | [Integer.MAX_VALUE]
+    }
+
+    @Unroll
+    def "cannot read index from field '#field'"() {
+        when:
+        PropertyKeyLexer.readIndexes(field, PropertyKeyLexer.findIndexesStart(field))
+        then:
+        NumberFormatException ex = thrown()
+        ex.message == "For input string: \"" + invalidIndex + "\""
+        where:
+        field                  | invalidIndex
+        "array[*]"             | "*"
+        "array[1][2147483648]" | "2147483648"
+    }
+}
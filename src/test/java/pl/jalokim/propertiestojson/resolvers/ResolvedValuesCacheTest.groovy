@@ -0,0 +1,223 @@
+package pl.jalokim.propertiestojson.resolvers
+
+import groovy.json.JsonSlurper
+import pl.jalokim.propertiestojson.object.JsonNullReferenceType
+import pl.jalokim.propertiestojson.object.ObjectJsonType
+import pl.jalokim.propertiestojson.resolvers.primitives.string.TextToConcreteObjectResolver
+import pl.jalokim.propertiestojson.util.PropertiesToJsonConverter
+import pl.jalokim.propertiestojson.util.PropertiesToJsonConverterBuilder
+import spock.lang.Specification
+
+class ResolvedValuesCacheTest extends Specification {
+
+    def "disabled cache does not store values"() {
+        given:
+        ResolvedValuesCache cache = new ResolvedValuesCache(ResolvedValuesCache.DISABLED)
+
+        when:
+        Object stored = cache.put("1", 1)
+
+        then:
+        !cache.isEnabled()
+        stored == 1
+        cache.get("1") == null
+        cache.getSize() == 0
+        cache.getMissesCount() == 0
+    }
+
+    def "least recently used value is removed from full cache"() {
+        given:
+        ResolvedValuesCache cache = new ResolvedValuesCache(2)
+        cache.put("first", "first")
+        cache.put("second", "second")
+        cache.get("first")
+
+        when:
+        cache.put("third", "third")
+
+        then:
+        cache.get("first") == "first"
+        cache.get("third") == "third"
+        cache.get("second") == null
+        cache.getSize() == 2
+        cache.getEvictionsCount() == 1
+        cache.getHitsCount() == 3
+        cache.getMissesCount() == 1
+    }
+
+    def "only immutable values are cached"() {
+        given:
+        ResolvedValuesCache cache = new ResolvedValuesCache(100)
+
+        when:
+        Object stored = cache.put("raw", value)
+
+        then:
+        (cache.get("raw") != null) == cached
+        stored == value
+
+        where:
+        value                             | cached
+        "text"                            | true
+        12                                | true
+        new BigDecimal("1.5")             | true
+        true                              | true
+        ('c' as char)                     | true
+        JsonNullReferenceType.NULL_OBJECT | true
+        [1, "text", false]                | true
+        new ObjectJsonType()              | false
+        [new ObjectJsonType()]            | false
+        [[1]]                             | false
+    }
+
+    def "cached list cannot be modified"() {
+        given:
+        ResolvedValuesCache cache = new ResolvedValuesCache(100)
+        cache.put("1,2", [1, 2])
+
+        when:
+        ((List) cache.get("1,2")).add(3)
+
+        then:
+        thrown(UnsupportedOperationException)
+    }
+
+    def "too long texts are not cached"() {
+        given:
+        ResolvedValuesCache cache = new ResolvedValuesCache(100)
+        String longText = "a" * (ResolvedValuesCache.MAX_CACHED_TEXT_LENGTH + 1)
+
+        when:
+        cache.put(longText, longText)
+
+        then:
+        cache.get(longText) == null
+        cache.getSize() == 0
+    }
+
+    def "max size cannot be negative"() {
+        when:
+        new ResolvedValuesCache(-1)
+
+        then:
+        IllegalArgumentException ex = thrown()
+        ex.message == "Max count of cached resolved values cannot be negative, given: -1"
+    }
+
+    def "converter resolves repeated raw texts once and gives the same json"() {
+        given:
+        PropertiesToJsonConverter converter = PropertiesToJsonConverterBuilder.builder()
+                                                                              .resolvedValuesCacheSize(100)
+                                                                              .build()
+        Map<String, String> properties = [:]
+        for(int index = 0; index < 10; index++) {
+            properties.put("servers[${index}].port".toString(), "8080")
+            properties.put("servers[${index}].tags".toString(), "a, b, 1")
+            properties.put("servers[${index}].json".toString(), "{\"name\": \"server\"}")
+        }
+        String expectedJson = PropertiesToJsonConverterBuilder.builder().build().convertToJson(properties)
+
+        when:
+        String json = converter.convertToJson(properties)
+
+        then:
+        json == expectedJson
+        def jsonObject = new JsonSlurper().parseText(json)
+        jsonObject.servers[9].port == 8080
+        jsonObject.servers[9].tags == ["a", "b", 1]
+        jsonObject.servers[9].json.name == "server"
+        converter.getResolvedValuesCache().getHitsCount() == 18
+        converter.getResolvedValuesCache().getSize() == 5
+    }
+
+    def "values resolved by key sensitive resolver are not cached"() {
+        given:
+        TextToConcreteObjectResolver<String> keySensitiveResolver = new KeySensitiveResolver()
+        PropertiesToJsonConverter converter = PropertiesToJsonConverterBuilder.builder()
+                                                                              .defaultAndCustomTextToObjectResolvers(keySensitiveResolver)
+                                                                              .resolvedValuesCacheSize(100)
+                                                                              .build()
+        Map<String, String> properties = ["first.special": "value", "second.normal": "value"]
+
+        when:
+        def jsonObject = new JsonSlurper().parseText(converter.convertToJson(properties))
+
+        then:
+        jsonObject.first.special == "special value"
+        jsonObject.second.normal == "value"
+        converter.getResolvedValuesCache().getSize() == 0
+    }
+
+    def "values resolved after custom resolver are not cached when resolver doesn't declare that it ignores property key"() {
+        given:
+        PropertiesToJsonConverter converter = PropertiesToJsonConverterBuilder.builder()
+                                                                              .defaultAndCustomTextToObjectResolvers(new DefaultKeySensitivityResolver())
+                                                                              .resolvedValuesCacheSize(100)
+                                                                              .build()
+        Map<String, String> properties = ["first.special": "value", "second.special": "value", "third.normal": "value"]
+
+        when:
+        def jsonObject = new JsonSlurper().parseText(converter.convertToJson(properties))
+
+        then:
+        jsonObject.first.special == "special value"
+        jsonObject.second.special == "special value"
+        jsonObject.third.normal == "value"
+        converter.getResolvedValuesCache().getSize() == 0
+    }
+
+    def "values resolved after custom resolver are cached when resolver ignores property key"() {
+        given:
+        PropertiesToJsonConverter converter = PropertiesToJsonConverterBuilder.builder()
+                                                                              .defaultAndCustomTextToObjectResolvers(new KeyInsensitiveResolver())
+                                                                              .resolvedValuesCacheSize(100)
+                                                                              .build()
+        Map<String, String> properties = ["first": "value", "second": "value"]
+
+        when:
+        def jsonObject = new JsonSlurper().parseText(converter.convertToJson(properties))
+
+        then:
+        jsonObject.first == "value"
+        jsonObject.second == "value"
+        converter.getResolvedValuesCache().getSize() == 1
+        converter.getResolvedValuesCache().getHitsCount() == 1
+    }
+
+    private static class DefaultKeySensitivityResolver implements TextToConcreteObjectResolver<String> {
+
+        @Override
+        Optional<String> returnObjectWhenCanBeResolved(PrimitiveJsonTypesResolver primitiveJsonTypesResolver,
+                                                       String propertyValue, String propertyKey) {
+            propertyKey.endsWith("special") ? Optional.of("special " + propertyValue) : Optional.empty()
+        }
+    }
+
+    private static class KeyInsensitiveResolver implements TextToConcreteObjectResolver<String> {
+
+        @Override
+        boolean isPropertyKeySensitive() {
+            false
+        }
+
+        @Override
+        Optional<String> returnObjectWhenCanBeResolved(PrimitiveJsonTypesResolver primitiveJsonTypesResolver,
+                                                       String propertyValue, String propertyKey) {
+            propertyValue == "special" ? Optional.of("special value") : Optional.empty()
+        }
+    }
+
+    private static class KeySensitiveResolver implements TextToConcreteObjectResolver<String> {
+
+        @Override
+        boolean isPropertyKeySensitive() {
+            true
+        }
+
+        @Override
+        Optional<String> returnObjectWhenCanBeResolved(PrimitiveJsonTypesResolver primitiveJsonTypesResolver,
+                                                       String propertyValue, String propertyKey) {
+            propertyKey.endsWith("special") ? Optional.of("special " + propertyValue) : Optional.empty()
+        }
+    }
+}
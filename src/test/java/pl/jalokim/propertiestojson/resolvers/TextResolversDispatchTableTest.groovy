@@ -0,0 +1,142 @@
+package pl.jalokim.propertiestojson.resolvers
+
+import pl.jalokim.propertiestojson.resolvers.primitives.custom.TextToLocalDateResolver
+import pl.jalokim.propertiestojson.resolvers.primitives.object.NullToJsonTypeConverter
+import pl.jalokim.propertiestojson.resolvers.primitives.string.TextResolverHint
+import pl.jalokim.propertiestojson.resolvers.primitives.string.TextToBooleanResolver
+import pl.jalokim.propertiestojson.resolvers.primitives.string.TextToCharacterResolver
+import pl.jalokim.propertiestojson.resolvers.primitives.string.TextToConcreteObjectResolver
+import pl.jalokim.propertiestojson.resolvers.primitives.string.TextToElementsResolver
+import pl.jalokim.propertiestojson.resolvers.primitives.string.TextToEmptyStringResolver
+import pl.jalokim.propertiestojson.resolvers.primitives.string.TextToJsonNullReferenceResolver
+import pl.jalokim.propertiestojson.resolvers.primitives.string.TextToNumberResolver
+import pl.jalokim.propertiestojson.resolvers.primitives.string.TextToObjectResolver
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import static pl.jalokim.propertiestojson.resolvers.primitives.string.TextToStringResolver.TO_STRING_RESOLVER
+
+class TextResolversDispatchTableTest extends Specification {
+
+    private static final List<TextToConcreteObjectResolver> RESOLVERS = [
+            new TextToJsonNullReferenceResolver(),
+            new TextToEmptyStringResolver(),
+            new TextToElementsResolver(),
+            new TextToObjectResolver(),
+            new TextToNumberResolver(),
+            new TextToCharacterResolver(),
+            new TextToBooleanResolver(),
+            TO_STRING_RESOLVER
+    ]
+
+    @Unroll
+    def "resolver #expectedResolver.class.simpleName is the first resolver which is not skipped for '#text' and which resolves it"() {
+        given:
+        TextResolversDispatchTable dispatchTable = new TextResolversDispatchTable(RESOLVERS)
+        PrimitiveJsonTypesResolver primitiveResolvers = new PrimitiveJsonTypesResolver(RESOLVERS, [], false,
+                                                                                       new NullToJsonTypeConverter())
+
+        when:
+        TextToConcreteObjectResolver firstResolver = dispatchTable.getResolversIndexes(text.trim())
+                .findAll { dispatchTable.canResolve(it, text.trim()) }
+                .collect { RESOLVERS[it] }
+                .find { it.returnConvertedValueForClearedText(primitiveResolvers, text, "key").isPresent() }
+
+        then:
+        firstResolver.is(expectedResolver)
+        primitiveResolvers.getResolvedObject(text, "key").toString() == resolveByAllResolvers(primitiveResolvers, text).toString()
+
+        where:
+        text                | expectedResolver
+        "null"              | RESOLVERS[0]
+        "nul"               | TO_STRING_RESOLVER
+        ""                  | RESOLVERS[1]
+        "   "               | RESOLVERS[1]
+        "1,2,true"          | RESOLVERS[2]
+        "[1, 2]"            | RESOLVERS[3]
+        "{\"a\":1}"         | RESOLVERS[3]
+        " [{\"a\":1}] "     | RESOLVERS[3]
+        "12"                | RESOLVERS[4]
+        "-1.5E+10"          | RESOLVERS[4]
+        "7"                 | RESOLVERS[4]
+        "x"                 | RESOLVERS[5]
+        "["                 | RESOLVERS[5]
+        "True"              | RESOLVERS[6]
+        " false "           | RESOLVERS[6]
+        "falsy"             | TO_STRING_RESOLVER
+        "ąę"                | TO_STRING_RESOLVER
+        "ą"                 | RESOLVERS[5]
+        "some text"         | TO_STRING_RESOLVER
+    }
+
+    def "resolvers are skipped by first sign of trimmed text"() {
+        when:
+        TextResolversDispatchTable dispatchTable = new TextResolversDispatchTable(RESOLVERS)
+
+        then:
+        dispatchTable.getResolversIndexes("5") as List == [2, 4, 5, 7]
+        dispatchTable.getResolversIndexes("t") as List == [2, 5, 6, 7]
+        dispatchTable.getResolversIndexes("n") as List == [0, 2, 5, 7]
+        dispatchTable.getResolversIndexes("") as List == [1, 7]
+        dispatchTable.getResolversIndexes("ą") as List == [0, 1, 2, 3, 4, 5, 6, 7]
+    }
+
+    def "subclass of built-in resolver is never skipped"() {
+        given:
+        TextToJsonNullReferenceResolver ownNullResolver = new TextToJsonNullReferenceResolver() {
+            @Override
+            Optional<Object> returnObjectWhenCanBeResolved(PrimitiveJsonTypesResolver primitiveJsonTypesResolver,
+                                                           String propertyValue, String propertyKey) {
+                propertyValue == "undefined" ? Optional.of(propertyValue) : Optional.empty()
+            }
+        }
+        TextResolversDispatchTable dispatchTable = new TextResolversDispatchTable([ownNullResolver, TO_STRING_RESOLVER])
+
+        expect:
+        ownNullResolver.getApplicabilityHint().isAnyText()
+        dispatchTable.getResolversIndexes("undefined") as List == [0, 1]
+        dispatchTable.canResolve(0, "undefined")
+    }
+
+    def "only instances of exactly built-in resolver classes are not sensitive to property key"() {
+        given:
+        TextToNumberResolver ownNumberResolver = new TextToNumberResolver() {}
+        TextToLocalDateResolver ownDateResolver = new TextToLocalDateResolver() {}
+
+        expect:
+        RESOLVERS.every { !it.isPropertyKeySensitive() }
+        !new TextToLocalDateResolver().isPropertyKeySensitive()
+        ownNumberResolver.isPropertyKeySensitive()
+        ownNumberResolver.getApplicabilityHint().isAnyText()
+        ownDateResolver.isPropertyKeySensitive()
+    }
+
+    def "alternative hints are met when one of them is met"() {
+        given:
+        TextResolverHint hint = TextResolverHint.startsWithAnyOf("[")
+                                                .withLengthBetween(2, Integer.MAX_VALUE)
+                                                .or(TextResolverHint.containing(";"))
+
+        expect:
+        hint.canMatch("[]")
+        hint.canMatch("a;b")
+        !hint.canMatch("[")
+        !hint.canMatch("ab")
+        hint.canStartWith('a' as char)
+        !hint.canBeEmpty()
+        TextResolverHint.lengthBetween(1, 2).or(TextResolverHint.ANY_TEXT).isAnyText()
+    }
+
+    def "cannot create hint with invalid length range"() {
+        when:
+        TextResolverHint.lengthBetween(3, 2)
+
+        then:
+        IllegalArgumentException ex = thrown()
+        ex.message == "Invalid range of text length, given: 3..2"
+    }
+
+    private static Object resolveByAllResolvers(PrimitiveJsonTypesResolver primitiveResolvers, String text) {
+        RESOLVERS.findResult { it.returnConvertedValueForClearedText(primitiveResolvers, text, "key").orElse(null) }
+    }
+}
@@ -0,0 +1,122 @@
+package pl.jalokim.propertiestojson.resolvers.hierarchy;
+
+import org.junit.Test;
+import pl.jalokim.propertiestojson.object.AbstractJsonType;
+import pl.jalokim.propertiestojson.object.StringJsonType;
+import pl.jalokim.propertiestojson.resolvers.PrimitiveJsonTypesResolver;
+import pl.jalokim.propertiestojson.resolvers.primitives.object.AbstractObjectToJsonTypeConverter;
+import pl.jalokim.propertiestojson.resolvers.primitives.object.ObjectToJsonTypeConverter;
+import pl.jalokim.propertiestojson.util.exception.ParsePropertiesException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class JsonTypeResolversHierarchyResolverTest {
+
+    private final List<ObjectToJsonTypeConverter> converters = new ArrayList<>(asList(new WithNameConverter(),
+                                                                                      new WithAgeConverter(),
+                                                                                      new AnimalConverter()));
+    private final JsonTypeResolversHierarchyResolver hierarchyResolver = new JsonTypeResolversHierarchyResolver(converters);
+
+    @Test
+    public void returnsTheSameConverterForManyInstancesOfSubClass() {
+        // when
+        AbstractJsonType firstJson = hierarchyResolver.returnConcreteJsonTypeObject(null, new Dog("Rex"), "key");
+        AbstractJsonType secondJson = hierarchyResolver.returnConcreteJsonTypeObject(null, new Dog("Max"), "key");
+        // then
+        assertThat(firstJson.toStringJson()).isEqualTo("\"animal Rex\"");
+        assertThat(secondJson.toStringJson()).isEqualTo("\"animal Max\"");
+    }
+
+    @Test
+    public void throwsTheSameErrorEveryTimeForManyInterfacesAtTheSameLevel() {
+        // when
+        Throwable firstError = catchThrowable(() -> hierarchyResolver.returnConcreteJsonTypeObject(null, new Person(), "key"));
+        Throwable secondError = catchThrowable(() -> hierarchyResolver.returnConcreteJsonTypeObject(null, new Person(), "key"));
+        // then
+        assertThat(firstError).isInstanceOf(ParsePropertiesException.class);
+        assertThat(secondError).isInstanceOf(ParsePropertiesException.class)
+                               .hasMessage(firstError.getMessage())
+                               .isNotSameAs(firstError);
+        assertThat(firstError.getMessage()).startsWith("Found 2 resolvers for instance type: " + Person.class.getCanonicalName());
+    }
+
+    @Test
+    public void throwsTheSameErrorEveryTimeWhenNotFoundConverter() {
+        // when
+        Throwable firstError = catchThrowable(() -> hierarchyResolver.returnConcreteJsonTypeObject(null, 12, "key"));
+        Throwable secondError = catchThrowable(() -> hierarchyResolver.returnConcreteJsonTypeObject(null, 13, "key"));
+        // then
+        assertThat(firstError).isInstanceOf(ParsePropertiesException.class)
+                              .hasMessageStartingWith("Cannot find valid JSON type resolver for class: 'class java.lang.Integer'");
+        assertThat(secondError).hasMessage(firstError.getMessage());
+    }
+
+    private interface WithName {
+        String getName();
+    }
+
+    private interface WithAge {
+    }
+
+    private static class Animal implements WithName {
+
+        private final String name;
+
+        Animal(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+    }
+
+    private static class Dog extends Animal {
+
+        Dog(String name) {
+            super(name);
+        }
+    }
+
+    private static class Person implements WithName, WithAge {
+
+        @Override
+        public String getName() {
+            return "person";
+        }
+    }
+
+    private static class WithNameConverter extends AbstractObjectToJsonTypeConverter<WithName> {
+
+        @Override
+        public Optional<AbstractJsonType> convertToJsonTypeOrEmpty(PrimitiveJsonTypesResolver primitiveJsonTypesResolver,
+                                                                   WithName convertedValue, String propertyKey) {
+            return Optional.of(new StringJsonType("with name " + convertedValue.getName()));
+        }
+    }
+
+    private static class WithAgeConverter extends AbstractObjectToJsonTypeConverter<WithAge> {
+
+        @Override
+        public Optional<AbstractJsonType> convertToJsonTypeOrEmpty(PrimitiveJsonTypesResolver primitiveJsonTypesResolver,
+                                                                   WithAge convertedValue, String propertyKey) {
+            return Optional.of(new StringJsonType("with age"));
+        }
+    }
+
+    private static class AnimalConverter extends AbstractObjectToJsonTypeConverter<Animal> {
+
+        @Override
+        public Optional<AbstractJsonType> convertToJsonTypeOrEmpty(PrimitiveJsonTypesResolver primitiveJsonTypesResolver,
+                                                                   Animal convertedValue, String propertyKey) {
+            return Optional.of(new StringJsonType("animal " + convertedValue.getName()));
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package pl.jalokim.propertiestojson.resolvers.primitives.adapter
+
+import pl.jalokim.propertiestojson.object.AbstractJsonType
+import pl.jalokim.propertiestojson.object.StringJsonType
+import pl.jalokim.propertiestojson.resolvers.PrimitiveJsonTypesResolver
+import pl.jalokim.propertiestojson.resolvers.primitives.PrimitiveJsonTypeResolver
+import spock.lang.Specification
+
+class PrimitiveJsonTypeResolverToNewApiAdapterTest extends Specification {
+
+    def "adapter resolves value by protected method of old implementation"() {
+        given:
+        PrimitiveJsonTypeResolverToNewApiAdapter adapter = new PrimitiveJsonTypeResolverToNewApiAdapter(new OldUpperCaseResolver())
+
+        expect:
+        adapter.returnObjectWhenCanBeResolved(null, "upper:text", "key") == Optional.of("TEXT")
+        adapter.returnObjectWhenCanBeResolved(null, "text", "key") == Optional.empty()
+        adapter.returnConvertedValueForClearedText(null, " upper:other ", "key") == Optional.of("OTHER")
+        adapter.getClassesWhichCanResolve() == [String]
+    }
+
+    def "exception from old implementation is not wrapped"() {
+        given:
+        PrimitiveJsonTypeResolverToNewApiAdapter adapter = new PrimitiveJsonTypeResolverToNewApiAdapter(new OldUpperCaseResolver())
+
+        when:
+        adapter.returnObjectWhenCanBeResolved(null, "fail", "key")
+
+        then:
+        IllegalArgumentException ex = thrown()
+        ex.message == "cannot resolve: fail"
+    }
+
+    private static class OldUpperCaseResolver extends PrimitiveJsonTypeResolver<String> {
+
+        @Override
+        AbstractJsonType returnConcreteJsonType(PrimitiveJsonTypesResolver primitiveJsonTypesResolver, String convertedValue, String propertyKey) {
+            new StringJsonType(convertedValue)
+        }
+
+        @Override
+        protected Optional<String> returnConcreteValueWhenCanBeResolved(PrimitiveJsonTypesResolver primitiveJsonTypesResolver,
+                                                                        String propertyValue, String propertyKey) {
+            if (propertyValue == "fail") {
+                throw new IllegalArgumentException("cannot resolve: " + propertyValue)
+            }
+            propertyValue.startsWith("upper:") ? Optional.of(propertyValue.substring(6).toUpperCase()) : Optional.empty()
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package pl.jalokim.propertiestojson.resolvers.primitives.string
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class TextToNumberResolverTest extends Specification {
+
+    @Unroll
+    def "text '#text' is converted to #expectedType"() {
+        when:
+        Number number = TextToNumberResolver.convertToNumber(text)
+
+        then:
+        number.getClass() == expectedType
+        number.toString() == text
+
+        where:
+        text                                     | expectedType
+        "0"                                      | Long
+        "123"                                    | Long
+        "-42"                                    | Long
+        "999999999999999999"                     | Long
+        "-999999999999999999"                    | Long
+        "9223372036854775807"                    | BigInteger
+        "123456789012345678901234567890"         | BigInteger
+        "1.5"                                    | Double
+        "-0.25"                                  | Double
+        "123456.789"                             | Double
+        "0.001"                                  | Double
+        "1.50"                                   | BigDecimal
+        "0.0001"                                 | BigDecimal
+        "1E+5"                                   | BigDecimal
+        "-1.25E-10"                              | BigDecimal
+        "3.14159265358979323846264338327950288"  | BigDecimal
+    }
+
+    @Unroll
+    def "text '#text' is not a number"() {
+        expect:
+        TextToNumberResolver.convertToNumber(text) == null
+
+        where:
+        text << [null, "", "-", "text", "01", "-0", "+1", ".5", "5.", "1e5", "1E5", "1E", "1E+", "1.5.2", "1,5", " 1", "1 ",
+                 "0x10", "NaN", "Infinity", "1E+2147483648", "--1", "1-", "0.0000001", "١٢"]
+    }
+
+    def "numbers are resolved from the same texts like before"() {
+        given:
+        List<String> texts = ["0", "00", "-0", "0.0", "-0.0", "0.00", "10", "100.000", "1E+0", "1E-0", "1.0E+10", "10E+3",
+                              "0E+3", "0.000001", "0.0000010", "1E-7", "12345678901234567.5", "1.7976931348623157E+308",
+                              "4.9E-324", "100", "1.0", "-1.0", "99.99", "0.1", "0.3", "1234567.0", "12345678.0",
+                              "1234567890123456789", "-9223372036854775808", "9223372036854775808"]
+
+        expect:
+        texts.each { String text ->
+            Number expected = convertLikeBefore(text)
+            Number actual = TextToNumberResolver.convertToNumber(text)
+            assert (actual == null) == (expected == null)
+            assert actual == null || actual.toString() == expected.toString()
+        }
+    }
+
+    private static Number convertLikeBefore(String text) {
+        Number number = null
+        try {
+            number = new BigInteger(text)
+        } catch(NumberFormatException ignored) {
+            try {
+                number = new BigDecimal(text)
+            } catch(NumberFormatException ignoredAgain) {
+            }
+        }
+        number != null && number.toString() == text ? number : null
+    }
+}
@@ -0,0 +1,116 @@
+package pl.jalokim.propertiestojson.resolvers.primitives.utils
+
+import com.google.gson.annotations.SerializedName
+import pl.jalokim.propertiestojson.object.AbstractJsonType
+import pl.jalokim.propertiestojson.object.ObjectJsonType
+import pl.jalokim.propertiestojson.object.PrimitiveJsonTypesInterner
+import pl.jalokim.propertiestojson.resolvers.primitives.object.SuperObjectToJsonTypeConverter
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.time.LocalDate
+import java.util.concurrent.atomic.AtomicInteger
+
+import static pl.jalokim.propertiestojson.resolvers.primitives.utils.JsonObjectHelper.convertToAbstractJsonType
+import static pl.jalokim.propertiestojson.resolvers.primitives.utils.JsonObjectHelper.toJson
+import static pl.jalokim.propertiestojson.resolvers.primitives.utils.JsonObjectHelper.toJsonElement
+
+class BeanToJsonTypeWalkerTest extends Specification {
+
+    @Unroll
+    def "#description is converted directly to the same json like through json text"() {
+        when:
+        AbstractJsonType directlyConverted = BeanToJsonTypeWalker.toJsonObjectOrArray(value, new PrimitiveJsonTypesInterner())
+
+        then:
+        directlyConverted != null
+        directlyConverted.toStringJson() == convertToAbstractJsonType(toJsonElement(toJson(value)), null).toStringJson()
+
+        where:
+        description                  | value
+        "bean with all value types"  | createMainBean()
+        "bean without values"        | new MainBean()
+        "list of beans and nulls"    | [createMainBean(), null, "text", 12.5d]
+        "map with not text keys"     | [(1): "one", (2L): null, (Level.LOW): [true, false]]
+        "map with the same key text" | [(1): "int", (1L): "long"]
+        "array of numbers"           | [1, 2.0d, 1.5f, new BigDecimal("1E+3"), new BigInteger("123456789012345678901"), new AtomicInteger(5)] as Object[]
+        "array of primitives"        | [1, 2, 3] as int[]
+        "array of signs"             | ['a', 'b'] as char[]
+        "bean with anonymous value"  | new ChildBean(childText: "child", runnable: new Runnable() { void run() {} })
+    }
+
+    def "bean class with duplicated field names and jdk classes are converted by gson"() {
+        expect:
+        BeanToJsonTypeWalker.toJsonObjectOrArray(new BeanWithDuplicatedName(), new PrimitiveJsonTypesInterner()) == null
+        BeanToJsonTypeWalker.toJsonObjectOrArray(LocalDate.of(2019, 1, 12), new PrimitiveJsonTypesInterner()) == null
+        BeanToJsonTypeWalker.toJsonObjectOrArray("text", new PrimitiveJsonTypesInterner()) == null
+        BeanToJsonTypeWalker.toJsonObjectOrArray(Level.HIGH, new PrimitiveJsonTypesInterner()) == null
+    }
+
+    def "super object converter returns the same json for bean like before"() {
+        given:
+        MainBean bean = createMainBean()
+
+        when:
+        AbstractJsonType json = SuperObjectToJsonTypeConverter.convertFromObjectToJson(bean, "key")
+
+        then:
+        json instanceof ObjectJsonType
+        json.toStringJson() == convertToAbstractJsonType(toJsonElement(toJson(bean)), null).toStringJson()
+        SuperObjectToJsonTypeConverter.convertFromObjectToJson(Level.HIGH, "key").toStringJson() == '"\\"high\\""'
+    }
+
+    private static MainBean createMainBean() {
+        new MainBean(text: "some text", number: 12, longNumber: -5L, decimal: 1.5d, bigDecimal: new BigDecimal("1.50"),
+                     flag: true, sign: 'x' as char, level: Level.HIGH, otherLevel: Level.LOW,
+                     date: LocalDate.of(2019, 1, 12), texts: ["a", null, "b"], numbers: [1, 2] as Integer[],
+                     values: [first: 1, second: null, third: [x: "y"]], child: new ChildBean(childText: "child"),
+                     transientText: "not visible", renamed: "renamed value")
+    }
+
+    enum Level {
+        @SerializedName("high")
+        HIGH,
+        LOW {
+            @Override
+            String toString() {
+                "low level"
+            }
+        }
+    }
+
+    static class ParentBean {
+        String parentText = "parent"
+        Object nullValue
+    }
+
+    static class MainBean extends ParentBean {
+        String text
+        int number
+        Long longNumber
+        double decimal
+        BigDecimal bigDecimal
+        boolean flag
+        char sign
+        Level level
+        Level otherLevel
+        LocalDate date
+        List<String> texts
+        Integer[] numbers
+        Map<String, Object> values
+        ChildBean child
+        transient String transientText
+        static String staticText = "static"
+        @SerializedName("other_name")
+        String renamed
+    }
+
+    static class ChildBean {
+        String childText
+        Object runnable
+    }
+
+    static class BeanWithDuplicatedName extends ParentBean {
+        String parentText = "child"
+    }
+}
@@ -0,0 +1,134 @@
+package pl.jalokim.propertiestojson.resolvers.primitives.utils
+
+import pl.jalokim.propertiestojson.object.AbstractJsonType
+import pl.jalokim.propertiestojson.object.ArrayJsonType
+import pl.jalokim.propertiestojson.object.JsonNullReferenceType
+import pl.jalokim.propertiestojson.object.LongJsonType
+import pl.jalokim.propertiestojson.object.ObjectJsonType
+import pl.jalokim.propertiestojson.object.StringJsonType
+import pl.jalokim.propertiestojson.resolvers.PrimitiveJsonTypesResolver
+import pl.jalokim.propertiestojson.resolvers.primitives.string.TextToElementsResolver
+import pl.jalokim.propertiestojson.resolvers.primitives.string.TextToObjectResolver
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import static pl.jalokim.propertiestojson.resolvers.primitives.utils.JsonObjectHelper.convertToAbstractJsonType
+import static pl.jalokim.propertiestojson.resolvers.primitives.object.NullToJsonTypeConverter.NULL_TO_JSON_RESOLVER
+import static pl.jalokim.propertiestojson.resolvers.primitives.object.StringToJsonTypeConverter.STRING_TO_JSON_RESOLVER
+import static pl.jalokim.propertiestojson.resolvers.primitives.string.TextToStringResolver.TO_STRING_RESOLVER
+import static pl.jalokim.propertiestojson.resolvers.primitives.utils.JsonObjectHelper.isValidJsonObjectOrArray
+import static pl.jalokim.propertiestojson.resolvers.primitives.utils.JsonObjectHelper.isValidJsonObjectOrArrayForNextResolvers
+import static pl.jalokim.propertiestojson.resolvers.primitives.utils.JsonObjectHelper.takeParsedJsonObjectOrArray
+import static pl.jalokim.propertiestojson.resolvers.primitives.utils.JsonObjectHelper.toJsonElement
+
+class JsonObjectHelperTest extends Specification {
+
+    def "json checked as valid for next resolvers is parsed once and taken only once"() {
+        given:
+        String jsonText = '{"a":1,"b":[true,"x"]}'
+
+        when:
+        boolean valid = isValidJsonObjectOrArrayForNextResolvers(jsonText)
+        AbstractJsonType firstTaken = takeParsedJsonObjectOrArray(new String(jsonText))
+        AbstractJsonType secondTaken = takeParsedJsonObjectOrArray(jsonText)
+
+        then:
+        valid
+        firstTaken.toStringJson() == '{"a":1,"b":[true,"x"]}'
+        secondTaken.toStringJson() == '{"a":1,"b":[true,"x"]}'
+        !firstTaken.is(secondTaken)
+    }
+
+    def "json remembered for other text is not returned"() {
+        given:
+        isValidJsonObjectOrArrayForNextResolvers('[1,2]')
+
+        when:
+        AbstractJsonType taken = takeParsedJsonObjectOrArray('[3,4]')
+
+        then:
+        taken.toStringJson() == '[3,4]'
+    }
+
+    def "json checked by public validator is not remembered"() {
+        when:
+        boolean valid = isValidJsonObjectOrArray('[1,2]')
+
+        then:
+        valid
+        JsonObjectHelper.lastParsedJsonText.get() == null
+    }
+
+    def "json remembered by elements resolver is forgotten after resolve of value without object resolver"() {
+        given:
+        PrimitiveJsonTypesResolver resolver = new PrimitiveJsonTypesResolver([new TextToElementsResolver(), TO_STRING_RESOLVER],
+                                                                             [STRING_TO_JSON_RESOLVER], false, NULL_TO_JSON_RESOLVER)
+
+        when:
+        Object resolved = resolver.getResolvedObject('[1,2]', "key")
+
+        then:
+        resolved == '[1,2]'
+        JsonObjectHelper.lastParsedJsonText.get() == null
+    }
+
+    def "invalid json is not returned"() {
+        expect:
+        !isValidJsonObjectOrArrayForNextResolvers(text)
+        takeParsedJsonObjectOrArray(text) == null
+
+        where:
+        text << ['[1,2', '{"a":}', 'text, with comma', '1,2']
+    }
+
+    def "value which is not simple array is resolved from json parsed by elements resolver"() {
+        given:
+        String jsonText = '{"a":1,"b":2}'
+
+        when:
+        def elements = new TextToElementsResolver().returnObjectWhenCanBeResolved(null, jsonText, "key")
+        def jsonObject = new TextToObjectResolver().returnObjectWhenCanBeResolved(null, jsonText, "key")
+
+        then:
+        !elements.isPresent()
+        jsonObject.get() instanceof ObjectJsonType
+        jsonObject.get().toStringJson() == '{"a":1,"b":2}'
+    }
+
+    @Unroll
+    def "json text #jsonText is read directly to the same json types like through gson json elements"() {
+        when:
+        AbstractJsonType directlyRead = takeParsedJsonObjectOrArray(jsonText)
+
+        then:
+        directlyRead.toStringJson() == convertToAbstractJsonType(toJsonElement(jsonText), "key").toStringJson()
+
+        where:
+        jsonText << ['{"a":1,"b":-2.50,"c":1E+3,"d":1e3,"e":12345678901234567890,"f":null,"g":"text","h":false}',
+                     '[[1,2],[],{},{"x":{"y":[true,null]}}]',
+                     '[-0, -0.0, 0.1, 007, 1.5E-7, 9223372036854775808]',
+                     "{a:unquoted, 'b':'single', c=1; d=>[x, y]}",
+                     '{"a":1,"a":2,"b":{"c":1,"c":[3]}}',
+                     '[1,2,]',
+                     ' [ "\\u0105\\n" ] ']
+    }
+
+    def "json values are read to json types without texts of numbers"() {
+        when:
+        ArrayJsonType array = takeParsedJsonObjectOrArray('[5, "5", null, {"a":[]}]') as ArrayJsonType
+
+        then:
+        array.getElement(0) instanceof LongJsonType
+        array.getElement(1) instanceof StringJsonType
+        array.getElement(2) instanceof JsonNullReferenceType
+        array.getElement(3) instanceof ObjectJsonType
+    }
+
+    def "too deeply nested json is not valid"() {
+        given:
+        String jsonText = "[" * 100000 + "]" * 100000
+
+        expect:
+        !isValidJsonObjectOrArray(jsonText)
+    }
+}
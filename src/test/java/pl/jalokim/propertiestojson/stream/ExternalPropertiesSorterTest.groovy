@@ -0,0 +1,100 @@
+package pl.jalokim.propertiestojson.stream
+
+import com.google.gson.JsonParser
+import org.junit.Rule
+import org.junit.rules.TemporaryFolder
+import pl.jalokim.propertiestojson.path.KeySegmentTrie
+import pl.jalokim.propertiestojson.util.PropertiesToJsonConverter
+import pl.jalokim.propertiestojson.util.PropertiesToJsonConverterBuilder
+import pl.jalokim.propertiestojson.util.exception.ParsePropertiesException
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.nio.charset.StandardCharsets
+
+class ExternalPropertiesSorterTest extends Specification {
+
+    @Rule
+    TemporaryFolder temporaryFolder = new TemporaryFolder()
+
+    @Unroll
+    def "sorts properties with memory limit: #memoryLimit and merge fan-in: #mergeFanIn"() {
+        given:
+        List<Map.Entry<String, String>> properties = []
+        (0..<200).each { properties.add(new AbstractMap.SimpleImmutableEntry("group${it % 7}.values[${it}]".toString(), "value$it".toString())) }
+        properties.add(new AbstractMap.SimpleImmutableEntry("group3.values[3]", "overridden"))
+        Collections.shuffle(properties, new Random(42))
+        properties.add(new AbstractMap.SimpleImmutableEntry("group3.values[3]", "last value"))
+        ExternalPropertiesSorter sorter = new ExternalPropertiesSorter(memoryLimit, temporaryFolder.getRoot(), mergeFanIn)
+        List<String> expectedKeys = properties*.key.unique().sort(false, new PropertyKeyPathComparator())
+        when:
+        SortedPropertiesIterator sortedProperties = sorter.sort(properties.iterator(), new KeySegmentTrie())
+        List<Map.Entry<String, String>> result = sortedProperties.collect()
+        int filesBeforeClose = temporaryFolder.getRoot().listFiles().length
+        sortedProperties.close()
+        then:
+        result*.key == expectedKeys
+        result.find { it.key == "group3.values[3]" }.value == "last value"
+        result.find { it.key == "group1.values[8]" }.value == "value8"
+        filesBeforeClose == expectedFilesCount
+        temporaryFolder.getRoot().listFiles().length == 0
+        where:
+        memoryLimit       | mergeFanIn | expectedFilesCount
+        1024 * 1024       | 2          | 0
+        1024              | 64         | 34
+        1024              | 2          | 2
+        1                 | 3          | 3
+    }
+
+    def "converts large properties from input stream with spilled runs"() {
+        given:
+        StringBuilder text = new StringBuilder()
+        Map<String, String> properties = [:]
+        (0..<100).each {
+            text.append("app.items[${99 - it}].name=item${it}\n")
+            text.append("app.items[${99 - it}].flags=true,false\n")
+            properties.put("app.items[${99 - it}].name".toString(), "item${it}".toString())
+            properties.put("app.items[${99 - it}].flags".toString(), "true,false")
+        }
+        text.append("app.name = application\\\n   name\n# comment\napp.empty=\n")
+        properties.put("app.name", "applicationname")
+        properties.put("app.empty", "")
+        PropertiesToJsonConverter converter = PropertiesToJsonConverterBuilder.builder()
+                                                                              .externalSortMemoryLimit(2048)
+                                                                              .externalSortDirectory(temporaryFolder.getRoot())
+                                                                              .build()
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream()
+        when:
+        converter.convertLargePropertiesToJson(new ByteArrayInputStream(text.toString().getBytes(StandardCharsets.UTF_8)), outputStream)
+        then:
+        JsonParser jsonParser = new JsonParser()
+        jsonParser.parse(outputStream.toString("UTF-8")) == jsonParser.parse(converter.convertToJson(properties))
+        temporaryFolder.getRoot().listFiles().length == 0
+    }
+
+    def "removes temporary files when conversion of large properties fails"() {
+        given:
+        String text = "a=1\nb={\"c\": 1}\nb.d=2\n" + (0..<50).collect { "x.y$it=$it" }.join("\n")
+        PropertiesToJsonConverter converter = PropertiesToJsonConverterBuilder.builder()
+                                                                              .externalSortMemoryLimit(512)
+                                                                              .externalSortDirectory(temporaryFolder.getRoot())
+                                                                              .build()
+        when:
+        converter.convertLargePropertiesToJson(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)), new StringWriter())
+        then:
+        thrown(ParsePropertiesException)
+        temporaryFolder.getRoot().listFiles().length == 0
+    }
+
+    @Unroll
+    def "cannot create sorter with memory limit: #memoryLimit and merge fan-in: #mergeFanIn"() {
+        when:
+        new ExternalPropertiesSorter(memoryLimit, null, mergeFanIn)
+        then:
+        thrown(IllegalArgumentException)
+        where:
+        memoryLimit | mergeFanIn
+        0           | 2
+        1024        | 1
+    }
+}
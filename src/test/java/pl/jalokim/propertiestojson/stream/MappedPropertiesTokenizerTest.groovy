@@ -0,0 +1,141 @@
+package pl.jalokim.propertiestojson.stream
+
+import org.junit.Rule
+import org.junit.rules.TemporaryFolder
+import pl.jalokim.propertiestojson.util.PropertiesToJsonConverter
+import pl.jalokim.propertiestojson.util.PropertiesToJsonConverterBuilder
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.nio.ByteBuffer
+import java.nio.charset.Charset
+import java.nio.charset.StandardCharsets
+
+class MappedPropertiesTokenizerTest extends Specification {
+
+    @Rule
+    TemporaryFolder temporaryFolder = new TemporaryFolder()
+
+    @Unroll
+    def "reads the same properties like java.util.Properties for: #text in charset: #charset"() {
+        given:
+        Properties expectedProperties = new Properties()
+        expectedProperties.load(new InputStreamReader(new ByteArrayInputStream(text.getBytes(charset)), charset))
+        when:
+        Map<String, String> properties = [:]
+        new MappedPropertiesTokenizer(ByteBuffer.wrap(text.getBytes(charset)), charset).each { properties.put(it.key, it.value) }
+        then:
+        properties == expectedProperties
+        where:
+        [text, charset] << [[
+                                    "",
+                                    "   \n\n",
+                                    "key=value",
+                                    "key = value\nnext:value2\r\nthird value3\rlast",
+                                    "  key\t=\t  value with spaces  ",
+                                    "# comment\n! other comment\nkey=value\n  # indented comment",
+                                    "# comment with continuation \\\nkey=value",
+                                    "key=first line \\\n      second line\\\r\n third",
+                                    "key=continued by empty line \\\n\nnext=value",
+                                    "\\\n\nkey=value after empty continued line",
+                                    "key=ends with backslash \\",
+                                    "key=escaped \\\\\nnext=value",
+                                    "escaped\\ key\\=name\\:x=value",
+                                    "key=\\t\\n\\r\\f\\u0041\\u00e9\\q",
+                                    "key==value",
+                                    "key:=value",
+                                    "key",
+                                    "=value",
+                                    "zażółć=gęślą \\\n  jaźń\nkey\\u0105=\\u017c"
+                            ], [StandardCharsets.UTF_8, StandardCharsets.ISO_8859_1]].combinations()
+    }
+
+    @Unroll
+    def "reads line with only backslash like java.util.Properties of current java and like entry reader for: #text"() {
+        given:
+        Properties expectedProperties = new Properties()
+        expectedProperties.load(new StringReader(text))
+        when:
+        Map<String, String> tokenizerProperties = [:]
+        new MappedPropertiesTokenizer(ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8)
+                .each { tokenizerProperties.put(it.key, it.value) }
+        Map<String, String> readerProperties = [:]
+        new PropertiesEntryReader(new StringReader(text)).each { readerProperties.put(it.key, it.value) }
+        then:
+        tokenizerProperties == expectedProperties
+        readerProperties == expectedProperties
+        where:
+        text << [
+                "\\\n#comment",
+                "\\\n!comment",
+                "  \\\n  #key=value",
+                "\\\n\\\n#comment",
+                "\\\n\n#comment",
+                "\\\r\n#comment",
+                "\\\r#comment",
+                " \\\n \\\n key=value",
+                "key\\\n#comment",
+                "\\",
+                "  \\",
+                "key=value\n\\",
+                "\\\n",
+                "\\\r",
+                "\\\r\n",
+                "\\\n\\",
+                "\\\n  ",
+                "key=\\\n\\",
+                "key=value\\\n",
+                "key=value\\\n\\\n"
+        ]
+    }
+
+    def "converts properties file with memory mapped tokenizer like properties from input stream"() {
+        given:
+        String text = "app.name=application \\\n   name\n# comment\napp.values=1,2,3\napp.ąę=zażółć\napp.items[1].name=item\napp.name=last"
+        File file = temporaryFolder.newFile("application.properties")
+        file.setText(text, "UTF-8")
+        PropertiesToJsonConverter converter = PropertiesToJsonConverterBuilder.builder().build()
+        when:
+        String json = converter.convertPropertiesFromFileToJson(file)
+        then:
+        json == converter.convertToJson(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)))
+        json.contains('"name": "last"')
+        json.contains('"ąę": "zażółć"')
+    }
+
+    @Unroll
+    def "converts the same bytes with backslash only lines from file and from input stream for: #text"() {
+        given:
+        File file = temporaryFolder.newFile()
+        file.setText(text, "UTF-8")
+        PropertiesToJsonConverter converter = PropertiesToJsonConverterBuilder.builder().build()
+        StringWriter largeFromFile = new StringWriter()
+        StringWriter largeFromStream = new StringWriter()
+        when:
+        String json = converter.convertPropertiesFromFileToJson(file)
+        converter.convertLargePropertiesFromFileToJson(file, largeFromFile)
+        converter.convertLargePropertiesToJson(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)), largeFromStream)
+        then:
+        json == converter.convertToJson(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)))
+        largeFromFile.toString() == largeFromStream.toString()
+        where:
+        text << ["app.name=value\\\n#comment\n\\", "\\\n#app.name=value", "app.name=value\n\\\n"]
+    }
+
+    @Unroll
+    def "reads properties from file in charset: #charset"() {
+        given:
+        String text = "key=zażółć\nother=value"
+        File file = temporaryFolder.newFile()
+        file.setBytes(text.getBytes(charset))
+        Map<String, String> properties = [:]
+        when:
+        java.nio.channels.FileChannel.open(file.toPath()).withCloseable { channel ->
+            MappedPropertiesTokenizer.readProperties(channel, charset).each { properties.put(it.key, it.value) }
+        }
+        then:
+        properties == ["key": "zażółć", "other": "value"]
+        where:
+        charset << [StandardCharsets.UTF_8, StandardCharsets.UTF_16, Charset.forName("windows-1250")]
+    }
+}
@@ -0,0 +1,69 @@
+package pl.jalokim.propertiestojson.stream
+
+import org.junit.Rule
+import org.junit.rules.TemporaryFolder
+import pl.jalokim.propertiestojson.util.PropertiesToJsonConverter
+import pl.jalokim.propertiestojson.util.PropertiesToJsonConverterBuilder
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.nio.ByteBuffer
+import java.nio.charset.StandardCharsets
+import java.util.concurrent.ForkJoinPool
+
+class ParallelPropertiesParserTest extends Specification {
+
+    @Rule
+    TemporaryFolder temporaryFolder = new TemporaryFolder()
+
+    @Unroll
+    def "chunks begin at begin of logical lines for chunks count: #chunksCount"() {
+        given:
+        byte[] bytes = "a=1\\\n2\\\r\n3\nb=\\\\\nc=3\r\n# comment \\\nd=4\\\\\\\ne=5".getBytes(StandardCharsets.UTF_8)
+        Properties expectedProperties = new Properties()
+        expectedProperties.load(new ByteArrayInputStream(bytes))
+        when:
+        int[] boundaries = ParallelPropertiesParser.findChunkBoundaries(ByteBuffer.wrap(bytes), chunksCount)
+        then:
+        boundaries[0] == 0
+        boundaries[boundaries.length - 1] == bytes.length
+        boundaries.toList() == boundaries.toList().unique().sort()
+        Map<String, String> properties = [:]
+        for(int chunk = 0; chunk < boundaries.length - 1; chunk++) {
+            ByteBuffer chunkBytes = ByteBuffer.wrap(bytes)
+            chunkBytes.limit(boundaries[chunk + 1]).position(boundaries[chunk])
+            new MappedPropertiesTokenizer(chunkBytes, StandardCharsets.UTF_8).each { properties.put(it.key, it.value) }
+        }
+        properties == expectedProperties
+        where:
+        chunksCount << (1..40)
+    }
+
+    def "parses properties in many chunks like in one thread"() {
+        given:
+        StringBuilder text = new StringBuilder()
+        (0..<2000).each {
+            text.append("app.group${it % 13}.items[${it}].value=${it}\n")
+            text.append("app.group${it % 13}.items[${it}].text=text \\\n    ${it}\n")
+        }
+        text.append("app.group1.items[1].value=last\n")
+        File file = temporaryFolder.newFile()
+        file.setText(text.toString(), "UTF-8")
+        PropertiesToJsonConverter parallelConverter = PropertiesToJsonConverterBuilder.builder()
+                                                                                      .parallelFileParsing(new ForkJoinPool(4), 1024)
+                                                                                      .build()
+        PropertiesToJsonConverter converter = PropertiesToJsonConverterBuilder.builder().build()
+        when:
+        String json = parallelConverter.convertPropertiesFromFileToJson(file)
+        then:
+        json == converter.convertPropertiesFromFileToJson(file)
+        json.contains('"value": "last"')
+    }
+
+    def "cannot create parser with not positive chunk size"() {
+        when:
+        new ParallelPropertiesParser(ForkJoinPool.commonPool(), 0)
+        then:
+        thrown(IllegalArgumentException)
+    }
+}
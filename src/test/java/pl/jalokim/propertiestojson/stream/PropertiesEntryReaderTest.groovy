@@ -0,0 +1,67 @@
+package pl.jalokim.propertiestojson.stream
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class PropertiesEntryReaderTest extends Specification {
+
+    @Unroll
+    def "reads the same properties like java.util.Properties for: #text"() {
+        given:
+        Properties expectedProperties = new Properties()
+        expectedProperties.load(new StringReader(text))
+        when:
+        Map<String, String> properties = [:]
+        new PropertiesEntryReader(new StringReader(text)).each { properties.put(it.key, it.value) }
+        then:
+        properties == expectedProperties
+        where:
+        text << [
+                "",
+                "   \n\n",
+                "key=value",
+                "key = value\nnext:value2\r\nthird value3\rlast",
+                "  key\t=\t  value with spaces  ",
+                "# comment\n! other comment\nkey=value\n  # indented comment",
+                "# comment with continuation \\\nkey=value",
+                "key=first line \\\n      second line\\\r\n third",
+                "key=continued by empty line \\\n\nnext=value",
+                "\\\n\nkey=value after empty continued line",
+                "key=ends with backslash \\",
+                "key=escaped \\\\\nnext=value",
+                "escaped\\ key\\=name\\:x=value",
+                "key=\\t\\n\\r\\f\\u0041\\u00e9\\q",
+                "key==value",
+                "key:=value",
+                "key",
+                "=value",
+                "key = \\u0020leading space"
+        ]
+    }
+
+    def "returns every occurrence of the same property key"() {
+        when:
+        List<Map.Entry<String, String>> properties = new PropertiesEntryReader(new StringReader("a=1\nb=2\na=3")).collect()
+        then:
+        properties*.key == ["a", "b", "a"]
+        properties*.value == ["1", "2", "3"]
+    }
+
+    def "reads lines longer than buffer"() {
+        given:
+        String value = "x" * 20000
+        when:
+        List<Map.Entry<String, String>> properties = new PropertiesEntryReader(new StringReader("key=" + value + "\nnext=1")).collect()
+        then:
+        properties*.key == ["key", "next"]
+        properties[0].value == value
+    }
+
+    def "throws exception for malformed unicode escape"() {
+        when:
+        new PropertiesEntryReader(new StringReader("key=\\u00g1")).next()
+        then:
+        IllegalArgumentException ex = thrown()
+        ex.message == "Malformed \\uxxxx encoding."
+    }
+}
@@ -0,0 +1,167 @@
+package pl.jalokim.propertiestojson.stream
+
+import com.google.gson.JsonParser
+import pl.jalokim.propertiestojson.util.PropertiesToJsonConverter
+import pl.jalokim.propertiestojson.util.PropertiesToJsonConverterBuilder
+import pl.jalokim.propertiestojson.util.exception.CannotOverrideFieldException
+import pl.jalokim.propertiestojson.util.exception.ParsePropertiesException
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import static pl.jalokim.propertiestojson.util.PropertyConflict.JsonNodeKind.ARRAY
+import static pl.jalokim.propertiestojson.util.PropertyConflict.JsonNodeKind.OBJECT
+import static pl.jalokim.propertiestojson.util.PropertyConflict.JsonNodeKind.PRIMITIVE
+
+class SortedPropertiesJsonEmitterTest extends Specification {
+
+    private static final Map<String, String> PROPERTIES = [
+            "app.datasource.primary.pool.size"   : "10",
+            "app.datasource.primary.url"         : "jdbc",
+            "app.datasource.secondary[0].url"    : "jdbc0",
+            "app.datasource.secondary[10].url"   : "jdbc10",
+            "app.datasource.secondary[2].user"   : "user2",
+            "app.matrix[1][2]"                   : "12",
+            "app.matrix[0][1]"                   : "true",
+            "app.name"                           : "name",
+            "app.object"                         : '{"field": "value"}',
+            "app.values"                         : "1,2,3",
+            "app.empty"                          : "null",
+            "root"                               : "text"
+    ]
+
+    def "property keys are sorted by fields and by numeric values of indexes"() {
+        given:
+        List<String> keys = ["b", "a.c[10]", "a.c[2]", "a.b", "a.c[2][1]", "a.c[2][0]", "a"]
+        when:
+        keys.sort(new PropertyKeyPathComparator())
+        then:
+        keys == ["a", "a.b", "a.c[2]", "a.c[2][0]", "a.c[2][1]", "a.c[10]", "b"]
+    }
+
+    def "streamed json is the same like json from tree of json objects"() {
+        given:
+        PropertiesToJsonConverter converter = PropertiesToJsonConverterBuilder.builder().compactJson().build()
+        Map<String, String> sortedProperties = new TreeMap<>(new PropertyKeyPathComparator())
+        sortedProperties.putAll(PROPERTIES)
+        StringWriter writer = new StringWriter()
+        StringWriter iteratorWriter = new StringWriter()
+        when:
+        converter.convertSortedToJson(sortedProperties, writer)
+        converter.convertSortedToJson(sortedProperties.entrySet().iterator(), iteratorWriter)
+        then:
+        JsonParser jsonParser = new JsonParser()
+        jsonParser.parse(writer.toString()) == jsonParser.parse(converter.convertToJson(PROPERTIES))
+        iteratorWriter.toString() == writer.toString()
+        writer.toString().startsWith('{"app":{"datasource":{"primary":{"pool":{"size":10},"url":"jdbc"},' +
+                '"secondary":[{"url":"jdbc0"},null,{"user":"user2"},null,null,null,null,null,null,null,{"url":"jdbc10"}]}')
+    }
+
+    def "empty properties give empty json object"() {
+        given:
+        PropertiesToJsonConverter converter = PropertiesToJsonConverterBuilder.builder().compactJson().build()
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream()
+        when:
+        converter.convertSortedToJson(Collections.<Map.Entry<String, String>> emptyIterator(), outputStream)
+        then:
+        outputStream.toString("UTF-8") == "{}"
+    }
+
+    def "map with keys in other order is sorted before streaming, so fields are in order of property keys"() {
+        given:
+        PropertiesToJsonConverter converter = PropertiesToJsonConverterBuilder.builder().compactJson().build()
+        Map<String, String> properties = new LinkedHashMap<>()
+        PROPERTIES.keySet().toList().reverse().each { properties.put(it, PROPERTIES.get(it)) }
+        Map<String, String> sortedProperties = new TreeMap<>(new PropertyKeyPathComparator())
+        sortedProperties.putAll(PROPERTIES)
+        StringWriter writer = new StringWriter()
+        StringWriter sortedWriter = new StringWriter()
+        StringWriter shortWriter = new StringWriter()
+        when:
+        converter.convertSortedToJson(properties, writer)
+        converter.convertSortedToJson(sortedProperties, sortedWriter)
+        converter.convertSortedToJson(new LinkedHashMap<>(["b": "1", "a.c": "2", "a.b": "3"]), shortWriter)
+        then:
+        writer.toString() == sortedWriter.toString()
+        shortWriter.toString() == '{"a":{"b":3,"c":2},"b":1}'
+    }
+
+    @Unroll
+    def "map with keys which cannot be streamed is converted by tree of json objects: #properties"() {
+        given:
+        PropertiesToJsonConverter converter = PropertiesToJsonConverterBuilder.builder().compactJson().build()
+        StringWriter writer = new StringWriter()
+        when:
+        converter.convertSortedToJson(properties, writer)
+        then:
+        JsonParser jsonParser = new JsonParser()
+        jsonParser.parse(writer.toString()) == jsonParser.parse(converter.convertToJson(properties))
+        where:
+        properties << [
+                new LinkedHashMap<>(["b": "1", "a": "2"]),
+                new LinkedHashMap<>(["a": '{"b": 1}', "a.c": "2"]),
+                new LinkedHashMap<>(["a": "1,2", "a[2]": "3"])
+        ]
+    }
+
+    def "cannot stream property keys which are not sorted"() {
+        given:
+        PropertiesToJsonConverter converter = new PropertiesToJsonConverter()
+        List<Map.Entry<String, String>> properties = new LinkedHashMap<>(["b": "1", "a": "2"]).entrySet().toList()
+        when:
+        converter.convertSortedToJson(properties.iterator(), new StringWriter())
+        then:
+        ParsePropertiesException ex = thrown()
+        ex.message == "Property keys are not sorted, property key: 'b' is before property key: 'a'"
+    }
+
+    def "cannot stream value which should be merged with next property key"() {
+        given:
+        PropertiesToJsonConverter converter = new PropertiesToJsonConverter()
+        List<Map.Entry<String, String>> properties = new LinkedHashMap<>(["a": '{"b": 1}', "a.c": "2"]).entrySet().toList()
+        when:
+        converter.convertSortedToJson(properties.iterator(), new StringWriter())
+        then:
+        ParsePropertiesException ex = thrown()
+        ex.message == "Value of property key: 'a' cannot be merged with property key: 'a.c' during conversion of sorted properties"
+    }
+
+    @Unroll
+    def "cannot override field during streaming of keys: #keys"() {
+        given:
+        PropertiesToJsonConverter converter = new PropertiesToJsonConverter()
+        Map<String, String> properties = new LinkedHashMap<>()
+        keys.each { properties.put(it, "value") }
+        when:
+        converter.convertSortedToJson(properties.entrySet().iterator(), new StringWriter())
+        then:
+        CannotOverrideFieldException ex = thrown()
+        ex.currentPath == currentPath
+        ex.currentValueKind == currentValueKind
+        ex.currentValueText == currentValueText
+        ex.propertyKey == keys.last()
+        where:
+        keys                               || currentPath | currentValueKind | currentValueText
+        ["a.b", "a.b.c"]                   || "a.b"       | PRIMITIVE        | '"value"'
+        ["a.b", "a[0]"]                    || "a"         | OBJECT           | "{...}"
+        ["a.b", "a.c", "a[0]"]             || "a"         | OBJECT           | "{...}"
+        ["a.x.y", "a.z[1]", "a[1].c"]      || "a"         | OBJECT           | "{...}"
+        ["a[0].b", "a[0][1]"]              || "a[0]"      | OBJECT           | "{...}"
+        ["x.a[0]", "x.a[1]", "x.a.b"]      || "x.a"       | ARRAY            | "[...]"
+        ["x.a[0][2]", "x.a[1].b", "x.a.b"] || "x.a"       | ARRAY            | "[...]"
+        ["a[0]", "a[0][1]"]                || "a[0]"      | PRIMITIVE        | '"value"'
+    }
+
+    def "fields of large json object are not kept for conflict during streaming"() {
+        given:
+        PropertiesToJsonConverter converter = new PropertiesToJsonConverter()
+        Map<String, String> properties = new LinkedHashMap<>()
+        (0..<200).each { properties.put("a.field" + (1000 + it), "value" + it) }
+        properties.put("a[0]", "value")
+        when:
+        converter.convertSortedToJson(properties.entrySet().iterator(), new StringWriter())
+        then:
+        CannotOverrideFieldException ex = thrown()
+        ex.message == "Cannot override value at path: 'a', current value is: '{...}', problematic property key: 'a[0]'"
+        ex.currentValueKind == OBJECT
+    }
+}
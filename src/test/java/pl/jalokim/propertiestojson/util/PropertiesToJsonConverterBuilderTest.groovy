@@ -275,7 +275,7 @@ class PropertiesToJsonConverterBuilderTest extends Specification {
         converter.convertToJson(properties)
         then:
         ParsePropertiesException ex = thrown()
-        ex.message == "Cannot find valid JSON type resolver for class: 'class java.math.BigInteger'. \n" +
+        ex.message == "Cannot find valid JSON type resolver for class: 'class java.lang.Long'. \n" +
                 " for property: someObject.number, and object value: 123 \n" +
                 "Please consider add sufficient resolver to your resolvers."
     }
@@ -473,6 +473,56 @@ class PropertiesToJsonConverterBuilderTest extends Specification {
         }
     }
 
+    def "builder creates converter which generates compact json"() {
+        when:
+        PropertiesToJsonConverter converter = PropertiesToJsonConverterBuilder.builder()
+                .compactJson()
+                .build()
+        String json = converter.convertToJson(["object.array[1]": "text", "object.array[2]": "12"])
+        then:
+        json == '{"object":{"array":[null,"text",12]}}'
+    }
+
+    def "builder creates converter which generates json with given indent width"() {
+        when:
+        PropertiesToJsonConverter converter = PropertiesToJsonConverterBuilder.builder()
+                .prettyJson(4)
+                .build()
+        String json = converter.convertToJson(["object.array[1]": "text", "object.array[2]": "12"])
+        then:
+        json == '''{
+    "object": {
+        "array": [
+            null,
+            "text",
+            12
+        ]
+    }
+}'''
+    }
+
+    def "builder cannot use negative indent width"() {
+        when:
+        PropertiesToJsonConverterBuilder.builder().prettyJson(-1)
+        then:
+        IllegalArgumentException ex = thrown()
+        ex.message == "Indent width cannot be negative, given: -1"
+    }
+
+    def "builder creates converter with limited cache of key segments"() {
+        when:
+        PropertiesToJsonConverter converter = PropertiesToJsonConverterBuilder.builder()
+                .keySegmentsCacheSize(2)
+                .compactJson()
+                .build()
+        String json = converter.convertToJson(["object.array[1]": "text", "object.array[2]": "12"])
+        then:
+        json == '{"object":{"array":[null,"text",12]}}'
+        converter.getKeySegmentTrie().getSegmentsCount() == 2
+        converter.getKeySegmentTrie().getHitsCount() == 1
+        converter.getKeySegmentTrie().getMissesCount() == 3
+    }
+
     private static class OwnNullToJsonTypeConverter extends NullToJsonTypeConverter {
         @Override
         Optional<AbstractJsonType> convertToJsonTypeOrEmpty(PrimitiveJsonTypesResolver primitiveJsonTypesResolver,
@@ -0,0 +1,96 @@
+package pl.jalokim.propertiestojson.util
+
+import spock.lang.Specification
+
+import java.util.concurrent.Callable
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+import java.util.concurrent.TimeUnit
+
+class PropertiesToJsonConverterConcurrencyTest extends Specification {
+
+    private static final int THREADS_COUNT = 8
+    private static final int CONVERSIONS_PER_THREAD = 200
+
+    def "one converter gives the same json for many threads like for one thread"() {
+        given:
+        PropertiesToJsonConverter converter = PropertiesToJsonConverterBuilder.builder().build()
+        List<Map<String, String>> allProperties = (0..<THREADS_COUNT).collect { createProperties(it) }
+        List<String> expectedJsons = allProperties.collect { converter.convertToJson(it) }
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS_COUNT)
+        CountDownLatch startLatch = new CountDownLatch(1)
+
+        when:
+        List<Future<List<String>>> results = (0..<THREADS_COUNT).collect { int thread ->
+            executor.submit({
+                startLatch.await()
+                List<String> jsons = []
+                for(int conversion = 0; conversion < CONVERSIONS_PER_THREAD; conversion++) {
+                    int propertiesIndex = (thread + conversion) % allProperties.size()
+                    jsons.add(converter.convertToJson(allProperties[propertiesIndex]))
+                }
+                return jsons
+            } as Callable<List<String>>)
+        }
+        startLatch.countDown()
+        List<List<String>> jsonsOfThreads = results.collect { it.get(1, TimeUnit.MINUTES) }
+
+        then:
+        jsonsOfThreads.eachWithIndex { List<String> jsons, int thread ->
+            jsons.eachWithIndex { String json, int conversion ->
+                assert json == expectedJsons[(thread + conversion) % allProperties.size()]
+            }
+        }
+
+        cleanup:
+        executor.shutdownNow()
+    }
+
+    def "one converter throws the same errors for many threads"() {
+        given:
+        PropertiesToJsonConverter converter = PropertiesToJsonConverterBuilder.builder().build()
+        Map<String, String> validProperties = createProperties(1)
+        Map<String, String> invalidProperties = ["object.field": "value", "object.field.nested": "other"]
+        String expectedJson = converter.convertToJson(validProperties)
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS_COUNT)
+
+        when:
+        List<Future<Boolean>> results = (0..<THREADS_COUNT).collect { int thread ->
+            executor.submit({
+                for(int conversion = 0; conversion < CONVERSIONS_PER_THREAD; conversion++) {
+                    if((thread + conversion) % 2 == 0) {
+                        assert converter.convertToJson(validProperties) == expectedJson
+                    } else {
+                        try {
+                            converter.convertToJson(invalidProperties)
+                            return false
+                        } catch(RuntimeException ignored) {
+                        }
+                    }
+                }
+                return true
+            } as Callable<Boolean>)
+        }
+
+        then:
+        results.every { it.get(1, TimeUnit.MINUTES) }
+
+        cleanup:
+        executor.shutdownNow()
+    }
+
+    private static Map<String, String> createProperties(int variant) {
+        Map<String, String> properties = new HashMap<>()
+        for(int index = 0; index < 50; index++) {
+            properties.put("root${variant}.object${index % 7}.field${index}".toString(), "${index * variant}".toString())
+            properties.put("root${variant}.array[${index % 5}].element${index}".toString(), "text${index}".toString())
+            properties.put("root${variant}.matrix[${index % 3}][${index % 4}]".toString(), "${index % 2 == 0}".toString())
+        }
+        properties.put("root${variant}.json".toString(), "{\"name\": \"John${variant}\", \"numbers\": [1, 2, ${variant}]}".toString())
+        properties.put("root${variant}.list".toString(), "a, ${variant}, true".toString())
+        properties.put("root${variant}.nullable".toString(), "null")
+        properties
+    }
+}
@@ -87,7 +87,32 @@ public class PropertiesToJsonConverterTest extends AbstractPropertiesToJsonConve
             fail();
         } catch(JsonSyntaxException ex) {
             // then
-            assertThat(ex.getMessage()).isEqualTo("com.google.gson.stream.MalformedJsonException: Expected ':' at line 1 column 36 path $.some.given.path.someText");
+            assertThat(ex.getMessage()).isEqualTo("Invalid json value: '{someText}', cause: Use JsonReader.setLenient(true) to accept malformed JSON at line 1 column 3 path $.");
+        }
+    }
+
+    @Test
+    public void ownJsonTypeIsWrittenWhenIsFormattedCorrectly() {
+        // given
+        PropertiesToJsonConverter converter = PropertiesToJsonConverterBuilder.builder()
+                                                                              .defaultAndCustomObjectToJsonTypeConverters(new ValidConverter())
+                                                                              .compactJson()
+                                                                              .build();
+        Properties properties = new Properties();
+        properties.put("some.given.path", "someText");
+        // when
+        String json = converter.convertToJson(properties);
+        // then
+        assertThat(json).isEqualTo("{\"some\":{\"given\":{\"path\":{\"someText\": 1}}}}");
+    }
+
+    private static class ValidConverter extends AbstractObjectToJsonTypeConverter<String> {
+
+        @Override
+        public Optional<AbstractJsonType> convertToJsonTypeOrEmpty(PrimitiveJsonTypesResolver primitiveJsonTypesResolver,
+                                                                   String convertedValue,
+                                                                   String propertyKey) {
+            return Optional.of(new OwnAbstractJsonType("\"" + convertedValue + "\": 1"));
         }
     }
 
@@ -0,0 +1,126 @@
+package pl.jalokim.propertiestojson.util
+
+import pl.jalokim.propertiestojson.helper.PropertyKeysOrderResolver
+import pl.jalokim.propertiestojson.helper.SortedPropertyKeysOrderResolver
+import pl.jalokim.propertiestojson.util.exception.CannotOverrideFieldException
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import static pl.jalokim.propertiestojson.util.PropertyConflict.JsonNodeKind.ARRAY
+import static pl.jalokim.propertiestojson.util.PropertyConflict.JsonNodeKind.OBJECT
+import static pl.jalokim.propertiestojson.util.PropertyConflict.JsonNodeKind.PRIMITIVE
+
+class PropertiesToJsonConverterValidateTest extends Specification {
+
+    def "returns all conflicts in order of property keys"() {
+        given:
+        PropertiesToJsonConverter converter = new PropertiesToJsonConverter()
+        converter.setPropertyKeysOrderResolver(new SortedPropertyKeysOrderResolver())
+        Map<String, String> properties = new HashMap<>()
+        properties.put("man.name", "John")
+        properties.put("man.name.first", "John")
+        properties.put("man.groups[0]", "admins")
+        properties.put("man.groups[0].name", "admins")
+        properties.put("man.address.street", "Street")
+        properties.put("man.address[0]", "first")
+        properties.put("man.hobbies", "[\"tennis\", \"chess\"]")
+        properties.put("man.hobbies.first", "tennis")
+        properties.put("man.roles[0]", "[1, 2, 3]")
+        properties.put("man.roles[0].name", "admin")
+        properties.put("man.age", "30")
+
+        when:
+        List<PropertyConflict> conflicts = converter.validate(properties)
+
+        then:
+        conflicts == [new PropertyConflict("man.address", OBJECT, "man.address[0]"),
+                      new PropertyConflict("man.groups[0]", PRIMITIVE, "man.groups[0].name"),
+                      new PropertyConflict("man.hobbies", ARRAY, "man.hobbies.first"),
+                      new PropertyConflict("man.name", PRIMITIVE, "man.name.first"),
+                      new PropertyConflict("man.roles[0]", ARRAY, "man.roles[0].name")]
+    }
+
+    def "returns conflict when json object and json array cannot be merged"() {
+        given:
+        PropertiesToJsonConverter converter = new PropertiesToJsonConverter()
+        converter.setPropertyKeysOrderResolver(new GivenOrderResolver(["some.array[0].field", "some.array[0]", "some.name"]))
+        Map<String, String> properties = new HashMap<>()
+        properties.put("some.array[0].field", "value")
+        properties.put("some.array[0]", "[1, 2, 3]")
+        properties.put("some.name", "name")
+
+        when:
+        List<PropertyConflict> conflicts = converter.validate(properties)
+
+        then:
+        conflicts == [new PropertyConflict("some.array[0]", OBJECT, "some.array[0]")]
+    }
+
+    def "first conflict is the same like conflict thrown during conversion"() {
+        given:
+        PropertiesToJsonConverter converter = new PropertiesToJsonConverter()
+        converter.setPropertyKeysOrderResolver(new SortedPropertyKeysOrderResolver())
+        Map<String, String> properties = new HashMap<>()
+        properties.put("some.object.field", "value")
+        properties.put("some.object.field.next", "value")
+        properties.put("some.object.field.other", "value")
+        properties.put("some.array[1]", "value")
+
+        when:
+        List<PropertyConflict> conflicts = converter.validate(properties)
+        converter.convertToJson(properties)
+
+        then:
+        CannotOverrideFieldException exception = thrown()
+        conflicts.size() == 2
+        conflicts[0] == new PropertyConflict(exception.getCurrentPath(), PRIMITIVE, exception.getPropertyKey())
+        conflicts[1] == new PropertyConflict("some.object.field", PRIMITIVE, "some.object.field.other")
+    }
+
+    @Unroll
+    def "returns conflict when array is expected at path of other value for #properties"() {
+        given:
+        PropertiesToJsonConverter converter = new PropertiesToJsonConverter()
+
+        when:
+        List<PropertyConflict> conflicts = converter.validate(properties)
+
+        then:
+        conflicts == expectedConflicts
+
+        where:
+        properties                              | expectedConflicts
+        [a: "x", "a.b": "1", "a[1].c": "2"]     | [new PropertyConflict("a", PRIMITIVE, "a.b"), new PropertyConflict("a", PRIMITIVE, "a[1].c")]
+        [a: "1", "a[1].c": "2"]                 | [new PropertyConflict("a", PRIMITIVE, "a[1].c")]
+        ["a.b": "1", "a[1]": "2"]               | [new PropertyConflict("a", OBJECT, "a[1]")]
+        ["a.b": "1", "a[1].c": "2"]             | [new PropertyConflict("a", OBJECT, "a[1].c")]
+    }
+
+    def "returns empty list when properties can be converted to json"() {
+        given:
+        PropertiesToJsonConverter converter = new PropertiesToJsonConverter()
+        Properties properties = new Properties()
+        properties.put("man.name", "John")
+        properties.put("man.groups[0].name", "admins")
+        properties.put("man.groups[1]", "{\"name\": \"users\"}")
+        properties.put("man.groups[2].type", "local")
+
+        expect:
+        converter.validate(properties).isEmpty()
+        converter.validate(new File("src/test/resources/primitiveTypes.properties")).isEmpty()
+    }
+
+    private static class GivenOrderResolver extends PropertyKeysOrderResolver {
+
+        private final List<String> keysInOrder
+
+        GivenOrderResolver(List<String> keysInOrder) {
+            this.keysInOrder = keysInOrder
+        }
+
+        @Override
+        List<String> getKeysInExpectedOrder(Map<String, ?> properties) {
+            keysInOrder
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package pl.jalokim.propertiestojson.util;
+
+import com.google.gson.JsonParser;
+import org.junit.Test;
+import pl.jalokim.propertiestojson.path.DomainKeysFilter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PropertiesToJsonConverterWriterTest extends AbstractPropertiesToJsonConverterTest {
+
+    private final PropertiesToJsonConverter converter = new PropertiesToJsonConverter();
+
+    @Test
+    public void writesTheSameJsonAsStringConversionForInputStream() throws Exception {
+        // given
+        String expectedJson;
+        try(InputStream inputStream = getPropertiesFromFile()) {
+            expectedJson = converter.convertToJson(inputStream);
+        }
+        StringWriter writer = new StringWriter();
+        // when
+        try(InputStream inputStream = getPropertiesFromFile()) {
+            converter.convertToJson(inputStream, writer);
+        }
+        // then
+        assertThat(writer.toString()).isEqualTo(expectedJson);
+    }
+
+    @Test
+    public void writesTheSameJsonAsStringConversionForProperties() {
+        // given
+        StringWriter writer = new StringWriter();
+        // when
+        converter.convertToJson(initProperlyProperties(), writer);
+        // then
+        assertSameJson(writer.toString(), converter.convertToJson(initProperlyProperties()));
+    }
+
+    @Test
+    public void writesTheSameJsonAsStringConversionForMapWithIncludedDomainKeys() {
+        // given
+        StringWriter writer = new StringWriter();
+        // when
+        converter.convertToJson(initProperlyPropertiesMap(), writer, "man", "insurance");
+        // then
+        assertSameJson(writer.toString(), converter.convertToJson(initProperlyPropertiesMap(), "man", "insurance"));
+    }
+
+    @Test
+    public void writesTheSameJsonForCompiledDomainKeysFilterInManyConversions() {
+        // given
+        DomainKeysFilter domainKeysFilter = new DomainKeysFilter("man", "insurance");
+        Map<String, Object> properties = new HashMap<>(initProperlyPropertiesMap());
+        String expectedJson = converter.convertFromValuesAsObjectMap(properties, "man", "insurance");
+        // when
+        StringWriter writer = new StringWriter();
+        converter.convertFromValuesAsObjectMap(properties, writer, domainKeysFilter);
+        String json = converter.convertFromValuesAsObjectMap(properties, domainKeysFilter);
+        // then
+        assertSameJson(writer.toString(), expectedJson);
+        assertSameJson(json, expectedJson);
+    }
+
+    @Test
+    public void writesJsonFromFileToOutputStreamInUtf8() {
+        // given
+        File file = new File("src/test/resources/encoding/messages_zh_TW.properties");
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        // when
+        converter.convertPropertiesFromFileToJson(file, outputStream);
+        // then
+        String json = new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+        assertThat(json).contains("我接受使用條款");
+        assertSameJson(json, converter.convertPropertiesFromFileToJson(file));
+    }
+
+    @Test
+    public void writesEscapedTextsAndEmptyElements() {
+        // given
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("object.text", "quote\" backslash\\ new line\n tab\t");
+        properties.put("object.emptyObject", new HashMap<>());
+        properties.put("array[2]", 1);
+        StringWriter writer = new StringWriter();
+        // when
+        converter.convertFromValuesAsObjectMap(properties, writer);
+        // then
+        assertThat(writer.toString()).contains("\"text\": \"quote\\\" backslash\\\\ new line\\n tab\\t\"");
+        assertThat(writer.toString()).contains("\"emptyObject\": {}");
+        assertThat(writer.toString()).contains("\"array\": [\n    null,\n    null,\n    1\n  ]");
+        assertSameJson(writer.toString(), converter.convertFromValuesAsObjectMap(properties));
+    }
+
+    private static void assertSameJson(String json, String expectedJson) {
+        JsonParser jsonParser = new JsonParser();
+        assertThat(jsonParser.parse(json)).isEqualTo(jsonParser.parse(expectedJson));
+    }
+}
@@ -0,0 +1,215 @@
+package pl.jalokim.propertiestojson.util.exception
+
+import pl.jalokim.propertiestojson.object.AbstractJsonType
+import pl.jalokim.propertiestojson.object.ArrayJsonType
+import pl.jalokim.propertiestojson.object.BooleanJsonType
+import pl.jalokim.propertiestojson.object.LongJsonType
+import pl.jalokim.propertiestojson.object.ObjectJsonType
+import pl.jalokim.propertiestojson.object.StringJsonType
+import pl.jalokim.propertiestojson.path.PathMetadata
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.util.function.Supplier
+
+import static pl.jalokim.propertiestojson.object.JsonNullReferenceType.NULL_OBJECT
+import static pl.jalokim.propertiestojson.util.PropertyConflict.JsonNodeKind.ARRAY
+import static pl.jalokim.propertiestojson.util.PropertyConflict.JsonNodeKind.NULL
+import static pl.jalokim.propertiestojson.util.PropertyConflict.JsonNodeKind.OBJECT
+import static pl.jalokim.propertiestojson.util.PropertyConflict.JsonNodeKind.PRIMITIVE
+
+class CannotOverrideFieldExceptionTest extends Specification {
+
+    @Unroll
+    def "message with small current value #currentValue is the same like with text of value"() {
+        when:
+        def exception = new CannotOverrideFieldException("some.path", currentValue, "some.path.field")
+
+        then:
+        exception.getMessage() == new CannotOverrideFieldException("some.path", currentValue.toString(), "some.path.field").getMessage()
+        exception.getCurrentValueText() == currentValue.toString()
+
+        where:
+        currentValue << [new StringJsonType("text \"with\" quotes\n"), new LongJsonType(12L), BooleanJsonType.valueOf(true), NULL_OBJECT,
+                         objectWithFields(3), arrayWithElements(3), nestedObject()]
+    }
+
+    def "current value in message is cut to max length"() {
+        given:
+        def largeObject = objectWithFields(10000)
+
+        when:
+        def exception = new CannotOverrideFieldException("some.path", largeObject, "some.path.field")
+
+        then:
+        exception.getCurrentValueText() == largeObject.toString().substring(0, CannotOverrideFieldException.MAX_CURRENT_VALUE_LENGTH) + "..."
+        exception.getMessage() == new CannotOverrideFieldException("some.path", exception.getCurrentValueText(), "some.path.field").getMessage()
+    }
+
+    @Unroll
+    def "exception with only kind #currentValueKind of current value has current value #expectedText"() {
+        when:
+        def exception = CannotOverrideFieldException.withValueKind("some.path", currentValueKind, "some.path.field")
+
+        then:
+        exception.getCurrentValueKind() == currentValueKind
+        exception.getCurrentValueText() == expectedText
+        exception.getMessage() == new CannotOverrideFieldException("some.path", expectedText, "some.path.field").getMessage()
+
+        where:
+        currentValueKind || expectedText
+        OBJECT           || "{...}"
+        ARRAY            || "[...]"
+    }
+
+    def "value with exactly max length is not cut"() {
+        given:
+        def text = new StringJsonType("x" * (CannotOverrideFieldException.MAX_CURRENT_VALUE_LENGTH - 2))
+
+        when:
+        def exception = new CannotOverrideFieldException("some.path", text, "some.path.field")
+
+        then:
+        exception.getCurrentValueText() == text.toString()
+    }
+
+    def "exception keeps copy of current value which is not changed later"() {
+        given:
+        def currentValue = objectWithFields(2)
+        def expectedMessage = new CannotOverrideFieldException("some.path", currentValue.toString(), "some.path.field").getMessage()
+
+        when:
+        def exception = new CannotOverrideFieldException("some.path", currentValue, "some.path.field")
+        currentValue.addField("laterField", new StringJsonType("laterValue"), null)
+
+        then:
+        exception.getMessage() == expectedMessage
+        exception.getCurrentPath() == "some.path"
+        exception.getCurrentValueKind() == OBJECT
+    }
+
+    @Unroll
+    def "kind of current value #currentValue is #expectedKind"() {
+        expect:
+        new CannotOverrideFieldException("some.path", currentValue, "some.path.field").getCurrentValueKind() == expectedKind
+
+        where:
+        currentValue                      | expectedKind
+        objectWithFields(1)               | OBJECT
+        arrayWithElements(1)              | ARRAY
+        new LongJsonType(12L)             | PRIMITIVE
+        new StringJsonType("text")        | PRIMITIVE
+        NULL_OBJECT                       | NULL
+    }
+
+    def "current value with invalid json of own json type is cut before invalid json"() {
+        given:
+        def currentValue = objectWithFields(1)
+        currentValue.addField("own", new AbstractJsonType() {
+            @Override
+            String toStringJson() {
+                "{invalid"
+            }
+        }, null)
+
+        when:
+        def exception = new CannotOverrideFieldException("some.path", currentValue, "some.path.field")
+
+        then:
+        exception.getCurrentValueText() == '{"field0":"value0","own":...'
+    }
+
+    def "exceptions created without details only inside of given action"() {
+        when:
+        def withoutDetails = ConflictExceptions.withoutDetails({
+            ConflictExceptions.withoutDetails({ null } as Supplier)
+            new CannotOverrideFieldException("path", objectWithFields(2), "key")
+        } as Supplier)
+        def withDetails = new CannotOverrideFieldException("path", objectWithFields(2), "key")
+
+        then:
+        withoutDetails.getStackTrace().length == 0
+        withoutDetails.getCurrentValueText() == "{...}"
+        withoutDetails.getCurrentValueKind() == OBJECT
+        withoutDetails.getCurrentPath() == "path"
+        withoutDetails.getPropertyKey() == "key"
+        withDetails.getStackTrace().length > 0
+        withDetails.getCurrentValueText() == objectWithFields(2).toString()
+    }
+
+    def "current value is not written as json when exception is created without details"() {
+        given:
+        def currentValue = new AbstractJsonType() {
+            @Override
+            String toStringJson() {
+                throw new IllegalStateException("value should not be written")
+            }
+        }
+
+        when:
+        def exception = ConflictExceptions.withoutDetails({
+            new CannotOverrideFieldException("path", currentValue, "key")
+        } as Supplier)
+
+        then:
+        exception.getCurrentValueText() == "..."
+        exception.getCurrentValueKind() == PRIMITIVE
+    }
+
+    def "merge exception created without details has neither stack trace nor texts of values"() {
+        given:
+        def pathMetadata = new PathMetadata("some.array[0]")
+        pathMetadata.setOriginalFieldName("array")
+        pathMetadata.setRawValue("[1,2,3]")
+
+        when:
+        def exception = ConflictExceptions.withoutDetails({
+            new MergeObjectException(objectWithFields(2), arrayWithElements(2), pathMetadata)
+        } as Supplier)
+
+        then:
+        exception.getStackTrace().length == 0
+        exception.getOldValueKind() == OBJECT
+        exception.getOldValueText() == "{...}"
+        exception.getNewValueText() == "[...]"
+        exception.getCurrentPath() == "array"
+    }
+
+    def "serialized exception keeps message"() {
+        given:
+        def exception = new CannotOverrideFieldException("some.path", objectWithFields(2), "some.path.field")
+        def expectedMessage = new CannotOverrideFieldException("some.path", objectWithFields(2).toString(), "some.path.field").getMessage()
+        def bytes = new ByteArrayOutputStream()
+
+        when:
+        new ObjectOutputStream(bytes).writeObject(exception)
+        def deserialized = (CannotOverrideFieldException) new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())).readObject()
+
+        then:
+        deserialized.getMessage() == expectedMessage
+        deserialized.getCurrentValueKind() == OBJECT
+    }
+
+    private static ObjectJsonType objectWithFields(int fieldsCount) {
+        def objectJsonType = new ObjectJsonType()
+        for (int index = 0; index < fieldsCount; index++) {
+            objectJsonType.addField("field" + index, new StringJsonType("value" + index), null)
+        }
+        objectJsonType
+    }
+
+    private static ArrayJsonType arrayWithElements(int elementsCount) {
+        def arrayJsonType = new ArrayJsonType()
+        for (int index = 0; index < elementsCount; index++) {
+            arrayJsonType.addElement(index, new LongJsonType(index), null)
+        }
+        arrayJsonType
+    }
+
+    private static ObjectJsonType nestedObject() {
+        def objectJsonType = objectWithFields(2)
+        objectJsonType.addField("array", arrayWithElements(2), null)
+        objectJsonType.addField("object", objectWithFields(1), null)
+        objectJsonType
+    }
+}
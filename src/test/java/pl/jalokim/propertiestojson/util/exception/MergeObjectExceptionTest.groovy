@@ -0,0 +1,102 @@
+package pl.jalokim.propertiestojson.util.exception
+
+import pl.jalokim.propertiestojson.object.ArrayJsonType
+import pl.jalokim.propertiestojson.object.LongJsonType
+import pl.jalokim.propertiestojson.object.ObjectJsonType
+import pl.jalokim.propertiestojson.object.StringJsonType
+import pl.jalokim.propertiestojson.path.PathMetadata
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import static pl.jalokim.propertiestojson.util.PropertyConflict.JsonNodeKind.ARRAY
+import static pl.jalokim.propertiestojson.util.PropertyConflict.JsonNodeKind.NULL
+import static pl.jalokim.propertiestojson.util.PropertyConflict.JsonNodeKind.OBJECT
+import static pl.jalokim.propertiestojson.util.PropertyConflict.JsonNodeKind.PRIMITIVE
+
+class MergeObjectExceptionTest extends Specification {
+
+    def "exception keeps copy of values which are not changed later"() {
+        given:
+        def oldValue = objectWithFields(2)
+        def newValue = arrayWithElements(2)
+        def pathMetadata = pathMetadata()
+        def expectedMessage = new MergeObjectException(oldValue.toString(), newValue.toString(), pathMetadata).getMessage()
+
+        when:
+        def exception = new MergeObjectException(oldValue, newValue, pathMetadata)
+        oldValue.addField("laterField", new StringJsonType("laterValue"), null)
+        newValue.addElement(5, new LongJsonType(5L), null)
+
+        then:
+        exception.getMessage() == expectedMessage
+        exception.getCurrentPath() == "some.array"
+        exception.getOldValueKind() == OBJECT
+        exception.getPropertyKey() == "some.array[0]"
+    }
+
+    def "values in message are cut to max length"() {
+        given:
+        def oldValue = objectWithFields(10000)
+        def newValue = arrayWithElements(10000)
+
+        when:
+        def exception = new MergeObjectException(oldValue, newValue, pathMetadata())
+
+        then:
+        exception.getOldValueText() == oldValue.toString().substring(0, CannotOverrideFieldException.MAX_CURRENT_VALUE_LENGTH) + "..."
+        exception.getNewValueText() == newValue.toString().substring(0, CannotOverrideFieldException.MAX_CURRENT_VALUE_LENGTH) + "..."
+    }
+
+    @Unroll
+    def "kind of old value given as text #oldValueText is #expectedKind"() {
+        expect:
+        new MergeObjectException(oldValueText, "[1,2,3]", pathMetadata()).getOldValueKind() == expectedKind
+
+        where:
+        oldValueText        || expectedKind
+        '{"field":"value"}' || OBJECT
+        "[1]"               || ARRAY
+        "null"              || NULL
+        '"text"'            || PRIMITIVE
+    }
+
+    def "serialized exception keeps message"() {
+        given:
+        def exception = new MergeObjectException(objectWithFields(2), arrayWithElements(2), pathMetadata())
+        def bytes = new ByteArrayOutputStream()
+
+        when:
+        new ObjectOutputStream(bytes).writeObject(exception)
+        def deserialized = (MergeObjectException) new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())).readObject()
+
+        then:
+        deserialized.getMessage() == exception.getMessage()
+        deserialized.getOldValueKind() == OBJECT
+    }
+
+    private static PathMetadata pathMetadata() {
+        def parent = new PathMetadata("some.array[0]")
+        parent.setOriginalFieldName("some")
+        def child = new PathMetadata("some.array[0]")
+        child.setOriginalFieldName("array")
+        child.setParent(parent)
+        child.setRawValue("[1,2,3]")
+        child
+    }
+
+    private static ObjectJsonType objectWithFields(int fieldsCount) {
+        def objectJsonType = new ObjectJsonType()
+        for (int index = 0; index < fieldsCount; index++) {
+            objectJsonType.addField("field" + index, new StringJsonType("value" + index), null)
+        }
+        objectJsonType
+    }
+
+    private static ArrayJsonType arrayWithElements(int elementsCount) {
+        def arrayJsonType = new ArrayJsonType()
+        for (int index = 0; index < elementsCount; index++) {
+            arrayJsonType.addElement(index, new LongJsonType(index), null)
+        }
+        arrayJsonType
+    }
+}